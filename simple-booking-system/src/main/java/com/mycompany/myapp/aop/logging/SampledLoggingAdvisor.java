@@ -0,0 +1,194 @@
+package com.mycompany.myapp.aop.logging;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Production counterpart of the {@link LoggingAspect}, for the same repositories, services and Web REST endpoints.
+ * <p>
+ * Every call is timed by a {@value #METER_NAME} timer tagged with its class, method and outcome, and only one call in
+ * {@code sample-rate} is logged on entry and exit, when the logger of its class is at the debug level. The logger and the name
+ * of each method are resolved once, when its bean is proxied, so that a call which is not sampled only costs a map lookup, a
+ * random number and the timer.
+ * <p>
+ * Unlike the {@link LoggingAspect}, the arguments and results are never logged, as they include the passwords and reset keys
+ * handled by the services: only the name of the method and the duration of the call are.
+ */
+public class SampledLoggingAdvisor extends StaticMethodMatcherPointcutAdvisor implements MethodInterceptor {
+
+    public static final String METER_NAME = "method.calls";
+
+    private static final List<Class<? extends Annotation>> STEREOTYPES = List.of(
+        Repository.class,
+        Service.class,
+        RestController.class
+    );
+
+    private final List<String> packagePrefixes;
+
+    private final int sampleRate;
+
+    private final boolean histogram;
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    private final Map<Class<?>, Map<Method, MethodLog>> methodLogs = new ConcurrentHashMap<>();
+
+    /**
+     * @param packageNames the packages of the logged beans, with their sub-packages.
+     * @param properties the sampling and histogram settings.
+     * @param meterRegistry the registry of the timers, resolved on the first call so that it is not created with the proxies.
+     */
+    public SampledLoggingAdvisor(
+        List<String> packageNames,
+        ApplicationProperties.MethodLogging properties,
+        Supplier<MeterRegistry> meterRegistry
+    ) {
+        this.packagePrefixes = packageNames.stream().map(packageName -> packageName + ".").toList();
+        this.sampleRate = properties.getSampleRate();
+        this.histogram = properties.isHistogram();
+        this.meterRegistry = meterRegistry;
+        setAdvice(this);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        if (ReflectionUtils.isObjectMethod(method)) {
+            return false;
+        }
+        Class<?> loggedClass = loggedClass(targetClass);
+        if (loggedClass == null) {
+            return false;
+        }
+        methodLogs
+            .computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, key -> new MethodLog(loggedClass, method));
+        return true;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodLog methodLog = methodLog(invocation);
+        Logger log = sampled() && methodLog.logger.isDebugEnabled() ? methodLog.logger : null;
+        if (log != null) {
+            log.debug("Enter: {}()", methodLog.methodName);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } catch (IllegalArgumentException e) {
+            methodLog.logger.error("Illegal argument in {}()", methodLog.methodName);
+            throw e;
+        } finally {
+            long duration = System.nanoTime() - start;
+            methodLog.timer(failed).record(duration, TimeUnit.NANOSECONDS);
+            if (log != null) {
+                log.debug("Exit: {}() in {} ms", methodLog.methodName, TimeUnit.NANOSECONDS.toMillis(duration));
+            }
+        }
+    }
+
+    private MethodLog methodLog(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? target.getClass() : invocation.getMethod().getDeclaringClass();
+        Map<Method, MethodLog> classLogs = methodLogs.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        MethodLog methodLog = classLogs.get(invocation.getMethod());
+        if (methodLog == null) {
+            // a method resolved differently than when its bean was proxied, e.g. a bridge method
+            Class<?> loggedClass = loggedClass(targetClass);
+            methodLog = classLogs.computeIfAbsent(invocation.getMethod(), method ->
+                new MethodLog(loggedClass != null ? loggedClass : method.getDeclaringClass(), method)
+            );
+        }
+        return methodLog;
+    }
+
+    private boolean sampled() {
+        return sampleRate == 1 || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+    }
+
+    /**
+     * The class, or the interface of a repository proxy, which is a stereotype of the logged packages.
+     */
+    private Class<?> loggedClass(Class<?> targetClass) {
+        Class<?> userClass = ClassUtils.getUserClass(targetClass);
+        if (isLogged(userClass)) {
+            return userClass;
+        }
+        return ClassUtils.getAllInterfacesForClassAsSet(userClass).stream().filter(this::isLogged).findFirst().orElse(null);
+    }
+
+    private boolean isLogged(Class<?> type) {
+        return (
+            packagePrefixes.stream().anyMatch(type.getName()::startsWith) &&
+            STEREOTYPES.stream().anyMatch(stereotype -> AnnotatedElementUtils.hasAnnotation(type, stereotype))
+        );
+    }
+
+    /**
+     * The logger and the timers of a method.
+     */
+    private final class MethodLog {
+
+        private final Logger logger;
+
+        private final String className;
+
+        private final String methodName;
+
+        private volatile Timer successTimer;
+
+        private volatile Timer errorTimer;
+
+        private MethodLog(Class<?> loggedClass, Method method) {
+            this.logger = LoggerFactory.getLogger(loggedClass);
+            this.className = loggedClass.getSimpleName();
+            this.methodName = method.getName();
+        }
+
+        /**
+         * The timer of an outcome, registered on its first call so that the methods never called have none.
+         */
+        private Timer timer(boolean failed) {
+            Timer timer = failed ? errorTimer : successTimer;
+            if (timer == null) {
+                timer = Timer.builder(METER_NAME)
+                    .description("Duration of the calls of the repositories, services and REST endpoints")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", failed ? "error" : "success")
+                    .publishPercentileHistogram(histogram)
+                    .register(meterRegistry.get());
+                if (failed) {
+                    errorTimer = timer;
+                } else {
+                    successTimer = timer;
+                }
+            }
+            return timer;
+        }
+    }
+}
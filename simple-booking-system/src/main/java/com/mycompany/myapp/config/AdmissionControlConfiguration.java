@@ -0,0 +1,27 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.web.filter.AdmissionControlFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Admission control of the appointment and series writes, see {@link AdmissionControlFilter}. The filter is added to the security
+ * filter chain by {@link SecurityConfiguration}, so that it only counts authorized requests, and not to the servlet filters.
+ */
+@Configuration
+public class AdmissionControlConfiguration {
+
+    @Bean
+    public AdmissionControlFilter admissionControlFilter(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        return new AdmissionControlFilter(applicationProperties.getAdmissionControl(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilterRegistration(AdmissionControlFilter filter) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
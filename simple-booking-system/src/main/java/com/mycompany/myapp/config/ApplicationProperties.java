@@ -1,5 +1,6 @@
 package com.mycompany.myapp.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +14,66 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Datasource datasource = new Datasource();
+
+    private final AdmissionControl admissionControl = new AdmissionControl();
+
+    private final SlotHolds slotHolds = new SlotHolds();
+
+    private final LoginRateLimit loginRateLimit = new LoginRateLimit();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final KnownUsersFilter knownUsersFilter = new KnownUsersFilter();
+
+    private final MethodLogging methodLogging = new MethodLogging();
+
+    private final AsyncLogging asyncLogging = new AsyncLogging();
+
+    private final AppointmentEvents appointmentEvents = new AppointmentEvents();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Datasource getDatasource() {
+        return datasource;
+    }
+
+    public AdmissionControl getAdmissionControl() {
+        return admissionControl;
+    }
+
+    public SlotHolds getSlotHolds() {
+        return slotHolds;
+    }
+
+    public LoginRateLimit getLoginRateLimit() {
+        return loginRateLimit;
+    }
+
+    public PasswordHashing getPasswordHashing() {
+        return passwordHashing;
+    }
+
+    public KnownUsersFilter getKnownUsersFilter() {
+        return knownUsersFilter;
+    }
+
+    public MethodLogging getMethodLogging() {
+        return methodLogging;
+    }
+
+    public AsyncLogging getAsyncLogging() {
+        return asyncLogging;
+    }
+
+    public AppointmentEvents getAppointmentEvents() {
+        return appointmentEvents;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +88,553 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Datasource {
+
+        private final Replica replica = new Replica();
+
+        private final Instrumentation instrumentation = new Instrumentation();
+
+        public Replica getReplica() {
+            return replica;
+        }
+
+        public Instrumentation getInstrumentation() {
+            return instrumentation;
+        }
+
+        /**
+         * Read replica receiving the read-only transactions, the primary {@code spring.datasource} receiving all others.
+         */
+        public static class Replica {
+
+            private boolean enabled = false;
+
+            private String url;
+
+            private String username;
+
+            private String password;
+
+            private Integer maximumPoolSize;
+
+            /**
+             * How long the read-only transactions of a user keep going to the primary after one of their writes,
+             * so that they read their own writes despite the replication lag.
+             */
+            private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+
+            public Integer getMaximumPoolSize() {
+                return maximumPoolSize;
+            }
+
+            public void setMaximumPoolSize(Integer maximumPoolSize) {
+                this.maximumPoolSize = maximumPoolSize;
+            }
+
+            public Duration getReadYourWritesWindow() {
+                return readYourWritesWindow;
+            }
+
+            public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+                this.readYourWritesWindow = readYourWritesWindow;
+            }
+        }
+
+        /**
+         * Export of the Hibernate statistics and of the executed JDBC statements to Micrometer.
+         */
+        public static class Instrumentation {
+
+            private boolean enabled = false;
+
+            /**
+             * Statements taking longer than this are logged, with the types of their bind parameters.
+             */
+            private Duration slowStatementThreshold = Duration.ofMillis(200);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Duration getSlowStatementThreshold() {
+                return slowStatementThreshold;
+            }
+
+            public void setSlowStatementThreshold(Duration slowStatementThreshold) {
+                this.slowStatementThreshold = slowStatementThreshold;
+            }
+        }
+    }
+
+    /**
+     * Adaptive limit on the concurrent appointment and series writes, see
+     * {@link com.mycompany.myapp.web.filter.AdmissionControlFilter}.
+     */
+    public static class AdmissionControl {
+
+        private boolean enabled = true;
+
+        private int initialLimit = 4;
+
+        private int minLimit = 1;
+
+        /**
+         * Keep it below the size of the connection pool, so that the reads always find a connection.
+         */
+        private int maxLimit = 8;
+
+        /**
+         * Writes taking longer than this shrink the limit, the others grow it while it is reached.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        private double backoffRatio = 0.9;
+
+        /**
+         * How long a write waits for a place while the limit is reached, before it is refused.
+         */
+        private Duration maxWait = Duration.ofMillis(500);
+
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    /**
+     * Holds of the slots during checkout, see {@link com.mycompany.myapp.service.SlotHoldService}.
+     */
+    public static class SlotHolds {
+
+        /**
+         * Number of holds a user may have at once, so that one user cannot hold every slot of a service.
+         */
+        private int maxPerUser = 5;
+
+        public int getMaxPerUser() {
+            return maxPerUser;
+        }
+
+        public void setMaxPerUser(int maxPerUser) {
+            this.maxPerUser = maxPerUser;
+        }
+    }
+
+    /**
+     * Limits on the login attempts, see {@link com.mycompany.myapp.security.LoginRateLimiter}.
+     */
+    public static class LoginRateLimit {
+
+        private boolean enabled = true;
+
+        /**
+         * Where the attempts are counted: {@code memory} for each instance on its own, {@code database} for the whole cluster.
+         */
+        private Store store = Store.MEMORY;
+
+        private int ipAttempts = 20;
+
+        private Duration ipWindow = Duration.ofMinutes(1);
+
+        private int loginFailures = 5;
+
+        private Duration loginWindow = Duration.ofMinutes(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Store getStore() {
+            return store;
+        }
+
+        public void setStore(Store store) {
+            this.store = store;
+        }
+
+        public int getIpAttempts() {
+            return ipAttempts;
+        }
+
+        public void setIpAttempts(int ipAttempts) {
+            this.ipAttempts = ipAttempts;
+        }
+
+        public Duration getIpWindow() {
+            return ipWindow;
+        }
+
+        public void setIpWindow(Duration ipWindow) {
+            this.ipWindow = ipWindow;
+        }
+
+        public int getLoginFailures() {
+            return loginFailures;
+        }
+
+        public void setLoginFailures(int loginFailures) {
+            this.loginFailures = loginFailures;
+        }
+
+        public Duration getLoginWindow() {
+            return loginWindow;
+        }
+
+        public void setLoginWindow(Duration loginWindow) {
+            this.loginWindow = loginWindow;
+        }
+
+        public enum Store {
+            MEMORY,
+            DATABASE,
+        }
+    }
+
+    /**
+     * Executor hashing the passwords, see {@link com.mycompany.myapp.security.BulkheadPasswordEncoder}.
+     */
+    public static class PasswordHashing {
+
+        /**
+         * Share of the cores which may hash passwords at once, at least one thread hashing them.
+         */
+        private double coreShare = 0.5;
+
+        private int queueCapacity = 100;
+
+        /**
+         * Hashes which waited longer than this in the queue are dropped without being computed.
+         */
+        private Duration queueTimeout = Duration.ofSeconds(2);
+
+        /**
+         * How long a request waits for its hash, from its submission to the end of the hashing.
+         */
+        private Duration deadline = Duration.ofSeconds(5);
+
+        public double getCoreShare() {
+            return coreShare;
+        }
+
+        public void setCoreShare(double coreShare) {
+            this.coreShare = coreShare;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getQueueTimeout() {
+            return queueTimeout;
+        }
+
+        public void setQueueTimeout(Duration queueTimeout) {
+            this.queueTimeout = queueTimeout;
+        }
+
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        public void setDeadline(Duration deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Filter of the logins and emails of the users, see {@link com.mycompany.myapp.security.KnownUsersFilter}.
+     */
+    public static class KnownUsersFilter {
+
+        /**
+         * Only for a single instance: the users created by another instance are refused until the next rebuild.
+         */
+        private boolean enabled = false;
+
+        private double falsePositiveProbability = 0.01;
+
+        private Duration rebuildInterval = Duration.ofHours(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getFalsePositiveProbability() {
+            return falsePositiveProbability;
+        }
+
+        public void setFalsePositiveProbability(double falsePositiveProbability) {
+            this.falsePositiveProbability = falsePositiveProbability;
+        }
+
+        public Duration getRebuildInterval() {
+            return rebuildInterval;
+        }
+
+        public void setRebuildInterval(Duration rebuildInterval) {
+            this.rebuildInterval = rebuildInterval;
+        }
+    }
+
+    /**
+     * Timing and sampled logging of the repositories, services and REST controllers outside of the "dev" profile, see
+     * {@link com.mycompany.myapp.aop.logging.SampledLoggingAdvisor}.
+     */
+    public static class MethodLogging {
+
+        private boolean enabled = false;
+
+        /**
+         * One call in this many is logged on entry and exit, when the logger of its class is at the debug level; 0 to log none.
+         */
+        private int sampleRate = 100;
+
+        /**
+         * Whether the method timers publish histogram buckets, for percentiles aggregated across instances. Off by default: every
+         * timer of every method would publish its buckets, whatever the percentiles-histogram set for all the meters.
+         */
+        private boolean histogram = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public boolean isHistogram() {
+            return histogram;
+        }
+
+        public void setHistogram(boolean histogram) {
+            this.histogram = histogram;
+        }
+    }
+
+    /**
+     * Console logging on a worker thread, dropping the events which do not fit in its queue, see {@link AsyncLogAppender}.
+     */
+    public static class AsyncLogging {
+
+        private boolean enabled = false;
+
+        private int queueSize = 8192;
+
+        /**
+         * How long the events still queued are written for when the application stops.
+         */
+        private Duration maxFlushTime = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public Duration getMaxFlushTime() {
+            return maxFlushTime;
+        }
+
+        public void setMaxFlushTime(Duration maxFlushTime) {
+            this.maxFlushTime = maxFlushTime;
+        }
+    }
+
+    /**
+     * Server-sent events of the appointment changes, see {@link com.mycompany.myapp.service.AppointmentEventBus}.
+     */
+    public static class AppointmentEvents {
+
+        /**
+         * Number of the last events kept for the clients resuming their stream with a {@code Last-Event-ID}.
+         */
+        private int historySize = 1000;
+
+        /**
+         * Number of events waiting to be sent to a client, beyond which the client is disconnected.
+         */
+        private int subscriberQueueSize = 256;
+
+        /**
+         * Number of threads sending the events to the clients.
+         */
+        private int dispatchThreads = 2;
+
+        private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+        /**
+         * How long a stream stays open, after which the client reconnects.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        public int getHistorySize() {
+            return historySize;
+        }
+
+        public void setHistorySize(int historySize) {
+            this.historySize = historySize;
+        }
+
+        public int getSubscriberQueueSize() {
+            return subscriberQueueSize;
+        }
+
+        public void setSubscriberQueueSize(int subscriberQueueSize) {
+            this.subscriberQueueSize = subscriberQueueSize;
+        }
+
+        public int getDispatchThreads() {
+            return dispatchThreads;
+        }
+
+        public void setDispatchThreads(int dispatchThreads) {
+            this.dispatchThreads = dispatchThreads;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,50 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.service.AppointmentChangeService;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Hibernate listener recording the changes of the appointments in the {@link AppointmentChangeService change log} whenever
+ * they are inserted, updated or deleted, whichever service writes them.
+ */
+final class AppointmentChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final AppointmentChangeService appointmentChangeService;
+
+    AppointmentChangeListener(AppointmentChangeService appointmentChangeService) {
+        this.appointmentChangeService = appointmentChangeService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getEntity(), false);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getEntity(), true);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(Object entity, boolean deleted) {
+        if (entity instanceof Appointment appointment) {
+            appointmentChangeService.record(appointment.getId(), deleted);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appender handing the events over to its appenders on a single worker thread, so that logging never waits for the console
+ * or a socket.
+ * <p>
+ * The events wait in a queue of a fixed capacity, allocated once. When it is full an event below {@link Level#WARN} is dropped
+ * rather than blocking the caller, and counted by level, see {@link #getDroppedCount(Level)}, while a warning or an error waits
+ * for a place: they are never lost for the sake of latency. The worker takes the waiting events in batches, and they are
+ * flushed for up to {@code maxFlushTime} when the appender stops.
+ */
+public class AsyncLogAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    private static final Level[] LEVELS = { Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    private final LongAdder[] dropped = new LongAdder[LEVELS.length];
+
+    private int queueSize = 8192;
+
+    private Duration maxFlushTime = Duration.ofSeconds(1);
+
+    private ArrayBlockingQueue<ILoggingEvent> queue;
+
+    private Thread worker;
+
+    public AsyncLogAppender() {
+        for (int i = 0; i < dropped.length; i++) {
+            dropped[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queue size " + queueSize);
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        worker = new Thread(this::work, "async-log-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        worker.interrupt();
+        try {
+            worker.join(maxFlushTime.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Dropped " + queue.size() + " events not flushed within " + maxFlushTime);
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // the MDC, the thread name and the message are captured on the calling thread
+        event.prepareForDeferredProcessing();
+        if (!queue.offer(event) && !(event.getLevel().isGreaterOrEqual(Level.WARN) && offerWhileStarted(event))) {
+            dropped[levelIndex(event.getLevel())].increment();
+        }
+    }
+
+    /**
+     * Wait for a place in the queue as long as the appender runs, so that a caller is not blocked forever once it stops.
+     */
+    private boolean offerWhileStarted(ILoggingEvent event) {
+        try {
+            while (isStarted()) {
+                if (queue.offer(event, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void work() {
+        List<ILoggingEvent> batch = new ArrayList<>(Math.min(queueSize, 256));
+        try {
+            while (isStarted()) {
+                batch.add(queue.take());
+                queue.drainTo(batch, 255);
+                appendAll(batch);
+            }
+        } catch (InterruptedException e) {
+            // stopping: flush the events still waiting, then leave
+        }
+        queue.drainTo(batch);
+        appendAll(batch);
+    }
+
+    private void appendAll(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+    }
+
+    private static int levelIndex(Level level) {
+        for (int i = LEVELS.length - 1; i > 0; i--) {
+            if (level.isGreaterOrEqual(LEVELS[i])) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The number of events of a level dropped because the queue was full.
+     *
+     * @param level the level.
+     * @return the number of dropped events.
+     */
+    public long getDroppedCount(Level level) {
+        return dropped[levelIndex(level)].sum();
+    }
+
+    /**
+     * The number of events waiting for the worker.
+     *
+     * @return the number of waiting events, 0 if the appender is not started.
+     */
+    public int getQueuedCount() {
+        ArrayBlockingQueue<ILoggingEvent> current = queue;
+        return current == null ? 0 : current.size();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public Duration getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(Duration maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -16,6 +16,9 @@ import org.springframework.boot.ansi.AnsiStyle;
 /**
  * Log filter to prevent attackers from forging log entries by submitting input containing CRLF characters.
  * CRLF characters are replaced with a red colored _ character.
+ * <p>
+ * Messages are scanned once without a regular expression, and returned as is when they have nothing to replace, which is
+ * the common case: only a message with a CRLF character is copied.
  *
  * @see <a href="https://owasp.org/www-community/attacks/Log_Injection">Log Forging Description</a>
  * @see <a href="https://github.com/jhipster/generator-jhipster/issues/14949">JHipster issue</a>
@@ -43,15 +46,61 @@ public class CRLFLogConverter extends CompositeConverter<ILoggingEvent> {
         ELEMENTS = Collections.unmodifiableMap(ansiElements);
     }
 
+    private String replacement;
+
+    @Override
+    public void start() {
+        replacement = replacement();
+        super.start();
+    }
+
     @Override
     protected String transform(ILoggingEvent event, String in) {
-        AnsiElement element = ELEMENTS.get(getFirstOption());
         List<Marker> markers = event.getMarkerList();
         if ((markers != null && !markers.isEmpty() && markers.get(0).contains(CRLF_SAFE_MARKER)) || isLoggerSafe(event)) {
             return in;
         }
-        String replacement = element == null ? "_" : toAnsiString("_", element);
-        return in.replaceAll("[\n\r\t]", replacement);
+        if (replacement == null) {
+            replacement = replacement();
+        }
+        return replaceCRLF(in, replacement);
+    }
+
+    /**
+     * Replace the CR, LF and tab characters of a string.
+     *
+     * @param in the string.
+     * @param replacement the replacement of each character.
+     * @return the string itself if it has none of these characters, else a copy with them replaced.
+     */
+    public static String replaceCRLF(String in, String replacement) {
+        int length = in.length();
+        int i = 0;
+        while (i < length && !isCRLF(in.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return in;
+        }
+        StringBuilder out = new StringBuilder(length + 16 * replacement.length()).append(in, 0, i);
+        for (; i < length; i++) {
+            char c = in.charAt(i);
+            if (isCRLF(c)) {
+                out.append(replacement);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isCRLF(char c) {
+        return c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private String replacement() {
+        AnsiElement element = ELEMENTS.get(getFirstOption());
+        return element == null ? "_" : toAnsiString("_", element);
     }
 
     protected boolean isLoggerSafe(ILoggingEvent event) {
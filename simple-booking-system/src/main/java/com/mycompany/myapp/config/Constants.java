@@ -11,5 +11,11 @@ public final class Constants {
     public static final String SYSTEM = "system";
     public static final String DEFAULT_LANGUAGE = "en";
 
+    // Pooled identifier generation, the allocation size must match the 20261018000200_added_id_generator changelog
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+    public static final String ID_GENERATOR_NAME_COLUMN = "sequence_name";
+    public static final String ID_GENERATOR_VALUE_COLUMN = "next_val";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     private Constants() {}
 }
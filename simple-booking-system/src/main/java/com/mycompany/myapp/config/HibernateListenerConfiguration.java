@@ -0,0 +1,54 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.security.KnownUsersFilter;
+import com.mycompany.myapp.service.AppointmentChangeService;
+import com.mycompany.myapp.service.ServiceCatalogue;
+import com.mycompany.myapp.service.ServiceDailyStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the Hibernate listeners of the application, which see the entities whenever Hibernate writes them, whichever
+ * service or repository does.
+ */
+@Configuration
+public class HibernateListenerConfiguration {
+
+    public HibernateListenerConfiguration(
+        EntityManagerFactory entityManagerFactory,
+        AppointmentChangeService appointmentChangeService,
+        KnownUsersFilter knownUsersFilter,
+        ServiceCatalogue serviceCatalogue,
+        ServiceDailyStatsService serviceDailyStatsService
+    ) {
+        EventListenerRegistry registry = entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class);
+
+        AppointmentChangeListener appointmentChangeListener = new AppointmentChangeListener(appointmentChangeService);
+        registry.appendListeners(EventType.POST_INSERT, appointmentChangeListener);
+        registry.appendListeners(EventType.POST_UPDATE, appointmentChangeListener);
+        registry.appendListeners(EventType.POST_DELETE, appointmentChangeListener);
+
+        KnownUsersListener knownUsersListener = new KnownUsersListener(knownUsersFilter);
+        registry.appendListeners(EventType.PERSIST, knownUsersListener);
+        registry.appendListeners(EventType.POST_INSERT, knownUsersListener);
+        registry.appendListeners(EventType.POST_UPDATE, knownUsersListener);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, knownUsersListener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, knownUsersListener);
+
+        ServiceCatalogueEvictionListener serviceCatalogueEvictionListener = new ServiceCatalogueEvictionListener(serviceCatalogue);
+        registry.appendListeners(EventType.POST_INSERT, serviceCatalogueEvictionListener);
+        registry.appendListeners(EventType.POST_UPDATE, serviceCatalogueEvictionListener);
+        registry.appendListeners(EventType.POST_DELETE, serviceCatalogueEvictionListener);
+
+        ServiceDailyStatsListener serviceDailyStatsListener = new ServiceDailyStatsListener(serviceDailyStatsService);
+        registry.appendListeners(EventType.POST_INSERT, serviceDailyStatsListener);
+        registry.appendListeners(EventType.POST_UPDATE, serviceDailyStatsListener);
+        registry.appendListeners(EventType.POST_DELETE, serviceDailyStatsListener);
+    }
+}
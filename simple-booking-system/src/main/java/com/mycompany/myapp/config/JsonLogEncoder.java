@@ -0,0 +1,104 @@
+package com.mycompany.myapp.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Encoder writing each event as a line of JSON, with the fields of the JSON console appender of JHipster and the custom fields
+ * of the application. Control characters are escaped, so that a message cannot forge a log line.
+ * <p>
+ * The event is written in a buffer kept from one event to the next, so that encoding only allocates the bytes of the line.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final StringBuilder buffer = new StringBuilder(1024);
+
+    private Map<String, String> customFields = Map.of();
+
+    public void setCustomFields(Map<String, String> customFields) {
+        this.customFields = Map.copyOf(customFields);
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public synchronized byte[] encode(ILoggingEvent event) {
+        StringBuilder json = buffer;
+        json.setLength(0);
+        json.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(event.getInstant(), json);
+        json.append('"');
+        field(json, "level", event.getLevel().toString());
+        field(json, "logger_name", event.getLoggerName());
+        field(json, "thread_name", event.getThreadName());
+        field(json, "message", event.getFormattedMessage());
+        IThrowableProxy throwableProxy = event.getThrowableProxy();
+        if (throwableProxy != null) {
+            field(json, "stack_trace", ThrowableProxyUtil.asString(throwableProxy));
+        }
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            mdc.forEach((key, value) -> field(json, key, value));
+        }
+        customFields.forEach((key, value) -> field(json, key, value));
+        json.append("}\n");
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        if (json.capacity() > 64 * 1024) {
+            // do not keep the buffer of a huge stack trace
+            json.setLength(0);
+            json.trimToSize();
+            json.ensureCapacity(1024);
+        }
+        return bytes;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+
+    private static void field(StringBuilder json, String name, String value) {
+        json.append(",\"");
+        escape(json, name);
+        json.append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        escape(json, value);
+        json.append('"');
+    }
+
+    static void escape(StringBuilder json, String value) {
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
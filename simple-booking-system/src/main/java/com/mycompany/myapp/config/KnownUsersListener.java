@@ -0,0 +1,56 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.security.KnownUsersFilter;
+import org.hibernate.event.spi.PersistContext;
+import org.hibernate.event.spi.PersistEvent;
+import org.hibernate.event.spi.PersistEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Hibernate listener adding the users to the {@link KnownUsersFilter} whenever they are persisted, inserted or updated, and
+ * again once their transaction commits.
+ */
+final class KnownUsersListener implements PersistEventListener, PostInsertEventListener, PostUpdateEventListener {
+
+    private final KnownUsersFilter knownUsersFilter;
+
+    KnownUsersListener(KnownUsersFilter knownUsersFilter) {
+        this.knownUsersFilter = knownUsersFilter;
+    }
+
+    @Override
+    public void onPersist(PersistEvent event) {
+        add(event.getObject());
+    }
+
+    @Override
+    public void onPersist(PersistEvent event, PersistContext createdAlready) {
+        add(event.getObject());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        add(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        add(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return User.class.equals(persister.getMappedClass());
+    }
+
+    private void add(Object entity) {
+        if (entity instanceof User user) {
+            knownUsersFilter.add(user.getLogin(), user.getEmail());
+        }
+    }
+}
@@ -1,6 +1,15 @@
 package com.mycompany.myapp.config;
 
 import com.mycompany.myapp.aop.logging.LoggingAspect;
+import com.mycompany.myapp.aop.logging.SampledLoggingAdvisor;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.JHipsterConstants;
@@ -14,4 +23,38 @@ public class LoggingAspectConfiguration {
     public LoggingAspect loggingAspect(Environment env) {
         return new LoggingAspect(env);
     }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Profile("!" + JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
+    @ConditionalOnProperty(prefix = "application.method-logging", name = "enabled", havingValue = "true")
+    public static SampledLoggingAdvisor sampledLoggingAdvisor(
+        ApplicationProperties applicationProperties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new SampledLoggingAdvisor(
+            List.of("com.mycompany.myapp.repository", "com.mycompany.myapp.service", "com.mycompany.myapp.web.rest"),
+            applicationProperties.getMethodLogging(),
+            meterRegistry::getObject
+        );
+    }
+
+    /**
+     * The method timers publish histogram buckets as set by the method logging, rather than as the percentiles-histogram of all
+     * the meters, whose filter comes first.
+     */
+    @Bean
+    @Profile("!" + JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
+    @ConditionalOnProperty(prefix = "application.method-logging", name = "enabled", havingValue = "true")
+    public MeterFilter sampledLoggingMeterFilter(ApplicationProperties applicationProperties) {
+        boolean histogram = applicationProperties.getMethodLogging().isHistogram();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return SampledLoggingAdvisor.METER_NAME.equals(id.getName())
+                    ? DistributionStatisticConfig.builder().percentilesHistogram(histogram).build().merge(config)
+                    : config;
+            }
+        };
+    }
 }
@@ -2,13 +2,24 @@ package com.mycompany.myapp.config;
 
 import static tech.jhipster.config.logging.LoggingUtils.*;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.ConsoleAppender;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import tech.jhipster.config.JHipsterProperties;
 
@@ -18,10 +29,17 @@ import tech.jhipster.config.JHipsterProperties;
 @Configuration
 public class LoggingConfiguration {
 
+    private static final String CONSOLE_APPENDER_NAME = "CONSOLE";
+
+    private static final String ASYNC_CONSOLE_APPENDER_NAME = "ASYNC_CONSOLE";
+
+    private AsyncLogAppender asyncConsoleAppender;
+
     public LoggingConfiguration(
         @Value("${spring.application.name}") String appName,
         @Value("${server.port}") String serverPort,
         JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
         ObjectMapper mapper
     ) throws JsonProcessingException {
         LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
@@ -33,15 +51,92 @@ public class LoggingConfiguration {
 
         JHipsterProperties.Logging loggingProperties = jHipsterProperties.getLogging();
         JHipsterProperties.Logging.Logstash logstashProperties = loggingProperties.getLogstash();
+        ApplicationProperties.AsyncLogging asyncLoggingProperties = applicationProperties.getAsyncLogging();
 
-        if (loggingProperties.isUseJsonFormat()) {
+        if (asyncLoggingProperties.isEnabled()) {
+            asyncConsoleAppender = addAsyncConsoleAppender(context, map, loggingProperties.isUseJsonFormat(), asyncLoggingProperties);
+        } else if (loggingProperties.isUseJsonFormat()) {
             addJsonConsoleAppender(context, customFields);
         }
         if (logstashProperties.isEnabled()) {
             addLogstashTcpSocketAppender(context, customFields, logstashProperties);
         }
+        // the listener adds the JSON and Logstash appenders again if Logback is reset, which also drops the asynchronous appender
         if (loggingProperties.isUseJsonFormat() || logstashProperties.isEnabled()) {
             addContextListener(context, customFields, loggingProperties);
         }
     }
+
+    /**
+     * Counts of the console log events dropped because the queue of the asynchronous appender was full, by level, and number
+     * of events in the queue.
+     */
+    @Bean
+    public MeterBinder asyncLoggingMetrics() {
+        return registry -> {
+            AsyncLogAppender appender = asyncConsoleAppender;
+            if (appender == null) {
+                return;
+            }
+            for (Level level : List.of(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR)) {
+                FunctionCounter.builder("logback.events.dropped", appender, async -> async.getDroppedCount(level))
+                    .description("Number of log events dropped as the queue of the asynchronous console appender was full")
+                    .tag("level", level.toString().toLowerCase(Locale.ENGLISH))
+                    .register(registry);
+            }
+            Gauge.builder("logback.events.queued", appender, AsyncLogAppender::getQueuedCount)
+                .description("Number of log events waiting to be written by the asynchronous console appender")
+                .register(registry);
+        };
+    }
+
+    /**
+     * Move the console appender of the root logger behind an {@link AsyncLogAppender}, replacing it with a
+     * {@link JsonLogEncoder} console appender if the logs are in JSON.
+     */
+    private static AsyncLogAppender addAsyncConsoleAppender(
+        LoggerContext context,
+        Map<String, String> customFields,
+        boolean useJsonFormat,
+        ApplicationProperties.AsyncLogging properties
+    ) {
+        Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        if (rootLogger.getAppender(ASYNC_CONSOLE_APPENDER_NAME) instanceof AsyncLogAppender existing) {
+            // already moved by a previous application context in the same JVM
+            return existing;
+        }
+        Appender<ILoggingEvent> consoleAppender = rootLogger.getAppender(CONSOLE_APPENDER_NAME);
+        if (consoleAppender == null) {
+            return null;
+        }
+        rootLogger.detachAppender(consoleAppender);
+        if (useJsonFormat) {
+            consoleAppender.stop();
+            consoleAppender = jsonConsoleAppender(context, customFields);
+        }
+
+        AsyncLogAppender asyncAppender = new AsyncLogAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName(ASYNC_CONSOLE_APPENDER_NAME);
+        asyncAppender.setQueueSize(properties.getQueueSize());
+        asyncAppender.setMaxFlushTime(properties.getMaxFlushTime());
+        asyncAppender.addAppender(consoleAppender);
+        asyncAppender.start();
+        rootLogger.addAppender(asyncAppender);
+        return asyncAppender;
+    }
+
+    private static ConsoleAppender<ILoggingEvent> jsonConsoleAppender(LoggerContext context, Map<String, String> customFields) {
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.setCustomFields(customFields);
+        encoder.start();
+
+        ConsoleAppender<ILoggingEvent> consoleAppender = new ConsoleAppender<>();
+        consoleAppender.setContext(context);
+        consoleAppender.setName(CONSOLE_APPENDER_NAME);
+        consoleAppender.setEncoder(encoder);
+        consoleAppender.start();
+        return consoleAppender;
+    }
 }
@@ -0,0 +1,89 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Instrumentation of the persistence layer, enabled with {@code application.datasource.instrumentation.enabled}:
+ * <ul>
+ *     <li>the Hibernate statistics (entity loads and fetches, second level cache regions, queries) are exported to Micrometer,</li>
+ *     <li>every JDBC statement is timed and tagged by the repository method which issued it, see {@link StatementMetricsListener}.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.datasource.instrumentation", name = "enabled", havingValue = "true")
+public class PersistenceInstrumentationConfiguration {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public HibernatePropertiesCustomizer statisticsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    @Bean
+    public MeterBinder hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory", Tags.empty());
+    }
+
+    /**
+     * Exposes the invoked repository method to the {@link StatementMetricsListener}.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMethodInterceptorPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                        repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                            proxyFactory.addAdvice(
+                                new StatementMetricsListener.RepositoryMethodInterceptor(repositoryInformation.getRepositoryInterface())
+                            )
+                        )
+                    );
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor statementMetricsDataSourcePostProcessor(
+        ObjectProvider<MeterRegistry> meterRegistryProvider,
+        ObjectProvider<ApplicationProperties> applicationPropertiesProvider
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (
+                    !DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                ) {
+                    return bean;
+                }
+                ApplicationProperties.Datasource.Instrumentation instrumentation = applicationPropertiesProvider
+                    .getObject()
+                    .getDatasource()
+                    .getInstrumentation();
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(new StatementMetricsListener(meterRegistryProvider, instrumentation.getSlowStatementThreshold()))
+                    .build();
+            }
+        };
+    }
+}
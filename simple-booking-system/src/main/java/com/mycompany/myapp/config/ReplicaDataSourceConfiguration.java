@@ -0,0 +1,69 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Splits the {@code spring.datasource} pool into a primary pool and a read replica pool, configured with
+ * {@code application.datasource.replica.*}: read-only transactions go to the replica, all others to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaDataSourceConfiguration.class);
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.Datasource.Replica replica = applicationProperties.getDatasource().getReplica();
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        primaryDataSource.copyStateTo(replicaDataSource);
+        replicaDataSource.setMetricsTrackerFactory(null);
+        replicaDataSource.setPoolName(primaryDataSource.getPoolName() + "-replica");
+        replicaDataSource.setJdbcUrl(replica.getUrl());
+        replicaDataSource.setUsername(replica.getUsername());
+        replicaDataSource.setPassword(replica.getPassword());
+        if (replica.getMaximumPoolSize() != null) {
+            replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+        @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+        ApplicationProperties applicationProperties
+    ) {
+        LOG.info("Routing read-only transactions to the read replica {}", replicaDataSource.getJdbcUrl());
+        return new LazyConnectionDataSourceProxy(
+            new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                applicationProperties.getDatasource().getReplica().getReadYourWritesWindow(),
+                Clock.systemUTC()
+            )
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.security.SecurityUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * After a user commits a read-write transaction, their read-only transactions keep going to the primary for the
+ * configured read-your-writes window, so that they do not miss their own writes because of the replication lag.
+ * <p>
+ * The lookup key is determined when a physical connection is first needed, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager only marks the
+ * transaction as read-only after it has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA,
+    }
+
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final Duration readYourWritesWindow;
+
+    private final Clock clock;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow, Clock clock) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        Optional<String> login = SecurityUtils.getCurrentUserLogin();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return login.filter(this::isWithinReadYourWritesWindow).isPresent() ? Target.PRIMARY : Target.REPLICA;
+        }
+        if (login.isPresent() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(login.orElseThrow());
+                    }
+                }
+            );
+        }
+        return Target.PRIMARY;
+    }
+
+    private boolean isWithinReadYourWritesWindow(String login) {
+        Long lastWrite = lastWrites.get(login);
+        return lastWrite != null && clock.millis() - lastWrite < readYourWritesWindow.toMillis();
+    }
+
+    private void recordWrite(String login) {
+        if (readYourWritesWindow.isZero()) {
+            return;
+        }
+        long now = clock.millis();
+        if (lastWrites.size() >= SWEEP_THRESHOLD) {
+            lastWrites.values().removeIf(lastWrite -> now - lastWrite >= readYourWritesWindow.toMillis());
+        }
+        lastWrites.put(login, now);
+    }
+}
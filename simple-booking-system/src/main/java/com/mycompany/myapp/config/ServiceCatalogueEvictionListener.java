@@ -0,0 +1,50 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.service.ServiceCatalogue;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Hibernate listener evicting the {@link ServiceCatalogue} snapshot whenever a {@link Service} row is written,
+ * including by code which uses the repository directly instead of {@link com.mycompany.myapp.service.ServiceService}.
+ */
+final class ServiceCatalogueEvictionListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final ServiceCatalogue serviceCatalogue;
+
+    ServiceCatalogueEvictionListener(ServiceCatalogue serviceCatalogue) {
+        this.serviceCatalogue = serviceCatalogue;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evictIfService(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evictIfService(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evictIfService(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void evictIfService(Object entity) {
+        if (entity instanceof Service) {
+            serviceCatalogue.evict();
+        }
+    }
+}
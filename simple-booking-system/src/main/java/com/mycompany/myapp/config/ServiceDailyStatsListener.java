@@ -0,0 +1,69 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.service.ServiceDailyStatsService;
+import java.time.Instant;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Hibernate listener counting the appointments in the {@link ServiceDailyStatsService daily statistics of the services}
+ * whenever they are inserted, updated or deleted, whichever service writes them.
+ */
+final class ServiceDailyStatsListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final ServiceDailyStatsService serviceDailyStatsService;
+
+    ServiceDailyStatsListener(ServiceDailyStatsService serviceDailyStatsService) {
+        this.serviceDailyStatsService = serviceDailyStatsService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Appointment appointment) {
+            serviceDailyStatsService.record(serviceId(appointment.getService()), appointment.getStartTime(), appointment.getStatus(), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // the state before the update is only missing for an entity updated without being loaded, which JPA never does
+        if (event.getEntity() instanceof Appointment appointment && event.getOldState() != null) {
+            EntityPersister persister = event.getPersister();
+            Object[] oldState = event.getOldState();
+            serviceDailyStatsService.recordChange(
+                serviceId((Service) oldState[persister.getPropertyIndex("service")]),
+                (Instant) oldState[persister.getPropertyIndex("startTime")],
+                (AppointmentStatus) oldState[persister.getPropertyIndex("status")],
+                serviceId(appointment.getService()),
+                appointment.getStartTime(),
+                appointment.getStatus(),
+                // read from the loaded state, as an appointment merged from a DTO does not carry its creation date
+                (Instant) oldState[persister.getPropertyIndex("createdDate")]
+            );
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Appointment appointment) {
+            serviceDailyStatsService.record(serviceId(appointment.getService()), appointment.getStartTime(), appointment.getStatus(), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static Long serviceId(Service service) {
+        return service != null ? service.getId() : null;
+    }
+}
@@ -0,0 +1,150 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.NamedThreadLocal;
+
+/**
+ * Times every JDBC statement, tagged by the repository method which issued it ({@value #NONE} for statements issued outside of a
+ * repository, such as lazy loads and flushes), and logs the slow ones with the types of their bind parameters.
+ */
+public class StatementMetricsListener implements QueryExecutionListener {
+
+    public static final String METRIC_NAME = "jdbc.statements";
+
+    public static final String NONE = "none";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementMetricsListener.class);
+
+    private static final String START = StatementMetricsListener.class.getName() + ".start";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final long slowStatementThresholdNanos;
+
+    private volatile Meter.MeterProvider<Timer> timers;
+
+    public StatementMetricsListener(ObjectProvider<MeterRegistry> meterRegistryProvider, Duration slowStatementThreshold) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowStatementThresholdNanos = slowStatementThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = System.nanoTime() - execInfo.getCustomValue(START, Long.class);
+        RepositoryMethod repositoryMethod = RepositoryMethodInterceptor.CURRENT.get();
+        String repository = repositoryMethod == null ? NONE : repositoryMethod.repository();
+        String method = repositoryMethod == null ? NONE : repositoryMethod.method();
+        String type = queryInfoList.isEmpty() ? "other" : QueryUtils.getQueryType(queryInfoList.get(0).getQuery()).name();
+
+        timers()
+            .withTags(
+                "repository",
+                repository,
+                "method",
+                method,
+                "type",
+                type.toLowerCase(Locale.ROOT),
+                "batch",
+                String.valueOf(execInfo.isBatch()),
+                "outcome",
+                execInfo.isSuccess() ? "success" : "error"
+            )
+            .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowStatementThresholdNanos) {
+            LOG.warn(
+                "Slow statement from {}.{} took {} ms: {} with parameters {}",
+                repository,
+                method,
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                queryInfoList.stream().map(StatementMetricsListener::parameterShape).collect(Collectors.joining("; "))
+            );
+        }
+    }
+
+    private Meter.MeterProvider<Timer> timers() {
+        Meter.MeterProvider<Timer> result = timers;
+        if (result == null) {
+            result = Timer.builder(METRIC_NAME)
+                .description("JDBC statements, by originating repository method")
+                .withRegistry(meterRegistryProvider.getObject());
+            timers = result;
+        }
+        return result;
+    }
+
+    /**
+     * Describes the bind parameters by their types only, so that no values end up in the logs, e.g. {@code 25 x [Long, String, null]}.
+     */
+    static String parameterShape(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return "[]";
+        }
+        String shape = parametersList
+            .get(0)
+            .stream()
+            .map(operation -> {
+                Object value = operation.getArgs().length > 1 ? operation.getArgs()[1] : null;
+                return ParameterSetOperation.isSetNullParameterOperation(operation) || value == null
+                    ? "null"
+                    : value.getClass().getSimpleName();
+            })
+            .collect(Collectors.joining(", ", "[", "]"));
+        return parametersList.size() > 1 ? parametersList.size() + " x " + shape : shape;
+    }
+
+    record RepositoryMethod(String repository, String method) {}
+
+    /**
+     * Records the repository method being invoked, for the statements it issues.
+     */
+    static final class RepositoryMethodInterceptor implements MethodInterceptor {
+
+        private static final ThreadLocal<RepositoryMethod> CURRENT = new NamedThreadLocal<>("Current repository method");
+
+        private final String repository;
+
+        RepositoryMethodInterceptor(Class<?> repositoryInterface) {
+            this.repository = repositoryInterface.getSimpleName();
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryMethod previous = CURRENT.get();
+            CURRENT.set(new RepositoryMethod(repository, invocation.getMethod().getName()));
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.myapp.domain;
 
+import com.mycompany.myapp.config.Constants;
 import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -20,7 +21,15 @@ public class Appointment implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "appointmentIdGenerator")
+    @TableGenerator(
+        name = "appointmentIdGenerator",
+        table = Constants.ID_GENERATOR_TABLE,
+        pkColumnName = Constants.ID_GENERATOR_NAME_COLUMN,
+        valueColumnName = Constants.ID_GENERATOR_VALUE_COLUMN,
+        pkColumnValue = "appointment",
+        allocationSize = Constants.ID_ALLOCATION_SIZE
+    )
     @Column(name = "id")
     private Long id;
 
@@ -48,6 +57,15 @@ public class Appointment implements Serializable {
     @ManyToOne(fetch = FetchType.LAZY)
     private Service service;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    private AppointmentSeries series;
+
+    @Column(name = "last_modified_date")
+    private Instant lastModifiedDate;
+
+    @Column(name = "created_date", updatable = false)
+    private Instant createdDate;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -141,6 +159,44 @@ public class Appointment implements Serializable {
         return this;
     }
 
+    public AppointmentSeries getSeries() {
+        return this.series;
+    }
+
+    public void setSeries(AppointmentSeries series) {
+        this.series = series;
+    }
+
+    public Appointment series(AppointmentSeries series) {
+        this.setSeries(series);
+        return this;
+    }
+
+    public Instant getLastModifiedDate() {
+        return this.lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(Instant lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        this.lastModifiedDate = Instant.now();
+        if (this.createdDate == null) {
+            this.createdDate = this.lastModifiedDate;
+        }
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
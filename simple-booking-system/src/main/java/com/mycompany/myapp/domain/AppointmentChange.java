@@ -0,0 +1,81 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+
+/**
+ * The last change of an {@link Appointment}: its sequence number, increasing in the order the changes commit, and whether the
+ * appointment was deleted.
+ * <p>
+ * There is a single row per appointment, whose sequence number moves forward on each change, and which is kept as a tombstone
+ * once the appointment is deleted. The rows are only written by {@code AppointmentChangeService}.
+ */
+@Entity
+@Table(name = "appointment_change")
+public class AppointmentChange implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "appointment_id")
+    private Long appointmentId;
+
+    @NotNull
+    @Column(name = "seq", nullable = false, unique = true)
+    private Long seq;
+
+    @NotNull
+    @Column(name = "deleted", nullable = false)
+    private Boolean deleted;
+
+    public Long getAppointmentId() {
+        return this.appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+
+    public Long getSeq() {
+        return this.seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Boolean getDeleted() {
+        return this.deleted;
+    }
+
+    public void setDeleted(Boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AppointmentChange)) {
+            return false;
+        }
+        return getAppointmentId() != null && getAppointmentId().equals(((AppointmentChange) o).getAppointmentId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentChange{" +
+            "appointmentId=" + getAppointmentId() +
+            ", seq=" + getSeq() +
+            ", deleted='" + getDeleted() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,142 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A series of appointments, booked at once from a recurrence rule.
+ */
+@Entity
+@Table(name = "appointment_series")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class AppointmentSeries implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "appointmentSeriesIdGenerator")
+    @TableGenerator(
+        name = "appointmentSeriesIdGenerator",
+        table = Constants.ID_GENERATOR_TABLE,
+        pkColumnName = Constants.ID_GENERATOR_NAME_COLUMN,
+        valueColumnName = Constants.ID_GENERATOR_VALUE_COLUMN,
+        pkColumnValue = "appointment_series",
+        allocationSize = Constants.ID_ALLOCATION_SIZE
+    )
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", nullable = false)
+    private RecurrenceFrequency frequency;
+
+    @NotNull
+    @Column(name = "occurrences", nullable = false)
+    private Integer occurrences;
+
+    @Column(name = "until_time")
+    private Instant until;
+
+    @NotNull
+    @Column(name = "time_zone", length = 64, nullable = false)
+    private String timeZone;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public AppointmentSeries id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return this.frequency;
+    }
+
+    public AppointmentSeries frequency(RecurrenceFrequency frequency) {
+        this.setFrequency(frequency);
+        return this;
+    }
+
+    public void setFrequency(RecurrenceFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public Integer getOccurrences() {
+        return this.occurrences;
+    }
+
+    public AppointmentSeries occurrences(Integer occurrences) {
+        this.setOccurrences(occurrences);
+        return this;
+    }
+
+    public void setOccurrences(Integer occurrences) {
+        this.occurrences = occurrences;
+    }
+
+    public Instant getUntil() {
+        return this.until;
+    }
+
+    public AppointmentSeries until(Instant until) {
+        this.setUntil(until);
+        return this;
+    }
+
+    public void setUntil(Instant until) {
+        this.until = until;
+    }
+
+    public String getTimeZone() {
+        return this.timeZone;
+    }
+
+    public AppointmentSeries timeZone(String timeZone) {
+        this.setTimeZone(timeZone);
+        return this;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AppointmentSeries)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((AppointmentSeries) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentSeries{" +
+            "id=" + getId() +
+            ", frequency='" + getFrequency() + "'" +
+            ", occurrences=" + getOccurrences() +
+            ", until='" + getUntil() + "'" +
+            ", timeZone='" + getTimeZone() + "'" +
+            "}";
+    }
+}
@@ -1,9 +1,11 @@
 package com.mycompany.myapp.domain;
 
+import com.mycompany.myapp.config.Constants;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.Instant;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
@@ -19,7 +21,15 @@ public class Service implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "serviceIdGenerator")
+    @TableGenerator(
+        name = "serviceIdGenerator",
+        table = Constants.ID_GENERATOR_TABLE,
+        pkColumnName = Constants.ID_GENERATOR_NAME_COLUMN,
+        valueColumnName = Constants.ID_GENERATOR_VALUE_COLUMN,
+        pkColumnValue = "service",
+        allocationSize = Constants.ID_ALLOCATION_SIZE
+    )
     @Column(name = "id")
     private Long id;
 
@@ -37,6 +47,17 @@ public class Service implements Serializable {
     @Column(name = "price", precision = 21, scale = 2, nullable = false)
     private BigDecimal price;
 
+    /**
+     * The number of bookings a slot of the service takes, e.g. the places in a group class.
+     */
+    @NotNull
+    @Min(value = 1)
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity = 1;
+
+    @Column(name = "last_modified_date")
+    private Instant lastModifiedDate;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -91,6 +112,33 @@ public class Service implements Serializable {
         this.price = price;
     }
 
+    public Integer getCapacity() {
+        return this.capacity;
+    }
+
+    public Service capacity(Integer capacity) {
+        this.setCapacity(capacity);
+        return this;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Instant getLastModifiedDate() {
+        return this.lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(Instant lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        this.lastModifiedDate = Instant.now();
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -118,6 +166,7 @@ public class Service implements Serializable {
             ", name='" + getName() + "'" +
             ", description='" + getDescription() + "'" +
             ", price=" + getPrice() +
+            ", capacity=" + getCapacity() +
             "}";
     }
 }
@@ -0,0 +1,197 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The statistics of a service for a day (UTC): its appointments starting that day by status, and the approvals of those
+ * appointments with the sum of their lead times, from the request of the appointment to its approval.
+ * <p>
+ * The row of a day is created on the first change of one of its appointments and is only ever changed by adding the changes of
+ * a transaction to its counters, so that the dashboards read a row per service and day instead of grouping appointments.
+ */
+@Entity
+@Table(name = "service_daily_stats")
+@IdClass(ServiceDailyStats.StatsId.class)
+public class ServiceDailyStats implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "service_id")
+    private Long serviceId;
+
+    @Id
+    @Column(name = "stats_date")
+    private LocalDate statsDate;
+
+    @NotNull
+    @Column(name = "requested_count", nullable = false)
+    private Integer requestedCount;
+
+    @NotNull
+    @Column(name = "scheduled_count", nullable = false)
+    private Integer scheduledCount;
+
+    @NotNull
+    @Column(name = "completed_count", nullable = false)
+    private Integer completedCount;
+
+    @NotNull
+    @Column(name = "cancelled_count", nullable = false)
+    private Integer cancelledCount;
+
+    @NotNull
+    @Column(name = "approved_count", nullable = false)
+    private Integer approvedCount;
+
+    /**
+     * The sum of the lead times of the approvals, in seconds.
+     */
+    @NotNull
+    @Column(name = "approval_lead_time", nullable = false)
+    private Long approvalLeadTime;
+
+    public Long getServiceId() {
+        return this.serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public LocalDate getStatsDate() {
+        return this.statsDate;
+    }
+
+    public void setStatsDate(LocalDate statsDate) {
+        this.statsDate = statsDate;
+    }
+
+    public Integer getRequestedCount() {
+        return this.requestedCount;
+    }
+
+    public void setRequestedCount(Integer requestedCount) {
+        this.requestedCount = requestedCount;
+    }
+
+    public Integer getScheduledCount() {
+        return this.scheduledCount;
+    }
+
+    public void setScheduledCount(Integer scheduledCount) {
+        this.scheduledCount = scheduledCount;
+    }
+
+    public Integer getCompletedCount() {
+        return this.completedCount;
+    }
+
+    public void setCompletedCount(Integer completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public Integer getCancelledCount() {
+        return this.cancelledCount;
+    }
+
+    public void setCancelledCount(Integer cancelledCount) {
+        this.cancelledCount = cancelledCount;
+    }
+
+    public Integer getApprovedCount() {
+        return this.approvedCount;
+    }
+
+    public void setApprovedCount(Integer approvedCount) {
+        this.approvedCount = approvedCount;
+    }
+
+    public Long getApprovalLeadTime() {
+        return this.approvalLeadTime;
+    }
+
+    public void setApprovalLeadTime(Long approvalLeadTime) {
+        this.approvalLeadTime = approvalLeadTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ServiceDailyStats)) {
+            return false;
+        }
+        ServiceDailyStats other = (ServiceDailyStats) o;
+        return serviceId != null && statsDate != null && serviceId.equals(other.serviceId) && statsDate.equals(other.statsDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ServiceDailyStats{" +
+            "serviceId=" + getServiceId() +
+            ", statsDate='" + getStatsDate() + "'" +
+            ", requestedCount=" + getRequestedCount() +
+            ", scheduledCount=" + getScheduledCount() +
+            ", completedCount=" + getCompletedCount() +
+            ", cancelledCount=" + getCancelledCount() +
+            ", approvedCount=" + getApprovedCount() +
+            ", approvalLeadTime=" + getApprovalLeadTime() +
+            "}";
+    }
+
+    /**
+     * The identifier of the statistics of a day: a service and a date.
+     */
+    public static class StatsId implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long serviceId;
+
+        private LocalDate statsDate;
+
+        public StatsId() {}
+
+        public StatsId(Long serviceId, LocalDate statsDate) {
+            this.serviceId = serviceId;
+            this.statsDate = statsDate;
+        }
+
+        public Long getServiceId() {
+            return serviceId;
+        }
+
+        public LocalDate getStatsDate() {
+            return statsDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatsId)) {
+                return false;
+            }
+            StatsId other = (StatsId) o;
+            return Objects.equals(serviceId, other.serviceId) && Objects.equals(statsDate, other.statsDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceId, statsDate);
+        }
+    }
+}
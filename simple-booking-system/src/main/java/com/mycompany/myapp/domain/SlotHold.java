@@ -0,0 +1,161 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.config.Constants;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A place taken in a slot for a few minutes, while its holder fills in the booking. It is counted in the {@link SlotOccupancy}
+ * of the slot until it is either consumed by the booking, released or expired.
+ */
+@Entity
+@Table(name = "slot_hold")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SlotHold implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "slotHoldIdGenerator")
+    @TableGenerator(
+        name = "slotHoldIdGenerator",
+        table = Constants.ID_GENERATOR_TABLE,
+        pkColumnName = Constants.ID_GENERATOR_NAME_COLUMN,
+        valueColumnName = Constants.ID_GENERATOR_VALUE_COLUMN,
+        pkColumnValue = "slot_hold",
+        allocationSize = Constants.ID_ALLOCATION_SIZE
+    )
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @NotNull
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @NotNull
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @NotNull
+    @Size(max = 50)
+    @Column(name = "login", length = 50, nullable = false)
+    private String login;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public SlotHold id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getServiceId() {
+        return this.serviceId;
+    }
+
+    public SlotHold serviceId(Long serviceId) {
+        this.setServiceId(serviceId);
+        return this;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public Instant getStartTime() {
+        return this.startTime;
+    }
+
+    public SlotHold startTime(Instant startTime) {
+        this.setStartTime(startTime);
+        return this;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return this.endTime;
+    }
+
+    public SlotHold endTime(Instant endTime) {
+        this.setEndTime(endTime);
+        return this;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getLogin() {
+        return this.login;
+    }
+
+    public SlotHold login(String login) {
+        this.setLogin(login);
+        return this;
+    }
+
+    public void setLogin(String login) {
+        this.login = login;
+    }
+
+    public Instant getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    public SlotHold expiresAt(Instant expiresAt) {
+        this.setExpiresAt(expiresAt);
+        return this;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SlotHold)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((SlotHold) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SlotHold{" +
+            "id=" + getId() +
+            ", serviceId=" + getServiceId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", login='" + getLogin() + "'" +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            "}";
+    }
+}
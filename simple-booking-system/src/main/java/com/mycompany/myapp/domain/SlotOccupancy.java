@@ -0,0 +1,128 @@
+package com.mycompany.myapp.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The number of live bookings of a service at a start time, checked against the capacity of the service when booking.
+ * <p>
+ * The row of a slot is created on its first booking and is only ever changed by conditional bulk updates, so that concurrent
+ * bookings of the same slot serialize on it instead of counting appointment rows.
+ */
+@Entity
+@Table(name = "slot_occupancy")
+@IdClass(SlotOccupancy.SlotId.class)
+public class SlotOccupancy implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "service_id")
+    private Long serviceId;
+
+    @Id
+    @Column(name = "start_time")
+    private Instant startTime;
+
+    @NotNull
+    @Column(name = "booked", nullable = false)
+    private Integer booked;
+
+    public Long getServiceId() {
+        return this.serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public Instant getStartTime() {
+        return this.startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Integer getBooked() {
+        return this.booked;
+    }
+
+    public void setBooked(Integer booked) {
+        this.booked = booked;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SlotOccupancy)) {
+            return false;
+        }
+        SlotOccupancy other = (SlotOccupancy) o;
+        return serviceId != null && startTime != null && serviceId.equals(other.serviceId) && startTime.equals(other.startTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SlotOccupancy{" +
+            "serviceId=" + getServiceId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", booked=" + getBooked() +
+            "}";
+    }
+
+    /**
+     * The identifier of a slot: a service and a start time.
+     */
+    public static class SlotId implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private Long serviceId;
+
+        private Instant startTime;
+
+        public SlotId() {}
+
+        public SlotId(Long serviceId, Instant startTime) {
+            this.serviceId = serviceId;
+            this.startTime = startTime;
+        }
+
+        public Long getServiceId() {
+            return serviceId;
+        }
+
+        public Instant getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SlotId)) {
+                return false;
+            }
+            SlotId other = (SlotId) o;
+            return Objects.equals(serviceId, other.serviceId) && Objects.equals(startTime, other.startTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serviceId, startTime);
+        }
+    }
+}
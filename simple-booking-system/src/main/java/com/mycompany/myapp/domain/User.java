@@ -28,7 +28,15 @@ public class User extends AbstractAuditingEntity<Long> implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "userIdGenerator")
+    @TableGenerator(
+        name = "userIdGenerator",
+        table = Constants.ID_GENERATOR_TABLE,
+        pkColumnName = Constants.ID_GENERATOR_NAME_COLUMN,
+        valueColumnName = Constants.ID_GENERATOR_VALUE_COLUMN,
+        pkColumnValue = "jhi_user",
+        allocationSize = Constants.ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     @NotNull
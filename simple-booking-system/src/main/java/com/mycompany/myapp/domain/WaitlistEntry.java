@@ -0,0 +1,177 @@
+package com.mycompany.myapp.domain;
+
+import com.mycompany.myapp.config.Constants;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A user waiting for a place in a full slot, which is booked for them when another booking of the slot frees one. The waiters of
+ * a slot are served by decreasing priority, then in the order they joined.
+ */
+@Entity
+@Table(name = "waitlist_entry")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class WaitlistEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "waitlistEntryIdGenerator")
+    @TableGenerator(
+        name = "waitlistEntryIdGenerator",
+        table = Constants.ID_GENERATOR_TABLE,
+        pkColumnName = Constants.ID_GENERATOR_NAME_COLUMN,
+        valueColumnName = Constants.ID_GENERATOR_VALUE_COLUMN,
+        pkColumnValue = "waitlist_entry",
+        allocationSize = Constants.ID_ALLOCATION_SIZE
+    )
+    @Column(name = "id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @NotNull
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @NotNull
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @NotNull
+    private User user;
+
+    @NotNull
+    @Column(name = "priority", nullable = false)
+    private Integer priority = 0;
+
+    @NotNull
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate = Instant.now();
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public WaitlistEntry id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getServiceId() {
+        return this.serviceId;
+    }
+
+    public WaitlistEntry serviceId(Long serviceId) {
+        this.setServiceId(serviceId);
+        return this;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public Instant getStartTime() {
+        return this.startTime;
+    }
+
+    public WaitlistEntry startTime(Instant startTime) {
+        this.setStartTime(startTime);
+        return this;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return this.endTime;
+    }
+
+    public WaitlistEntry endTime(Instant endTime) {
+        this.setEndTime(endTime);
+        return this;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public User getUser() {
+        return this.user;
+    }
+
+    public WaitlistEntry user(User user) {
+        this.setUser(user);
+        return this;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Integer getPriority() {
+        return this.priority;
+    }
+
+    public WaitlistEntry priority(Integer priority) {
+        this.setPriority(priority);
+        return this;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public Instant getCreatedDate() {
+        return this.createdDate;
+    }
+
+    public WaitlistEntry createdDate(Instant createdDate) {
+        this.setCreatedDate(createdDate);
+        return this;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WaitlistEntry)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((WaitlistEntry) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "WaitlistEntry{" +
+            "id=" + getId() +
+            ", serviceId=" + getServiceId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", priority=" + getPriority() +
+            ", createdDate='" + getCreatedDate() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,10 @@
+package com.mycompany.myapp.domain.enumeration;
+
+/**
+ * The RecurrenceFrequency enumeration, of the occurrences of an appointment series.
+ */
+public enum RecurrenceFrequency {
+    WEEKLY,
+    BIWEEKLY,
+    MONTHLY,
+}
@@ -13,16 +13,26 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String LOGIN_LOCKOUTS_METER_NAME = "security.authentication.login-lockouts";
+    public static final String LOGIN_LOCKOUTS_METER_DESCRIPTION =
+        "Indicates count of the login attempts refused before checking the password.";
+    public static final String LOGIN_LOCKOUTS_METER_BASE_UNIT = "attempts";
+    public static final String LOGIN_LOCKOUTS_METER_KEY_DIMENSION = "key";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
+    private final Counter loginIpLockoutCounter;
+    private final Counter loginUserLockoutCounter;
 
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+        this.loginIpLockoutCounter = loginLockoutsCounterForKeyBuilder("ip").register(registry);
+        this.loginUserLockoutCounter = loginLockoutsCounterForKeyBuilder("login").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +42,13 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Counter.Builder loginLockoutsCounterForKeyBuilder(String key) {
+        return Counter.builder(LOGIN_LOCKOUTS_METER_NAME)
+            .baseUnit(LOGIN_LOCKOUTS_METER_BASE_UNIT)
+            .description(LOGIN_LOCKOUTS_METER_DESCRIPTION)
+            .tag(LOGIN_LOCKOUTS_METER_KEY_DIMENSION, key);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +64,12 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackLoginIpLockout() {
+        this.loginIpLockoutCounter.increment();
+    }
+
+    public void trackLoginUserLockout() {
+        this.loginUserLockoutCounter.increment();
+    }
 }
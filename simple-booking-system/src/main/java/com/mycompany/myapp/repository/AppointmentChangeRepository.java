@@ -0,0 +1,18 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.AppointmentChange;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the AppointmentChange entity.
+ */
+@Repository
+public interface AppointmentChangeRepository extends JpaRepository<AppointmentChange, Long> {
+    /**
+     * The changes after a sequence number, in order, read from the unique index of the sequence numbers.
+     */
+    List<AppointmentChange> findBySeqGreaterThanOrderBySeq(Long seq, Limit limit);
+}
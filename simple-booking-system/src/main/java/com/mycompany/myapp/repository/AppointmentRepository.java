@@ -1,8 +1,15 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -14,9 +21,22 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+    int STREAM_FETCH_SIZE = 500;
+
     @Query("select appointment from Appointment appointment where appointment.user.login = ?#{authentication.name}")
     List<Appointment> findByUserIsCurrentUser();
 
+    /**
+     * Fetches the user and the service along with the appointments, as they are both part of the DTO.
+     */
+    @Override
+    @EntityGraph(attributePaths = { "user", "service" })
+    Page<Appointment> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = { "user", "service" })
+    List<Appointment> findAll();
+
     default Optional<Appointment> findOneWithEagerRelationships(Long id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -42,4 +62,142 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
         "select appointment from Appointment appointment left join fetch appointment.user left join fetch appointment.service where appointment.id =:id"
     )
     Optional<Appointment> findOneWithToOneRelationships(@Param("id") Long id);
+
+    @Query(
+        "select appointment from Appointment appointment left join fetch appointment.user left join fetch appointment.service where appointment.id in :ids"
+    )
+    List<Appointment> findAllWithToOneRelationshipsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams the rows of the list of appointments, with the user and service they embed, without loading any entity. The rows
+     * are fetched from the result set in batches as the stream is consumed. The special needs are read as a string rather than
+     * through a {@link java.sql.Clob}, which costs a buffer per row.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query(
+        "select new com.mycompany.myapp.repository.AppointmentRepository$AppointmentRow(appointment.id, appointment.startTime, " +
+        "appointment.endTime, appointment.status, cast(appointment.specialNeeds as String), user.id, user.login, service.id, " +
+        "service.name, appointment.series.id) " +
+        "from Appointment appointment left join appointment.user user left join appointment.service service"
+    )
+    Stream<AppointmentRow> streamAllRows(Pageable pageable);
+
+    @Query(
+        "select appointment.lastModifiedDate as appointmentLastModifiedDate, user.lastModifiedDate as userLastModifiedDate, service.lastModifiedDate as serviceLastModifiedDate from Appointment appointment join appointment.user user left join appointment.service service where appointment.id =:id"
+    )
+    Optional<AppointmentVersion> findVersionById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = { "user", "service" })
+    List<Appointment> findAllBySeriesIdOrderByStartTime(Long seriesId);
+
+    /**
+     * Time spans booked by a user over a period, cancelled appointments excepted.
+     */
+    @Query(
+        "select appointment.startTime as startTime, appointment.endTime as endTime from Appointment appointment " +
+        "where appointment.user.id = :userId and appointment.status <> :cancelled " +
+        "and appointment.startTime < :to and appointment.endTime > :from"
+    )
+    List<BookedInterval> findBookedIntervals(
+        @Param("userId") Long userId,
+        @Param("from") Instant from,
+        @Param("to") Instant to,
+        @Param("cancelled") AppointmentStatus cancelled
+    );
+
+    /**
+     * Appointments of a series which are in one of the given statuses and start after the given time, locked so that they keep
+     * their status until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select appointment.id as id, appointment.service.id as serviceId, appointment.startTime as startTime, " +
+        "appointment.endTime as endTime, appointment.status as status, appointment.createdDate as createdDate, " +
+        "appointment.user.login as userLogin " +
+        "from Appointment appointment " +
+        "where appointment.series.id = :seriesId and appointment.status in :statuses and appointment.startTime > :now"
+    )
+    List<SeriesOccurrence> findOccurrencesBySeriesId(
+        @Param("seriesId") Long seriesId,
+        @Param("statuses") Collection<AppointmentStatus> statuses,
+        @Param("now") Instant now
+    );
+
+    interface SeriesOccurrence {
+        Long getId();
+
+        Long getServiceId();
+
+        Instant getStartTime();
+
+        Instant getEndTime();
+
+        AppointmentStatus getStatus();
+
+        Instant getCreatedDate();
+
+        String getUserLogin();
+    }
+
+    /**
+     * Number of appointments of each service by start time and status, for the appointments starting between two times.
+     */
+    @Query(
+        "select appointment.service.id as serviceId, appointment.startTime as startTime, appointment.status as status, " +
+        "count(appointment) as bookings from Appointment appointment where appointment.service.id is not null " +
+        "and appointment.startTime >= :from and appointment.startTime < :to " +
+        "group by appointment.service.id, appointment.startTime, appointment.status"
+    )
+    List<StatusCount> countByServiceAndStartTime(@Param("from") Instant from, @Param("to") Instant to);
+
+    interface StatusCount {
+        Long getServiceId();
+
+        Instant getStartTime();
+
+        AppointmentStatus getStatus();
+
+        Long getBookings();
+    }
+
+    /**
+     * Set the status of the given appointments. As a bulk update, it bypasses the entity callbacks, so it sets the last modified
+     * date itself.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Appointment appointment set appointment.status = :status, appointment.lastModifiedDate = :now where appointment.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") AppointmentStatus status, @Param("now") Instant now);
+
+    interface BookedInterval {
+        Instant getStartTime();
+
+        Instant getEndTime();
+    }
+
+    /**
+     * Last modification dates of an appointment and of the relationships embedded in its DTO.
+     */
+    interface AppointmentVersion {
+        Instant getAppointmentLastModifiedDate();
+
+        Instant getUserLastModifiedDate();
+
+        Instant getServiceLastModifiedDate();
+    }
+
+    /**
+     * A row of the list of appointments, with the id and login of its user, the id and name of its service and the id of its series.
+     */
+    record AppointmentRow(
+        Long id,
+        Instant startTime,
+        Instant endTime,
+        AppointmentStatus status,
+        String specialNeeds,
+        Long userId,
+        String userLogin,
+        Long serviceId,
+        String serviceName,
+        Long seriesId
+    ) {}
 }
@@ -0,0 +1,12 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.AppointmentSeries;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the AppointmentSeries entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface AppointmentSeriesRepository extends JpaRepository<AppointmentSeries, Long> {}
@@ -0,0 +1,56 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ServiceDailyStats;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ServiceDailyStats entity.
+ * <p>
+ * The counters are only changed by adding to them, see {@link com.mycompany.myapp.service.ServiceDailyStatsService}, or by the
+ * backfill which sets them again from the appointments.
+ */
+@Repository
+public interface ServiceDailyStatsRepository extends JpaRepository<ServiceDailyStats, ServiceDailyStats.StatsId> {
+    /**
+     * Statistics of the days between two dates, both included, with the name and the current price of their service, of a
+     * single service if one is given. The days whose appointments were all deleted are left out.
+     */
+    @Query(
+        "select stats.serviceId as serviceId, service.name as serviceName, service.price as price, stats.statsDate as statsDate, " +
+        "stats.requestedCount as requestedCount, stats.scheduledCount as scheduledCount, stats.completedCount as completedCount, " +
+        "stats.cancelledCount as cancelledCount, stats.approvedCount as approvedCount, stats.approvalLeadTime as approvalLeadTime " +
+        "from ServiceDailyStats stats, Service service where service.id = stats.serviceId " +
+        "and stats.statsDate >= :from and stats.statsDate <= :to and (:serviceId is null or stats.serviceId = :serviceId) " +
+        "and (stats.requestedCount <> 0 or stats.scheduledCount <> 0 or stats.completedCount <> 0 or stats.cancelledCount <> 0 " +
+        "or stats.approvedCount <> 0) " +
+        "order by stats.statsDate, service.name, stats.serviceId"
+    )
+    List<DailyStats> findAllDailyStats(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("serviceId") Long serviceId);
+
+    interface DailyStats {
+        Long getServiceId();
+
+        String getServiceName();
+
+        BigDecimal getPrice();
+
+        LocalDate getStatsDate();
+
+        Integer getRequestedCount();
+
+        Integer getScheduledCount();
+
+        Integer getCompletedCount();
+
+        Integer getCancelledCount();
+
+        Integer getApprovedCount();
+
+        Long getApprovalLeadTime();
+    }
+}
@@ -1,7 +1,12 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.Service;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +14,31 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ServiceRepository extends JpaRepository<Service, Long> {}
+public interface ServiceRepository extends JpaRepository<Service, Long> {
+    @Query("select service.lastModifiedDate from Service service where service.id = :id")
+    Optional<Instant> findLastModifiedDateById(@Param("id") Long id);
+
+    @Query("select count(service) as count, max(service.lastModifiedDate) as lastModifiedDate from Service service")
+    CatalogueVersion findCatalogueVersion();
+
+    @Query("select service.id as id, service.name as name from Service service where service.name in :names")
+    List<ServiceReference> findAllReferencesByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Aggregate version of the whole catalogue: any insert, update or delete changes at least one of the two values.
+     */
+    interface CatalogueVersion {
+        Long getCount();
+
+        Instant getLastModifiedDate();
+    }
+
+    /**
+     * Identifier of a service, resolved from its name.
+     */
+    interface ServiceReference {
+        Long getId();
+
+        String getName();
+    }
+}
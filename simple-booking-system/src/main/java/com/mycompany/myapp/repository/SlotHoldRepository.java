@@ -0,0 +1,49 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.SlotHold;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the SlotHold entity.
+ * <p>
+ * A hold ends with a conditional delete, whose count tells which of its consumption, release or expiry, possibly on different
+ * nodes, gives its place back or hands it over to a booking.
+ */
+@Repository
+public interface SlotHoldRepository extends JpaRepository<SlotHold, Long> {
+    @Modifying
+    @Query(
+        "delete from SlotHold hold where hold.id = :id and hold.login = :login and hold.serviceId = :serviceId " +
+        "and hold.startTime = :startTime and hold.expiresAt > :now"
+    )
+    int deleteConsumable(
+        @Param("id") Long id,
+        @Param("login") String login,
+        @Param("serviceId") Long serviceId,
+        @Param("startTime") Instant startTime,
+        @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("delete from SlotHold hold where hold.id = :id and hold.login = :login")
+    int deleteByIdAndLogin(@Param("id") Long id, @Param("login") String login);
+
+    @Modifying
+    @Query("delete from SlotHold hold where hold.id = :id and hold.expiresAt <= :now")
+    int deleteExpired(@Param("id") Long id, @Param("now") Instant now);
+
+    /**
+     * Number of the holds of a user which have not expired, read from the index on their login.
+     */
+    long countByLoginAndExpiresAtAfter(String login, Instant now);
+
+    /**
+     * Holds expiring in a time range, the soonest first, read from the index on their expiry time.
+     */
+    List<SlotHold> findAllByExpiresAtBetweenOrderByExpiresAt(Instant from, Instant to, Limit limit);
+}
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.SlotOccupancy;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the SlotOccupancy entity.
+ * <p>
+ * The counters are only changed by bulk updates whose condition is evaluated by the database on the locked row, so that two
+ * bookings of the last place of a slot cannot both succeed.
+ */
+@Repository
+public interface SlotOccupancyRepository extends JpaRepository<SlotOccupancy, SlotOccupancy.SlotId> {
+    /**
+     * Take a place in each of the given slots of a service which is not full.
+     *
+     * @return the number of slots in which a place was taken.
+     */
+    @Modifying
+    @Query(
+        "update SlotOccupancy occupancy set occupancy.booked = occupancy.booked + 1 " +
+        "where occupancy.serviceId = :serviceId and occupancy.startTime in :startTimes " +
+        "and occupancy.booked < (select service.capacity from Service service where service.id = :serviceId)"
+    )
+    int incrementAvailable(@Param("serviceId") Long serviceId, @Param("startTimes") Collection<Instant> startTimes);
+
+    /**
+     * Add bookings to a slot regardless of the capacity of its service.
+     */
+    @Modifying
+    @Query(
+        "update SlotOccupancy occupancy set occupancy.booked = occupancy.booked + :count " +
+        "where occupancy.serviceId = :serviceId and occupancy.startTime = :startTime"
+    )
+    int increment(@Param("serviceId") Long serviceId, @Param("startTime") Instant startTime, @Param("count") int count);
+
+    @Modifying
+    @Query(
+        "update SlotOccupancy occupancy set occupancy.booked = occupancy.booked - 1 " +
+        "where occupancy.serviceId = :serviceId and occupancy.startTime = :startTime and occupancy.booked > 0"
+    )
+    int decrement(@Param("serviceId") Long serviceId, @Param("startTime") Instant startTime);
+
+    /**
+     * Free the places taken by the given appointments. The appointments are expected to be locked and to hold a place each, and
+     * two of them never share a slot, so each slot is freed once.
+     */
+    @Modifying
+    @Query(
+        "update SlotOccupancy occupancy set occupancy.booked = occupancy.booked - 1 where occupancy.booked > 0 and exists (" +
+        "select 1 from Appointment appointment where appointment.id in :appointmentIds " +
+        "and appointment.service.id = occupancy.serviceId and appointment.startTime = occupancy.startTime)"
+    )
+    int decrementByAppointmentIds(@Param("appointmentIds") Collection<Long> appointmentIds);
+
+    /**
+     * Start times among the given ones at which a service is full.
+     */
+    @Query(
+        "select occupancy.startTime from SlotOccupancy occupancy, Service service " +
+        "where service.id = occupancy.serviceId and occupancy.serviceId = :serviceId and occupancy.startTime in :startTimes " +
+        "and occupancy.booked >= service.capacity order by occupancy.startTime"
+    )
+    List<Instant> findFullStartTimes(@Param("serviceId") Long serviceId, @Param("startTimes") Collection<Instant> startTimes);
+
+    @Query(
+        "select occupancy.startTime as startTime, occupancy.booked as booked, service.capacity as capacity " +
+        "from SlotOccupancy occupancy, Service service where service.id = occupancy.serviceId and occupancy.serviceId = :serviceId " +
+        "and occupancy.startTime >= :from and occupancy.startTime < :to and occupancy.booked > 0 order by occupancy.startTime"
+    )
+    List<SlotCount> findAllCounts(@Param("serviceId") Long serviceId, @Param("from") Instant from, @Param("to") Instant to);
+
+    interface SlotCount {
+        Instant getStartTime();
+
+        Integer getBooked();
+
+        Integer getCapacity();
+    }
+}
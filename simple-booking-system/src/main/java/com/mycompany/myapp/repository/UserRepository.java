@@ -1,13 +1,22 @@
 package com.mycompany.myapp.repository;
 
 import com.mycompany.myapp.domain.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -18,12 +27,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     String USERS_BY_LOGIN_CACHE = "usersByLogin";
 
     String USERS_BY_EMAIL_CACHE = "usersByEmail";
+
+    int STREAM_FETCH_SIZE = 500;
+
     Optional<User> findOneByActivationKey(String activationKey);
     List<User> findAllByActivatedIsFalseAndActivationKeyIsNotNullAndCreatedDateBefore(Instant dateTime);
     Optional<User> findOneByResetKey(String resetKey);
     Optional<User> findOneByEmailIgnoreCase(String email);
     Optional<User> findOneByLogin(String login);
 
+    /**
+     * The user with the given login, locked until the end of the transaction, so that the checks of the limits per user and the
+     * writes they allow run one user transaction at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<User> findOneForUpdateByLogin(String login);
+
     @EntityGraph(attributePaths = "authorities")
     @Cacheable(cacheNames = USERS_BY_LOGIN_CACHE, unless = "#result == null")
     Optional<User> findOneWithAuthoritiesByLogin(String login);
@@ -33,4 +52,62 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findOneWithAuthoritiesByEmailIgnoreCase(String email);
 
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
+
+    @Query("select user.id as id, user.login as login from User user where user.login in :logins")
+    List<UserReference> findAllReferencesByLoginIn(@Param("logins") Collection<String> logins);
+
+    @Query("select user.login as login, user.email as email from User user")
+    Stream<UserPrincipal> streamAllPrincipals();
+
+    /**
+     * Streams the rows of the list of users, with their authorities joined in a single column, without loading any entity. The
+     * rows are fetched from the result set in batches as the stream is consumed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query(
+        "select new com.mycompany.myapp.repository.UserRepository$UserRow(user.id, user.login, user.firstName, user.lastName, " +
+        "user.email, user.imageUrl, user.activated, user.langKey, user.createdBy, user.createdDate, user.lastModifiedBy, " +
+        "user.lastModifiedDate, listagg(authority.name, ',') within group (order by authority.name)) " +
+        "from User user left join user.authorities authority " +
+        "group by user.id, user.login, user.firstName, user.lastName, user.email, user.imageUrl, user.activated, user.langKey, " +
+        "user.createdBy, user.createdDate, user.lastModifiedBy, user.lastModifiedDate"
+    )
+    Stream<UserRow> streamAllRows(Pageable pageable);
+
+    /**
+     * Identifier of a user, resolved from its login.
+     */
+    interface UserReference {
+        Long getId();
+
+        String getLogin();
+    }
+
+    /**
+     * The names under which a user can authenticate.
+     */
+    interface UserPrincipal {
+        String getLogin();
+
+        String getEmail();
+    }
+
+    /**
+     * A row of the list of users, with the names of its authorities separated by commas, or {@code null} if it has none.
+     */
+    record UserRow(
+        Long id,
+        String login,
+        String firstName,
+        String lastName,
+        String email,
+        String imageUrl,
+        boolean activated,
+        String langKey,
+        String createdBy,
+        Instant createdDate,
+        String lastModifiedBy,
+        Instant lastModifiedDate,
+        String authorities
+    ) {}
 }
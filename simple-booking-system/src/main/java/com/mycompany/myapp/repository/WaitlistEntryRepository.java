@@ -0,0 +1,34 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.WaitlistEntry;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the WaitlistEntry entity.
+ */
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    /**
+     * The next waiter of a slot, read from the head of the index of the slot and locked, so that it is read again if another
+     * promotion takes it first.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<WaitlistEntry> findFirstByServiceIdAndStartTimeOrderByPriorityDescCreatedDateAscIdAsc(Long serviceId, Instant startTime);
+
+    boolean existsByServiceIdAndStartTimeAndUserLogin(Long serviceId, Instant startTime, String login);
+
+    List<WaitlistEntry> findAllByUserLoginOrderByStartTime(String login);
+
+    @Modifying
+    @Query(
+        "delete from WaitlistEntry entry where entry.id = :id " +
+        "and entry.user.id = (select owner.id from User owner where owner.login = :login)"
+    )
+    int deleteByIdAndUserLogin(@Param("id") Long id, @Param("login") String login);
+}
@@ -0,0 +1,93 @@
+package com.mycompany.myapp.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Set of strings answering whether it might contain a string, in a fixed number of bits: a string which was put is always
+ * found, and a string which was not is found with a probability chosen at creation for the expected number of strings.
+ * <p>
+ * Each string sets as many bits as the filter has hash functions, derived from a 64-bit hash of the string by double hashing.
+ * The bits are set atomically, so that strings can be put while others are looked up.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Create a filter sized for a number of strings.
+     *
+     * @param expectedInsertions the number of strings which will be put.
+     * @param falsePositiveProbability the probability of finding a string which was not put, once they all are.
+     * @return the filter.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Invalid false positive probability " + falsePositiveProbability);
+        }
+        long insertions = Math.max(1, expectedInsertions);
+        long bitCount = Math.max(Long.SIZE, (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (LN2 * LN2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * LN2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a over the characters of the string, followed by the finalizer of MurmurHash3 to spread its bits.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
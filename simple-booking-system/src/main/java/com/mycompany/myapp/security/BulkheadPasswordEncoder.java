@@ -0,0 +1,191 @@
+package com.mycompany.myapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} computing the hashes of its delegate on a bounded executor, apart from the request threads, which only
+ * wait for them up to a deadline. The executor has a fixed number of threads, so that the logins, registrations and password
+ * changes never take more of the cores than these, and a bounded queue, whose hashes are dropped once they waited too long.
+ * A hash which cannot be computed in time fails with a {@link PasswordHashingUnavailableException}.
+ * <p>
+ * The hashing and queueing times of each operation are exported as the {@value #HASHING_METER_NAME} and
+ * {@value #QUEUE_METER_NAME} timers, and the hashes given up as the {@value #REJECTED_METER_NAME} counter.
+ */
+public class BulkheadPasswordEncoder implements PasswordEncoder {
+
+    public static final String HASHING_METER_NAME = "security.password.hashing";
+    public static final String QUEUE_METER_NAME = "security.password.hashing.queue";
+    public static final String QUEUED_METER_NAME = "security.password.hashing.queued";
+    public static final String REJECTED_METER_NAME = "security.password.hashing.rejected";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkheadPasswordEncoder.class);
+
+    private static final String ENCODE = "encode";
+
+    private static final String MATCHES = "matches";
+
+    private final PasswordEncoder delegate;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long queueTimeoutNanos;
+
+    private final long deadlineNanos;
+
+    private final Map<String, Timer> hashingTimers;
+
+    private final Map<String, Timer> queueTimers;
+
+    private final Map<String, Counter> rejectedCounters;
+
+    public BulkheadPasswordEncoder(
+        PasswordEncoder delegate,
+        int threads,
+        int queueCapacity,
+        Duration queueTimeout,
+        Duration deadline,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory()
+        );
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+        this.hashingTimers = Map.of(ENCODE, hashingTimer(ENCODE, meterRegistry), MATCHES, hashingTimer(MATCHES, meterRegistry));
+        this.queueTimers = Map.of(ENCODE, queueTimer(ENCODE, meterRegistry), MATCHES, queueTimer(MATCHES, meterRegistry));
+        this.rejectedCounters = Map.of(ENCODE, rejectedCounter(ENCODE, meterRegistry), MATCHES, rejectedCounter(MATCHES, meterRegistry));
+        Gauge.builder(QUEUED_METER_NAME, executor, e -> e.getQueue().size())
+            .description("Number of passwords waiting to be hashed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * The number of threads hashing the passwords for a share of the cores, at least one.
+     *
+     * @param coreShare the share of the cores.
+     * @return the number of threads.
+     */
+    public static int threadsFor(double coreShare) {
+        return Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * coreShare));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stop the hashing threads, once the application does not use the encoder anymore.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T hash(String operation, Supplier<T> hashing) {
+        long submitted = System.nanoTime();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            long queued = System.nanoTime() - submitted;
+            queueTimers.get(operation).record(queued, TimeUnit.NANOSECONDS);
+            if (queued > queueTimeoutNanos) {
+                throw new PasswordHashingUnavailableException("Password hashing waited too long in the queue");
+            }
+            return hashingTimers.get(operation).record(hashing);
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return reject(operation, "Password hashing queue is full");
+        }
+        try {
+            return task.get(deadlineNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(false);
+            return reject(operation, "Password hashing took too long");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(false);
+            return reject(operation, "Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PasswordHashingUnavailableException) {
+                return reject(operation, e.getCause().getMessage());
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T reject(String operation, String message) {
+        LOG.warn("Giving up password {}: {}", operation, message);
+        rejectedCounters.get(operation).increment();
+        throw new PasswordHashingUnavailableException(message);
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(HASHING_METER_NAME)
+            .description("Time spent hashing passwords")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static Timer queueTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(QUEUE_METER_NAME)
+            .description("Time spent by passwords waiting to be hashed")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(String operation, MeterRegistry meterRegistry) {
+        return Counter.builder(REJECTED_METER_NAME)
+            .description("Number of passwords not hashed in time")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link LoginAttemptStore} shared by the instances: the counters of the fixed windows are rows of the {@code login_attempt}
+ * table, incremented by an insert which adds to the existing row on a duplicate key, so that concurrent attempts are all
+ * counted without reading the row first. The writes declare the table, so that Hibernate does not evict its whole
+ * second-level cache on every failed login.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.login-rate-limit", name = "store", havingValue = "database")
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class DatabaseLoginAttemptStore implements LoginAttemptStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseLoginAttemptStore.class);
+
+    private static final String TABLE = "login_attempt";
+
+    private final EntityManager em;
+
+    private final ApplicationProperties applicationProperties;
+
+    public DatabaseLoginAttemptStore(EntityManager em, ApplicationProperties applicationProperties) {
+        this.em = em;
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public double count(String key, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        long start = LoginAttemptStore.windowStart(now, windowMillis);
+        Object[] counts = (Object[]) em
+            .createNativeQuery(
+                "select coalesce(sum(case when window_start = :previous then attempts else 0 end), 0), " +
+                "coalesce(sum(case when window_start = :current then attempts else 0 end), 0) " +
+                "from login_attempt where attempt_key = :key and window_start in (:previous, :current)"
+            )
+            .setParameter("key", key)
+            .setParameter("previous", Instant.ofEpochMilli(start - windowMillis))
+            .setParameter("current", Instant.ofEpochMilli(start))
+            .getSingleResult();
+        return LoginAttemptStore.slidingCount(
+            ((Number) counts[0]).longValue(),
+            ((Number) counts[1]).longValue(),
+            windowMillis,
+            now - start
+        );
+    }
+
+    @Override
+    public void record(String key, Duration window) {
+        em
+            .createNativeQuery(
+                "insert into login_attempt (attempt_key, window_start, attempts) values (:key, :windowStart, 1) " +
+                "on duplicate key update attempts = attempts + 1"
+            )
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(TABLE)
+            .setParameter("key", key)
+            .setParameter("windowStart", Instant.ofEpochMilli(LoginAttemptStore.windowStart(System.currentTimeMillis(), window.toMillis())))
+            .executeUpdate();
+    }
+
+    /**
+     * Delete the counters of the windows which no sliding window covers anymore.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void purge() {
+        ApplicationProperties.LoginRateLimit properties = applicationProperties.getLoginRateLimit();
+        Duration longestWindow = properties.getIpWindow().compareTo(properties.getLoginWindow()) > 0
+            ? properties.getIpWindow()
+            : properties.getLoginWindow();
+        int deleted = em
+            .createNativeQuery("delete from login_attempt where window_start < :before")
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(TABLE)
+            .setParameter("before", Instant.now().minus(longestWindow.multipliedBy(2)))
+            .executeUpdate();
+        LOG.debug("Deleted {} login attempt counters", deleted);
+    }
+}
@@ -24,8 +24,11 @@ public class DomainUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
-    public DomainUserDetailsService(UserRepository userRepository) {
+    private final KnownUsersFilter knownUsersFilter;
+
+    public DomainUserDetailsService(UserRepository userRepository, KnownUsersFilter knownUsersFilter) {
         this.userRepository = userRepository;
+        this.knownUsersFilter = knownUsersFilter;
     }
 
     @Override
@@ -33,6 +36,10 @@ public class DomainUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(final String login) {
         LOG.debug("Authenticating {}", login);
 
+        if (!knownUsersFilter.mightExist(login)) {
+            throw new UsernameNotFoundException("User " + login + " is not known");
+        }
+
         if (new EmailValidator().isValid(login, null)) {
             return userRepository
                 .findOneWithAuthoritiesByEmailIgnoreCase(login)
@@ -0,0 +1,93 @@
+package com.mycompany.myapp.security;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LoginAttemptStore} of an instance on its own: the counters of a key are kept in memory, and dropped once their windows
+ * are over.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.login-rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+
+    private final LongSupplier currentTimeMillis;
+
+    public InMemoryLoginAttemptStore() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemoryLoginAttemptStore(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public double count(String key, Duration window) {
+        Counters keyCounters = counters.get(key);
+        return keyCounters == null ? 0 : keyCounters.count(currentTimeMillis.getAsLong());
+    }
+
+    @Override
+    public void record(String key, Duration window) {
+        counters.computeIfAbsent(key, k -> new Counters(window.toMillis())).increment(currentTimeMillis.getAsLong());
+    }
+
+    /**
+     * Drop the counters of the keys without any attempt in their current or previous window.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void purge() {
+        long now = currentTimeMillis.getAsLong();
+        counters.values().removeIf(keyCounters -> keyCounters.isOver(now));
+    }
+
+    int size() {
+        return counters.size();
+    }
+
+    private static final class Counters {
+
+        private final long windowMillis;
+
+        private long windowStart;
+
+        private long previous;
+
+        private long current;
+
+        Counters(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        synchronized double count(long now) {
+            roll(now);
+            return LoginAttemptStore.slidingCount(previous, current, windowMillis, now - windowStart);
+        }
+
+        synchronized void increment(long now) {
+            roll(now);
+            current++;
+        }
+
+        synchronized boolean isOver(long now) {
+            return now - windowStart >= 2 * windowMillis;
+        }
+
+        private void roll(long now) {
+            long start = LoginAttemptStore.windowStart(now, windowMillis);
+            if (start != windowStart) {
+                previous = start - windowStart == windowMillis ? current : 0;
+                current = 0;
+                windowStart = start;
+            }
+        }
+    }
+}
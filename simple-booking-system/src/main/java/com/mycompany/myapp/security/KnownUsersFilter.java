@@ -0,0 +1,121 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.repository.UserRepository;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link BloomFilter} of the logins and emails of the users, so that the authentication of an unknown user is refused without
+ * querying the database, the common case of enumeration and credential stuffing.
+ * <p>
+ * The filter is built from the users once the application is ready, then rebuilt periodically to fit their number. Every user
+ * inserted or updated through Hibernate is added to it, when persisted and again once committed, so that a user created
+ * during a rebuild is in the new filter too: a user who exists is never refused. Until the first build, every user is let
+ * through to the database.
+ * <p>
+ * The filter only learns the users written by this instance between two rebuilds, so it is disabled by default and must only
+ * be enabled for a single instance: with several of them, a user registered on another instance would be refused until the
+ * next rebuild.
+ */
+@Component
+public class KnownUsersFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KnownUsersFilter.class);
+
+    private final ApplicationProperties.KnownUsersFilter properties;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter building;
+
+    public KnownUsersFilter(
+        ApplicationProperties applicationProperties,
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.properties = applicationProperties.getKnownUsersFilter();
+        this.userRepository = userRepository;
+        // not read-only, so that the users are read from the primary database and not from a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Whether a user might exist with a login or an email.
+     *
+     * @param loginOrEmail the login or the email, in any case.
+     * @return {@code false} only if no user has this login or email.
+     */
+    public boolean mightExist(String loginOrEmail) {
+        BloomFilter current = filter;
+        return !properties.isEnabled() || current == null || current.mightContain(normalize(loginOrEmail));
+    }
+
+    /**
+     * Add the login and the email of a user.
+     *
+     * @param login the login.
+     * @param email the email, if any.
+     */
+    public void add(String login, String email) {
+        // the filter being built first: once it is null, the filter is the rebuilt one or the user is visible to the next build
+        put(building, login, email);
+        put(filter, login, email);
+    }
+
+    /**
+     * Build the filter again from the users, sized for one and a half times their logins and emails.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.known-users-filter.rebuild-interval:1h}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            long users = userRepository.count();
+            BloomFilter rebuilt = BloomFilter.create(3 * users + 1000, properties.getFalsePositiveProbability());
+            building = rebuilt;
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<UserRepository.UserPrincipal> principals = userRepository.streamAllPrincipals()) {
+                    principals.forEach(principal -> put(rebuilt, principal.getLogin(), principal.getEmail()));
+                }
+            });
+            filter = rebuilt;
+            LOG.debug("Rebuilt the filter of {} known users", users);
+        } catch (DataAccessException e) {
+            LOG.warn("Could not build the filter of the known users, keeping the previous one: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private static void put(BloomFilter target, String login, String email) {
+        if (target == null) {
+            return;
+        }
+        if (login != null) {
+            target.put(normalize(login));
+        }
+        if (email != null) {
+            target.put(normalize(email));
+        }
+    }
+
+    private static String normalize(String loginOrEmail) {
+        return loginOrEmail.toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycompany.myapp.security;
+
+import java.time.Duration;
+
+/**
+ * Counters of the login attempts of a key, an address or a login, over a sliding window.
+ * <p>
+ * The attempts are counted in fixed windows aligned on the epoch, and the count over the sliding window ending now is estimated
+ * from the current window and the part of the previous one which it still covers. Two counters per key are thus enough, and
+ * they can be shared by the instances through the database.
+ */
+public interface LoginAttemptStore {
+    /**
+     * The attempts of a key over the sliding window ending now.
+     *
+     * @param key the key.
+     * @param window the length of the window.
+     * @return the estimated number of attempts.
+     */
+    double count(String key, Duration window);
+
+    /**
+     * Count an attempt of a key.
+     *
+     * @param key the key.
+     * @param window the length of the window.
+     */
+    void record(String key, Duration window);
+
+    /**
+     * The estimate of the attempts over the sliding window ending at a time, the previous fixed window being counted for the
+     * part of it which the sliding window covers.
+     */
+    static double slidingCount(long previous, long current, long windowMillis, long elapsedMillis) {
+        return previous * (1 - (double) elapsedMillis / windowMillis) + current;
+    }
+
+    /**
+     * The start of the fixed window of a time.
+     */
+    static long windowStart(long timeMillis, long windowMillis) {
+        return timeMillis - Math.floorMod(timeMillis, windowMillis);
+    }
+}
@@ -0,0 +1,22 @@
+package com.mycompany.myapp.security;
+
+import java.time.Duration;
+
+/**
+ * This exception is thrown in case of a login attempt refused by the {@link LoginRateLimiter}, before checking the password.
+ */
+public class LoginRateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public LoginRateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
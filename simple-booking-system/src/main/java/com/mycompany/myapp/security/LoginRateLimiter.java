@@ -0,0 +1,97 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.time.Duration;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits on the login attempts, checked before the user is read and its password hashed, so that a credential stuffing run is
+ * refused at the cost of a couple of counter reads.
+ * <p>
+ * Each address and each login has a bucket of attempts refilled over a window: an address spends a token on each attempt and a
+ * login on each failed one, and no attempt is made while either of them is empty. The buckets are kept as the sliding window
+ * counters of a {@link LoginAttemptStore}, in memory or in the database, and the refused attempts are counted by the
+ * {@link SecurityMetersService}.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private static final String LOGIN_KEY_PREFIX = "login:";
+
+    private final ApplicationProperties.LoginRateLimit properties;
+
+    private final LoginAttemptStore loginAttemptStore;
+
+    private final SecurityMetersService securityMetersService;
+
+    public LoginRateLimiter(
+        ApplicationProperties applicationProperties,
+        LoginAttemptStore loginAttemptStore,
+        SecurityMetersService securityMetersService
+    ) {
+        this.properties = applicationProperties.getLoginRateLimit();
+        this.loginAttemptStore = loginAttemptStore;
+        this.securityMetersService = securityMetersService;
+    }
+
+    /**
+     * Take a token for a login attempt from an address.
+     *
+     * @param address the address of the client.
+     * @param login the login or email being authenticated.
+     * @throws LoginRateLimitExceededException if the address or the login has no token left.
+     */
+    public void acquire(String address, String login) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (loginAttemptStore.count(loginKey(login), properties.getLoginWindow()) >= properties.getLoginFailures()) {
+            LOG.debug("Refusing login attempt of {}, too many failures", login);
+            securityMetersService.trackLoginUserLockout();
+            throw new LoginRateLimitExceededException(
+                "Too many failed login attempts",
+                refillInterval(properties.getLoginWindow(), properties.getLoginFailures())
+            );
+        }
+        String ipKey = IP_KEY_PREFIX + address;
+        if (loginAttemptStore.count(ipKey, properties.getIpWindow()) >= properties.getIpAttempts()) {
+            LOG.debug("Refusing login attempt from {}, too many attempts", address);
+            securityMetersService.trackLoginIpLockout();
+            throw new LoginRateLimitExceededException(
+                "Too many login attempts",
+                refillInterval(properties.getIpWindow(), properties.getIpAttempts())
+            );
+        }
+        loginAttemptStore.record(ipKey, properties.getIpWindow());
+    }
+
+    /**
+     * Spend a token of a login on a failed attempt.
+     *
+     * @param login the login or email which failed to authenticate.
+     */
+    public void recordFailure(String login) {
+        if (properties.isEnabled()) {
+            loginAttemptStore.record(loginKey(login), properties.getLoginWindow());
+        }
+    }
+
+    private static String loginKey(String login) {
+        return LOGIN_KEY_PREFIX + login.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * The time a bucket takes to get a token back.
+     */
+    private static Duration refillInterval(Duration window, int tokens) {
+        return window.dividedBy(Math.max(1, tokens));
+    }
+}
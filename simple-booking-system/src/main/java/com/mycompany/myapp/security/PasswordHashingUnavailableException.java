@@ -0,0 +1,13 @@
+package com.mycompany.myapp.security;
+
+/**
+ * This exception is thrown in case of a password which the {@link BulkheadPasswordEncoder} could not hash in time.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,204 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.Constants;
+import com.mycompany.myapp.domain.AppointmentChange;
+import com.mycompany.myapp.repository.AppointmentChangeRepository;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.service.dto.AppointmentChangeDTO;
+import com.mycompany.myapp.service.dto.AppointmentChangesDTO;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.mapper.AppointmentMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for the log of the changes of the {@link com.mycompany.myapp.domain.Appointment}s, from which the
+ * clients read the changes since the last one they saw instead of reading the appointments again.
+ * <p>
+ * The changes of a transaction are collected as it goes, and written just before it commits, after its last flush: the
+ * sequence row of the log is incremented once for all of them, then the {@link AppointmentChange} rows of their appointments
+ * are inserted or moved forward with a single statement. The sequence row stays locked until the commit, so that the sequence
+ * numbers are given in the order the changes commit, and a client never reads a change after one with a smaller sequence
+ * number still to commit.
+ */
+@Service
+@Transactional
+public class AppointmentChangeService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppointmentChangeService.class);
+
+    static final String SEQUENCE_NAME = "appointment_change";
+
+    private static final String INCREMENT_SEQUENCE_SQL = String.format(
+        "update %1$s set %2$s = %2$s + ? where %3$s = ?",
+        Constants.ID_GENERATOR_TABLE,
+        Constants.ID_GENERATOR_VALUE_COLUMN,
+        Constants.ID_GENERATOR_NAME_COLUMN
+    );
+
+    private static final String SELECT_SEQUENCE_SQL = String.format(
+        "select %2$s from %1$s where %3$s = ?",
+        Constants.ID_GENERATOR_TABLE,
+        Constants.ID_GENERATOR_VALUE_COLUMN,
+        Constants.ID_GENERATOR_NAME_COLUMN
+    );
+
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
+    private final AppointmentChangeRepository appointmentChangeRepository;
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final AppointmentMapper appointmentMapper;
+
+    private final EntityManager em;
+
+    private final Map<SharedSessionContractImplementor, PendingChanges> pendingChanges = new ConcurrentHashMap<>();
+
+    public AppointmentChangeService(
+        AppointmentChangeRepository appointmentChangeRepository,
+        AppointmentRepository appointmentRepository,
+        AppointmentMapper appointmentMapper,
+        EntityManager em
+    ) {
+        this.appointmentChangeRepository = appointmentChangeRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentMapper = appointmentMapper;
+        this.em = em;
+    }
+
+    /**
+     * Record a change of an appointment, written when the current transaction commits.
+     *
+     * @param appointmentId the id of the appointment.
+     * @param deleted whether the appointment was deleted.
+     */
+    public void record(Long appointmentId, boolean deleted) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        pendingChanges
+            .computeIfAbsent(session, key -> {
+                PendingChanges changes = new PendingChanges();
+                session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) changes);
+                session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) changes);
+                return changes;
+            })
+            .changes.put(appointmentId, deleted);
+    }
+
+    /**
+     * Record the changes of appointments which were not deleted, for the writes which bypass the entity events.
+     *
+     * @param appointmentIds the ids of the appointments.
+     */
+    public void recordAll(Collection<Long> appointmentIds) {
+        appointmentIds.forEach(appointmentId -> record(appointmentId, false));
+    }
+
+    /**
+     * Get the changes after a sequence number, in order.
+     *
+     * @param since the sequence number of the last change already read, 0 for all the appointments.
+     * @param limit the maximum number of changes.
+     * @return the page of changes.
+     */
+    @Transactional(readOnly = true)
+    public AppointmentChangesDTO findChanges(long since, int limit) {
+        LOG.debug("Request to get the Appointment changes after {}", since);
+        List<AppointmentChange> changes = appointmentChangeRepository.findBySeqGreaterThanOrderBySeq(since, Limit.of(limit));
+        if (changes.isEmpty()) {
+            return new AppointmentChangesDTO(List.of(), since, false);
+        }
+        List<Long> changedIds = changes
+            .stream()
+            .filter(change -> !change.getDeleted())
+            .map(AppointmentChange::getAppointmentId)
+            .toList();
+        Map<Long, AppointmentDTO> appointments = changedIds.isEmpty()
+            ? Map.of()
+            : appointmentRepository
+                .findAllWithToOneRelationshipsByIdIn(changedIds)
+                .stream()
+                .map(appointmentMapper::toDto)
+                .collect(Collectors.toMap(AppointmentDTO::getId, Function.identity()));
+        // an appointment deleted since its change was read is a tombstone already, the one of its deletion follows
+        List<AppointmentChangeDTO> changeDTOs = changes
+            .stream()
+            .map(change -> {
+                Long appointmentId = change.getAppointmentId();
+                return new AppointmentChangeDTO(change.getSeq(), appointmentId, appointments.get(appointmentId));
+            })
+            .toList();
+        return new AppointmentChangesDTO(changeDTOs, changes.get(changes.size() - 1).getSeq(), changes.size() == limit);
+    }
+
+    private void write(SessionImplementor session, Map<Long, Boolean> changes) {
+        nativeQuery(session, INCREMENT_SEQUENCE_SQL, Constants.ID_GENERATOR_TABLE)
+            .setParameter(1, changes.size())
+            .setParameter(2, SEQUENCE_NAME)
+            .executeUpdate();
+        long lastSeq = ((Number) session
+                .createNativeQuery(SELECT_SEQUENCE_SQL)
+                .setParameter(1, SEQUENCE_NAME)
+                .getSingleResult()).longValue();
+        long seq = lastSeq - changes.size();
+        List<Map.Entry<Long, Boolean>> entries = new ArrayList<>(changes.entrySet());
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Map.Entry<Long, Boolean>> rows = entries.subList(from, Math.min(entries.size(), from + MAX_ROWS_PER_INSERT));
+            StringBuilder sql = new StringBuilder("insert into appointment_change (appointment_id, seq, deleted) values ");
+            for (int i = 0; i < rows.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?)");
+            }
+            sql.append(" on duplicate key update seq = values(seq), deleted = values(deleted)");
+            Query query = nativeQuery(session, sql.toString(), "appointment_change");
+            int position = 1;
+            for (Map.Entry<Long, Boolean> row : rows) {
+                query.setParameter(position++, row.getKey()).setParameter(position++, ++seq).setParameter(position++, row.getValue());
+            }
+            query.executeUpdate();
+        }
+        LOG.debug("Recorded {} Appointment changes up to {}", changes.size(), lastSeq);
+    }
+
+    /**
+     * A native statement declaring the table it writes, so that Hibernate does not evict its whole second-level cache.
+     */
+    private static Query nativeQuery(SessionImplementor session, String sql, String table) {
+        return session.createNativeQuery(sql).addSynchronizedQuerySpace(table);
+    }
+
+    /**
+     * The changes recorded by the transaction of a session, by appointment id. They are written by Hibernate once it has flushed
+     * the session for the commit, so that the changes of the appointments flushed by the commit itself are included.
+     */
+    private final class PendingChanges implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final Map<Long, Boolean> changes = new LinkedHashMap<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            write(session, changes);
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingChanges.remove(session);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mycompany.myapp.service;
+
+import java.time.Instant;
+import java.util.List;
+
+public class AppointmentConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Instant> conflicts;
+
+    /**
+     * @param conflicts the start times of the requested appointments which overlap existing bookings.
+     */
+    public AppointmentConflictException(List<Instant> conflicts) {
+        super("Appointment conflicts with existing bookings");
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public List<Instant> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,284 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process bus of the {@link AppointmentEventDTO appointment changes}, published once their transaction commits to the
+ * subscribers of this instance.
+ * <p>
+ * Each event gets an id made of the start time of the bus and a sequence number, and the last {@code history-size} events are
+ * kept, so that a subscriber can resume after the last event it received. A subscriber which cannot resume, because the bus
+ * restarted or the events were dropped from the history, is told to reset.
+ * <p>
+ * Publishing never waits for a subscriber: the events are put in a bounded queue of each subscriber, emptied by a few shared
+ * threads, so that an idle subscriber holds no thread. A subscriber whose queue is full is closed, and resumes from the
+ * history when it reconnects. The events it missed are then read from the history as they are sent, ahead of its queue, so
+ * that it can resume after as many events as the history keeps, more than its queue holds.
+ */
+@Component
+public class AppointmentEventBus {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppointmentEventBus.class);
+
+    /**
+     * A subscriber of the events, called by one thread at a time.
+     */
+    public interface Subscriber {
+        /**
+         * Send an event.
+         *
+         * @param event the event.
+         * @throws IOException if the subscriber is gone, then closed.
+         */
+        void send(AppointmentEventDTO event) throws IOException;
+
+        /**
+         * Tell the subscriber that the events since the one it resumes from are lost, and that it must read the appointments
+         * again.
+         *
+         * @throws IOException if the subscriber is gone, then closed.
+         */
+        void reset() throws IOException;
+
+        /**
+         * Check that the subscriber is still there.
+         *
+         * @throws IOException if the subscriber is gone, then closed.
+         */
+        void heartbeat() throws IOException;
+
+        /**
+         * Release the subscriber, once it is gone or when it falls behind.
+         */
+        void close();
+    }
+
+    @FunctionalInterface
+    private interface Message {
+        void deliverTo(Subscriber subscriber) throws IOException;
+    }
+
+    private static final Message RESET = Subscriber::reset;
+
+    private static final Message HEARTBEAT = Subscriber::heartbeat;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final AppointmentEventDTO[] history;
+
+    private final int subscriberQueueSize;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor;
+
+    private long lastSequence;
+
+    public AppointmentEventBus(ApplicationProperties applicationProperties) {
+        ApplicationProperties.AppointmentEvents properties = applicationProperties.getAppointmentEvents();
+        this.history = new AppointmentEventDTO[Math.max(1, properties.getHistorySize())];
+        this.subscriberQueueSize = properties.getSubscriberQueueSize();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "appointment-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getDispatchThreads()), threadFactory);
+    }
+
+    /**
+     * Publish an event once the current transaction commits, or at once outside of a transaction. Nothing is published if the
+     * transaction rolls back.
+     *
+     * @param event the event.
+     */
+    public void publishAfterCommit(AppointmentEventDTO event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            }
+        );
+    }
+
+    private synchronized void publish(AppointmentEventDTO event) {
+        long sequence = ++lastSequence;
+        event.setEventId(epoch + "-" + sequence);
+        history[(int) (sequence % history.length)] = event;
+        Message message = subscriber -> subscriber.send(event);
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(message);
+        }
+    }
+
+    /**
+     * Subscribe to the events published from now on, after the events following the last one received, if any.
+     *
+     * @param lastEventId the id of the last event received by the subscriber, or {@code null} for the new events only.
+     * @param subscriber the subscriber.
+     * @return the subscription, to cancel when the subscriber is gone.
+     */
+    public synchronized Subscription subscribe(String lastEventId, Subscriber subscriber) {
+        Subscription subscription = new Subscription(subscriber);
+        if (lastEventId != null) {
+            long resumeSequence = resumeSequence(lastEventId);
+            if (resumeSequence < 0) {
+                subscription.offer(RESET);
+            } else if (resumeSequence < lastSequence) {
+                subscription.offer(replay(resumeSequence + 1, lastSequence));
+            }
+        }
+        subscriptions.add(subscription);
+        LOG.debug("Subscribed to the appointment events after {}, {} subscribers", lastEventId, subscriptions.size());
+        return subscription;
+    }
+
+    /**
+     * Send the events of the history between two sequence numbers, as a single message. The history may move on meanwhile: the
+     * subscriber is told to reset when an event it misses is dropped before it is sent.
+     */
+    private Message replay(long from, long to) {
+        return subscriber -> {
+            for (long sequence = from; sequence <= to; sequence++) {
+                AppointmentEventDTO event = historyEvent(sequence);
+                if (event == null) {
+                    subscriber.reset();
+                    return;
+                }
+                subscriber.send(event);
+            }
+        };
+    }
+
+    /**
+     * The event of the history with the given sequence number, or {@code null} if it was dropped.
+     */
+    private synchronized AppointmentEventDTO historyEvent(long sequence) {
+        return sequence > lastSequence - history.length ? history[(int) (sequence % history.length)] : null;
+    }
+
+    /**
+     * The sequence number of an event which can be resumed from, or -1.
+     */
+    private long resumeSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId.substring(separator + 1));
+            return sequence >= 0 && sequence <= lastSequence && sequence >= lastSequence - history.length ? sequence : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Check every subscriber, so that the ones gone without closing their connection are released.
+     */
+    @Scheduled(fixedDelayString = "${application.appointment-events.heartbeat-interval:30s}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(HEARTBEAT);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(Subscription::cancel);
+        executor.shutdownNow();
+    }
+
+    /**
+     * The queue of the events waiting to be sent to a subscriber.
+     */
+    public final class Subscription {
+
+        private final Subscriber subscriber;
+
+        private final LinkedBlockingQueue<Message> queue = new LinkedBlockingQueue<>(subscriberQueueSize);
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Subscription(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void offer(Message message) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                LOG.debug("Closing a subscriber of the appointment events, {} events behind", queue.size());
+                cancel();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!cancelled.get() && (message = queue.poll()) != null) {
+                    message.deliverTo(subscriber);
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.debug("Closing a subscriber of the appointment events: {}", e.getMessage());
+                cancel();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!cancelled.get() && !queue.isEmpty()) {
+                // a message was queued after the last poll but before the flag was cleared
+                schedule();
+            }
+        }
+
+        /**
+         * Stop sending the events to the subscriber, and release it.
+         */
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                subscriptions.remove(this);
+                queue.clear();
+                subscriber.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.AppointmentSeries;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentRepository.BookedInterval;
+import com.mycompany.myapp.repository.AppointmentRepository.SeriesOccurrence;
+import com.mycompany.myapp.repository.AppointmentSeriesRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import com.mycompany.myapp.service.dto.AppointmentSeriesDTO;
+import com.mycompany.myapp.service.mapper.AppointmentMapper;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for managing {@link com.mycompany.myapp.domain.AppointmentSeries}.
+ * <p>
+ * A series is booked as a whole: its occurrences are checked against the existing bookings of the user with a single range
+ * query, take their places in the slots of the service with a few statements on the slot counters, and are inserted in the
+ * same transaction, as JDBC batches. Approving or cancelling a series updates its remaining occurrences with a single statement,
+ * after reading them for the {@link AppointmentChangeService change log}, the {@link ServiceDailyStatsService statistics} and the
+ * {@link AppointmentEventBus events}.
+ */
+@org.springframework.stereotype.Service
+@Transactional
+public class AppointmentSeriesService {
+
+    public static final int MAX_OCCURRENCES = 104;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppointmentSeriesService.class);
+
+    private final AppointmentSeriesRepository appointmentSeriesRepository;
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final UserRepository userRepository;
+
+    private final ServiceRepository serviceRepository;
+
+    private final AppointmentMapper appointmentMapper;
+
+    private final SlotOccupancyService slotOccupancyService;
+
+    private final AppointmentChangeService appointmentChangeService;
+
+    private final ServiceDailyStatsService serviceDailyStatsService;
+
+    private final AppointmentEventBus appointmentEventBus;
+
+    public AppointmentSeriesService(
+        AppointmentSeriesRepository appointmentSeriesRepository,
+        AppointmentRepository appointmentRepository,
+        UserRepository userRepository,
+        ServiceRepository serviceRepository,
+        AppointmentMapper appointmentMapper,
+        SlotOccupancyService slotOccupancyService,
+        AppointmentChangeService appointmentChangeService,
+        ServiceDailyStatsService serviceDailyStatsService,
+        AppointmentEventBus appointmentEventBus
+    ) {
+        this.appointmentSeriesRepository = appointmentSeriesRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.userRepository = userRepository;
+        this.serviceRepository = serviceRepository;
+        this.appointmentMapper = appointmentMapper;
+        this.slotOccupancyService = slotOccupancyService;
+        this.appointmentChangeService = appointmentChangeService;
+        this.serviceDailyStatsService = serviceDailyStatsService;
+        this.appointmentEventBus = appointmentEventBus;
+    }
+
+    /**
+     * Book a series of appointments, all in the {@link AppointmentStatus#REQUESTED} status.
+     *
+     * @param appointmentSeriesDTO the series to book.
+     * @return the persisted series, with its appointments.
+     * @throws InvalidRecurrenceException if the recurrence rule is invalid.
+     * @throws AppointmentConflictException if occurrences overlap existing bookings of the user, or fall in full slots of the
+     * service.
+     */
+    public AppointmentSeriesDTO save(AppointmentSeriesDTO appointmentSeriesDTO) {
+        LOG.debug("Request to save AppointmentSeries : {}", appointmentSeriesDTO);
+        ZoneId zone = zone(appointmentSeriesDTO.getTimeZone());
+        List<Occurrence> occurrences = expand(
+            appointmentSeriesDTO.getStartTime(),
+            appointmentSeriesDTO.getEndTime(),
+            appointmentSeriesDTO.getFrequency(),
+            appointmentSeriesDTO.getCount(),
+            appointmentSeriesDTO.getUntil(),
+            zone
+        );
+        Long userId = appointmentSeriesDTO.getUser().getId();
+        Long serviceId = appointmentSeriesDTO.getService() == null ? null : appointmentSeriesDTO.getService().getId();
+        List<Instant> conflicts = findConflicts(userId, occurrences);
+        if (!conflicts.isEmpty()) {
+            throw new AppointmentConflictException(conflicts);
+        }
+
+        AppointmentSeries series = appointmentSeriesRepository.save(
+            new AppointmentSeries()
+                .frequency(appointmentSeriesDTO.getFrequency())
+                .occurrences(occurrences.size())
+                .until(appointmentSeriesDTO.getUntil())
+                .timeZone(zone.getId())
+        );
+        User user = userRepository.getReferenceById(userId);
+        Service service = serviceId == null ? null : serviceRepository.getReferenceById(serviceId);
+        List<Appointment> appointments = appointmentRepository.saveAll(
+            occurrences
+                .stream()
+                .map(occurrence ->
+                    new Appointment()
+                        .startTime(occurrence.startTime())
+                        .endTime(occurrence.endTime())
+                        .status(AppointmentStatus.REQUESTED)
+                        .specialNeeds(appointmentSeriesDTO.getSpecialNeeds())
+                        .user(user)
+                        .service(service)
+                        .series(series)
+                )
+                .toList()
+        );
+        if (serviceId != null) {
+            slotOccupancyService.bookAll(serviceId, occurrences.stream().map(Occurrence::startTime).toList());
+        }
+        AppointmentSeriesDTO result = toDto(series, appointments);
+        for (AppointmentDTO appointmentDTO : result.getAppointments()) {
+            appointmentEventBus.publishAfterCommit(AppointmentEventDTO.of(AppointmentEventDTO.Type.CREATED, appointmentDTO));
+        }
+        return result;
+    }
+
+    /**
+     * Get one series by id, with its appointments.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    @Transactional(readOnly = true)
+    public Optional<AppointmentSeriesDTO> findOne(Long id) {
+        LOG.debug("Request to get AppointmentSeries : {}", id);
+        return appointmentSeriesRepository
+            .findById(id)
+            .map(series -> toDto(series, appointmentRepository.findAllBySeriesIdOrderByStartTime(series.getId())));
+    }
+
+    /**
+     * Approve the requested appointments of a series which have not started yet.
+     *
+     * @param id the id of the series.
+     * @return the number of approved appointments, or empty if the series does not exist.
+     */
+    public Optional<Integer> approve(Long id) {
+        LOG.debug("Request to approve AppointmentSeries : {}", id);
+        return updateStatus(id, List.of(AppointmentStatus.REQUESTED), AppointmentStatus.SCHEDULED);
+    }
+
+    /**
+     * Cancel the requested or scheduled appointments of a series which have not started yet.
+     *
+     * @param id the id of the series.
+     * @return the number of cancelled appointments, or empty if the series does not exist.
+     */
+    public Optional<Integer> cancel(Long id) {
+        LOG.debug("Request to cancel AppointmentSeries : {}", id);
+        return updateStatus(id, List.of(AppointmentStatus.REQUESTED, AppointmentStatus.SCHEDULED), AppointmentStatus.CANCELLED);
+    }
+
+    private Optional<Integer> updateStatus(Long id, Collection<AppointmentStatus> statuses, AppointmentStatus status) {
+        if (!appointmentSeriesRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        // the occurrences are locked, so the places, the changes, the statistics and the events are derived from the very rows
+        // the bulk update changes, and an occurrence changed concurrently is counted once
+        List<SeriesOccurrence> occurrences = appointmentRepository.findOccurrencesBySeriesId(id, statuses, now);
+        if (occurrences.isEmpty()) {
+            return Optional.of(0);
+        }
+        if (status == AppointmentStatus.CANCELLED) {
+            slotOccupancyService.releaseOccurrences(occurrences);
+        }
+        // the bulk update bypasses the entity events which record the changes of the appointments and count them
+        List<Long> ids = occurrences.stream().map(SeriesOccurrence::getId).toList();
+        appointmentChangeService.recordAll(ids);
+        for (SeriesOccurrence occurrence : occurrences) {
+            Long serviceId = occurrence.getServiceId();
+            Instant startTime = occurrence.getStartTime();
+            serviceDailyStatsService.recordChange(
+                serviceId,
+                startTime,
+                occurrence.getStatus(),
+                serviceId,
+                startTime,
+                status,
+                occurrence.getCreatedDate()
+            );
+            appointmentEventBus.publishAfterCommit(
+                AppointmentEventDTO.of(
+                    AppointmentEventDTO.Type.UPDATED,
+                    occurrence.getId(),
+                    status,
+                    startTime,
+                    occurrence.getEndTime(),
+                    serviceId,
+                    occurrence.getUserLogin()
+                )
+            );
+        }
+        return Optional.of(appointmentRepository.updateStatusByIdIn(ids, status, now));
+    }
+
+    /**
+     * Start times of the occurrences which overlap a booking of the user. The bookings over the time span of the series are
+     * fetched at once, and each of them is located among the occurrences by a binary search, which relies on the occurrences
+     * being sorted and disjoint.
+     */
+    private List<Instant> findConflicts(Long userId, List<Occurrence> occurrences) {
+        List<BookedInterval> bookedIntervals = appointmentRepository.findBookedIntervals(
+            userId,
+            occurrences.get(0).startTime(),
+            occurrences.get(occurrences.size() - 1).endTime(),
+            AppointmentStatus.CANCELLED
+        );
+        BitSet conflicting = new BitSet(occurrences.size());
+        for (BookedInterval bookedInterval : bookedIntervals) {
+            for (
+                int i = firstEndingAfter(occurrences, bookedInterval.getStartTime());
+                i < occurrences.size() && occurrences.get(i).startTime().isBefore(bookedInterval.getEndTime());
+                i++
+            ) {
+                conflicting.set(i);
+            }
+        }
+        return conflicting.stream().mapToObj(i -> occurrences.get(i).startTime()).toList();
+    }
+
+    private static int firstEndingAfter(List<Occurrence> occurrences, Instant time) {
+        int low = 0;
+        int high = occurrences.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (occurrences.get(middle).endTime().isAfter(time)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Expand a recurrence rule into its occurrences. They keep the local start time of the first one in the given zone, and a
+     * monthly occurrence falls on the last day of the month when the month is too short.
+     */
+    static List<Occurrence> expand(
+        Instant startTime,
+        Instant endTime,
+        RecurrenceFrequency frequency,
+        Integer count,
+        Instant until,
+        ZoneId zone
+    ) {
+        if (!endTime.isAfter(startTime)) {
+            throw new InvalidRecurrenceException("The end time must be after the start time");
+        }
+        if ((count == null) == (until == null)) {
+            throw new InvalidRecurrenceException("Exactly one of the count and the until time is required");
+        }
+        Duration duration = Duration.between(startTime, endTime);
+        ZonedDateTime first = startTime.atZone(zone);
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (int i = 0; count == null || i < count; i++) {
+            ZonedDateTime occurrenceStart = switch (frequency) {
+                case WEEKLY -> first.plusWeeks(i);
+                case BIWEEKLY -> first.plusWeeks(2L * i);
+                case MONTHLY -> first.plusMonths(i);
+            };
+            Instant start = occurrenceStart.toInstant();
+            if (until != null && start.isAfter(until)) {
+                break;
+            }
+            if (occurrences.size() == MAX_OCCURRENCES) {
+                throw new InvalidRecurrenceException("A series cannot have more than " + MAX_OCCURRENCES + " occurrences");
+            }
+            if (!occurrences.isEmpty() && occurrences.get(occurrences.size() - 1).endTime().isAfter(start)) {
+                throw new InvalidRecurrenceException("The occurrences of a series cannot overlap");
+            }
+            occurrences.add(new Occurrence(start, start.plus(duration)));
+        }
+        if (occurrences.isEmpty()) {
+            throw new InvalidRecurrenceException("The until time must not be before the start time");
+        }
+        return occurrences;
+    }
+
+    private static ZoneId zone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone == null ? "UTC" : timeZone);
+        } catch (DateTimeException e) {
+            throw new InvalidRecurrenceException("Unknown time zone: " + timeZone);
+        }
+    }
+
+    private AppointmentSeriesDTO toDto(AppointmentSeries series, List<Appointment> appointments) {
+        List<AppointmentDTO> appointmentDTOs = appointmentMapper.toDto(appointments);
+        AppointmentSeriesDTO appointmentSeriesDTO = new AppointmentSeriesDTO();
+        appointmentSeriesDTO.setId(series.getId());
+        appointmentSeriesDTO.setFrequency(series.getFrequency());
+        appointmentSeriesDTO.setCount(series.getOccurrences());
+        appointmentSeriesDTO.setUntil(series.getUntil());
+        appointmentSeriesDTO.setTimeZone(series.getTimeZone());
+        if (!appointmentDTOs.isEmpty()) {
+            AppointmentDTO first = appointmentDTOs.get(0);
+            appointmentSeriesDTO.setStartTime(first.getStartTime());
+            appointmentSeriesDTO.setEndTime(first.getEndTime());
+            appointmentSeriesDTO.setSpecialNeeds(first.getSpecialNeeds());
+            appointmentSeriesDTO.setUser(first.getUser());
+            appointmentSeriesDTO.setService(first.getService());
+        }
+        appointmentSeriesDTO.setAppointments(appointmentDTOs);
+        return appointmentSeriesDTO;
+    }
+
+    record Occurrence(Instant startTime, Instant endTime) {}
+}
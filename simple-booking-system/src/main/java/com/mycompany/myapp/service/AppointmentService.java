@@ -1,11 +1,26 @@
 package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
 import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentRepository.AppointmentRow;
+import com.mycompany.myapp.repository.AppointmentRepository.AppointmentVersion;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
 import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import com.mycompany.myapp.service.dto.NormalizedAppointmentDTO;
+import com.mycompany.myapp.service.dto.NormalizedAppointmentsDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
 import com.mycompany.myapp.service.mapper.AppointmentMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -15,6 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.mycompany.myapp.domain.Appointment}.
+ * <p>
+ * Every write which changes the slot taken by an appointment moves its booking between the slot counters of
+ * {@link SlotOccupancyService}, which refuses it when the new slot is full. The counters are changed last, so that the row lock
+ * of a slot is held for the rest of the transaction only, and not while the id of a new appointment is allocated. The place
+ * freed in the previous slot goes to the next waiter of the slot, if any, through {@link WaitlistService}.
+ * <p>
+ * Every change of an appointment is published to the {@link AppointmentEventBus} once its transaction commits.
  */
 @Service
 @Transactional
@@ -26,22 +48,43 @@ public class AppointmentService {
 
     private final AppointmentMapper appointmentMapper;
 
-    public AppointmentService(AppointmentRepository appointmentRepository, AppointmentMapper appointmentMapper) {
+    private final SlotOccupancyService slotOccupancyService;
+
+    private final SlotHoldService slotHoldService;
+
+    private final AppointmentEventBus appointmentEventBus;
+
+    public AppointmentService(
+        AppointmentRepository appointmentRepository,
+        AppointmentMapper appointmentMapper,
+        SlotOccupancyService slotOccupancyService,
+        SlotHoldService slotHoldService,
+        AppointmentEventBus appointmentEventBus
+    ) {
         this.appointmentRepository = appointmentRepository;
         this.appointmentMapper = appointmentMapper;
+        this.slotOccupancyService = slotOccupancyService;
+        this.slotHoldService = slotHoldService;
+        this.appointmentEventBus = appointmentEventBus;
     }
 
     /**
-     * Save a appointment.
+     * Save a appointment. When it comes with a hold of its slot by the current user which has not expired, it takes over the
+     * place of the hold, and the hold is consumed.
      *
      * @param appointmentDTO the entity to save.
      * @return the persisted entity.
+     * @throws AppointmentConflictException if the slot of the appointment is full and not held.
      */
     public AppointmentDTO save(AppointmentDTO appointmentDTO) {
         LOG.debug("Request to save Appointment : {}", appointmentDTO);
         Appointment appointment = appointmentMapper.toEntity(appointmentDTO);
         appointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toDto(appointment);
+        Slot slot = Slot.of(appointment);
+        if (slot == null || appointmentDTO.getHoldId() == null || !slotHoldService.consume(appointmentDTO.getHoldId(), slot)) {
+            slotOccupancyService.move(null, slot);
+        }
+        return publish(AppointmentEventDTO.Type.CREATED, appointmentMapper.toDto(appointment));
     }
 
     /**
@@ -49,12 +92,15 @@ public class AppointmentService {
      *
      * @param appointmentDTO the entity to save.
      * @return the persisted entity.
+     * @throws AppointmentConflictException if the appointment moves to a slot which is full.
      */
     public AppointmentDTO update(AppointmentDTO appointmentDTO) {
         LOG.debug("Request to update Appointment : {}", appointmentDTO);
+        Slot previousSlot = appointmentRepository.findById(appointmentDTO.getId()).map(Slot::of).orElse(null);
         Appointment appointment = appointmentMapper.toEntity(appointmentDTO);
         appointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toDto(appointment);
+        slotOccupancyService.move(previousSlot, Slot.of(appointment));
+        return publish(AppointmentEventDTO.Type.UPDATED, appointmentMapper.toDto(appointment));
     }
 
     /**
@@ -62,6 +108,7 @@ public class AppointmentService {
      *
      * @param appointmentDTO the entity to update partially.
      * @return the persisted entity.
+     * @throws AppointmentConflictException if the appointment moves to a slot which is full.
      */
     public Optional<AppointmentDTO> partialUpdate(AppointmentDTO appointmentDTO) {
         LOG.debug("Request to partially update Appointment : {}", appointmentDTO);
@@ -69,12 +116,15 @@ public class AppointmentService {
         return appointmentRepository
             .findById(appointmentDTO.getId())
             .map(existingAppointment -> {
+                Slot previousSlot = Slot.of(existingAppointment);
                 appointmentMapper.partialUpdate(existingAppointment, appointmentDTO);
+                slotOccupancyService.move(previousSlot, Slot.of(existingAppointment));
 
                 return existingAppointment;
             })
             .map(appointmentRepository::save)
-            .map(appointmentMapper::toDto);
+            .map(appointmentMapper::toDto)
+            .map(result -> publish(AppointmentEventDTO.Type.UPDATED, result));
     }
 
     /**
@@ -98,6 +148,49 @@ public class AppointmentService {
         return appointmentRepository.findAllWithEagerRelationships(pageable).map(appointmentMapper::toDto);
     }
 
+    /**
+     * Get a page of appointments referencing their users and services by id, each user and service being mapped once for the
+     * page, in the same pass as the appointments.
+     *
+     * @param pageable the pagination information.
+     * @return the page of appointments, with their users and services by id.
+     */
+    @Transactional(readOnly = true)
+    public NormalizedAppointmentsDTO findAllNormalized(Pageable pageable) {
+        LOG.debug("Request to get a normalized page of Appointments");
+        Page<Appointment> page = appointmentRepository.findAllWithEagerRelationships(pageable);
+        Map<Long, UserDTO> users = new LinkedHashMap<>();
+        Map<Long, ServiceDTO> services = new LinkedHashMap<>();
+        List<NormalizedAppointmentDTO> appointments = new ArrayList<>(page.getNumberOfElements());
+        for (Appointment appointment : page) {
+            User user = appointment.getUser();
+            if (user != null) {
+                users.computeIfAbsent(user.getId(), id -> appointmentMapper.toDtoUserLogin(user));
+            }
+            com.mycompany.myapp.domain.Service service = appointment.getService();
+            if (service != null) {
+                services.computeIfAbsent(service.getId(), id -> appointmentMapper.toDtoServiceName(service));
+            }
+            appointments.add(appointmentMapper.toNormalizedDto(appointment));
+        }
+        return new NormalizedAppointmentsDTO(appointments, users, services, page.getTotalElements());
+    }
+
+    /**
+     * Read a page of appointments as rows, handed to the consumer one at a time as they are read, so that neither the entities
+     * nor the DTOs of the page are built. The transaction stays open until the consumer has taken the last row.
+     *
+     * @param pageable the pagination information.
+     * @param consumer the consumer of the rows.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Pageable pageable, Consumer<AppointmentRow> consumer) {
+        LOG.debug("Request to stream a page of Appointments");
+        try (Stream<AppointmentRow> rows = appointmentRepository.streamAllRows(pageable)) {
+            rows.forEach(consumer);
+        }
+    }
+
     /**
      * Get one appointment by id.
      *
@@ -110,6 +203,26 @@ public class AppointmentService {
         return appointmentRepository.findOneWithEagerRelationships(id).map(appointmentMapper::toDto);
     }
 
+    /**
+     * Get the version of one appointment, changed by every write to it or to the user and service embedded in its DTO.
+     *
+     * @param id the id of the entity.
+     * @return the version, or empty if the entity does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Long id) {
+        return appointmentRepository.findVersionById(id).map(AppointmentService::toVersion);
+    }
+
+    private static String toVersion(AppointmentVersion version) {
+        return String.join(
+            ":",
+            String.valueOf(version.getAppointmentLastModifiedDate()),
+            String.valueOf(version.getUserLastModifiedDate()),
+            String.valueOf(version.getServiceLastModifiedDate())
+        );
+    }
+
     /**
      * Delete the appointment by id.
      *
@@ -117,7 +230,17 @@ public class AppointmentService {
      */
     public void delete(Long id) {
         LOG.debug("Request to delete Appointment : {}", id);
+        Optional<Appointment> appointment = appointmentRepository.findById(id);
         appointmentRepository.deleteById(id);
+        slotOccupancyService.move(appointment.map(Slot::of).orElse(null), null);
+        if (appointment.isPresent()) {
+            appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(id));
+        }
+    }
+
+    private AppointmentDTO publish(AppointmentEventDTO.Type type, AppointmentDTO appointmentDTO) {
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.of(type, appointmentDTO));
+        return appointmentDTO;
     }
 
     /**
@@ -138,7 +261,7 @@ public class AppointmentService {
                     LOG.info("Updating appointment status from REQUESTED to SCHEDULED");
                     appointment.setStatus(AppointmentStatus.SCHEDULED);
                     appointmentRepository.save(appointment);
-                    return appointmentMapper.toDto(appointment);
+                    return publish(AppointmentEventDTO.Type.UPDATED, appointmentMapper.toDto(appointment));
                 } else {
                     LOG.warn("Cannot approve appointment with status: {}", appointment.getStatus());
                     return appointmentMapper.toDto(appointment);
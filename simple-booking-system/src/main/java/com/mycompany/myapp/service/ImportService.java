@@ -0,0 +1,420 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.ServiceRepository.ServiceReference;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.repository.UserRepository.UserReference;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import com.mycompany.myapp.service.dto.AppointmentImportRowDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.mapper.ServiceMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service importing appointments and services in bulk, from CSV uploads with a header row or from NDJSON uploads.
+ * <p>
+ * The upload is read as a stream and validated row by row. Valid rows are written by chunks of {@value #CHUNK_SIZE}, each chunk in
+ * its own transaction, and the users and services referenced by a chunk are resolved with one query each. The persistence context
+ * is cleared after every chunk, so that the heap needed does not depend on the size of the upload. Rejected rows do not prevent
+ * the others from being imported: they are reported to the caller as soon as they are found, thus not necessarily in order.
+ * <p>
+ * Imported appointments are counted in the slot counters of their services, with one update per slot and chunk, but are not
+ * checked against the capacity of the services: they are bookings which were already accepted. They are published to the
+ * {@link AppointmentEventBus} once their chunk commits.
+ */
+@org.springframework.stereotype.Service
+public class ImportService {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportService.class);
+
+    public enum Format {
+        CSV,
+        NDJSON,
+    }
+
+    /**
+     * A rejected row, numbered from 1 in the order of the upload, neither the CSV header nor the blank NDJSON lines being counted.
+     */
+    public record RowError(long row, List<String> errors) {}
+
+    public record Summary(long imported, long rejected) {}
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader csvReader;
+
+    private final Validator validator;
+
+    private final UserRepository userRepository;
+
+    private final ServiceRepository serviceRepository;
+
+    private final ServiceMapper serviceMapper;
+
+    private final SlotOccupancyService slotOccupancyService;
+
+    private final AppointmentEventBus appointmentEventBus;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ImportService(
+        ObjectMapper objectMapper,
+        Validator validator,
+        UserRepository userRepository,
+        ServiceRepository serviceRepository,
+        ServiceMapper serviceMapper,
+        SlotOccupancyService slotOccupancyService,
+        AppointmentEventBus appointmentEventBus,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.objectMapper = objectMapper;
+        this.csvReader = new CsvMapper().readerFor(JsonNode.class).with(CsvSchema.emptySchema().withHeader().withNullValue(""));
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.serviceRepository = serviceRepository;
+        this.serviceMapper = serviceMapper;
+        this.slotOccupancyService = slotOccupancyService;
+        this.appointmentEventBus = appointmentEventBus;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import appointments, see {@link AppointmentImportRowDTO} for the fields of a row.
+     *
+     * @param input the upload.
+     * @param format the format of the upload.
+     * @param errorConsumer the consumer of the rejected rows.
+     * @return the number of imported and rejected rows.
+     * @throws IOException if the upload cannot be read.
+     */
+    public Summary importAppointments(InputStream input, Format format, Consumer<RowError> errorConsumer) throws IOException {
+        LOG.debug("Request to import Appointments from {}", format);
+        AppointmentReferences references = new AppointmentReferences();
+        return importRows(input, format, AppointmentImportRowDTO.class, errorConsumer, chunk -> writeAppointments(chunk, references));
+    }
+
+    /**
+     * Import services, see {@link ServiceDTO} for the fields of a row.
+     *
+     * @param input the upload.
+     * @param format the format of the upload.
+     * @param errorConsumer the consumer of the rejected rows.
+     * @return the number of imported and rejected rows.
+     * @throws IOException if the upload cannot be read.
+     */
+    public Summary importServices(InputStream input, Format format, Consumer<RowError> errorConsumer) throws IOException {
+        LOG.debug("Request to import Services from {}", format);
+        return importRows(input, format, ServiceDTO.class, errorConsumer, this::writeServices);
+    }
+
+    private <T> Summary importRows(
+        InputStream input,
+        Format format,
+        Class<T> rowType,
+        Consumer<RowError> errorConsumer,
+        ChunkWriter<T> writer
+    ) throws IOException {
+        long number = 0;
+        long imported = 0;
+        long rejected = 0;
+        List<Row<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (RowReader reader = open(input, format)) {
+            for (RawRow raw = reader.next(); raw != null; raw = reader.next()) {
+                number++;
+                List<String> problems = new ArrayList<>();
+                T value = raw.error() == null ? read(raw.node(), rowType, problems) : null;
+                if (raw.error() != null) {
+                    problems.add(raw.error());
+                }
+                if (problems.isEmpty()) {
+                    chunk.add(new Row<>(number, value));
+                } else {
+                    rejected++;
+                    errorConsumer.accept(new RowError(number, problems));
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    List<RowError> chunkErrors = write(chunk, writer);
+                    imported += chunk.size() - chunkErrors.size();
+                    rejected += chunkErrors.size();
+                    chunkErrors.forEach(errorConsumer);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            List<RowError> chunkErrors = write(chunk, writer);
+            imported += chunk.size() - chunkErrors.size();
+            rejected += chunkErrors.size();
+            chunkErrors.forEach(errorConsumer);
+        }
+        LOG.info("Imported {} rows, rejected {} rows", imported, rejected);
+        return new Summary(imported, rejected);
+    }
+
+    private <T> T read(JsonNode node, Class<T> rowType, List<String> problems) {
+        T value;
+        try {
+            value = objectMapper.treeToValue(node, rowType);
+        } catch (JsonProcessingException e) {
+            problems.add(
+                e instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()
+                    ? mappingException.getPath().get(0).getFieldName() + ": invalid value"
+                    : "invalid row"
+            );
+            return null;
+        }
+        validator
+            .validate(value)
+            .stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .forEach(problems::add);
+        return value;
+    }
+
+    private <T> List<RowError> write(List<Row<T>> chunk, ChunkWriter<T> writer) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<RowError> errors = writer.write(chunk);
+                entityManager.flush();
+                entityManager.clear();
+                return errors;
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            // the shared entity manager does not translate its exceptions, unlike the repositories
+            LOG.warn("Could not import a chunk of {} rows: {}", chunk.size(), e.getMessage());
+            List<String> errors = List.of("not imported: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            return chunk.stream().map(row -> new RowError(row.number(), errors)).toList();
+        }
+    }
+
+    private List<RowError> writeAppointments(List<Row<AppointmentImportRowDTO>> chunk, AppointmentReferences references) {
+        chunk.forEach(row -> row.value().setUser(row.value().getUser().toLowerCase(Locale.ENGLISH)));
+        references.resolve(chunk);
+        List<RowError> errors = new ArrayList<>();
+        Map<Slot, Integer> slotCounts = new HashMap<>();
+        for (Row<AppointmentImportRowDTO> row : chunk) {
+            AppointmentImportRowDTO value = row.value();
+            List<String> problems = new ArrayList<>();
+            Long userId = references.userIds.get(value.getUser());
+            if (userId == null) {
+                problems.add("user: unknown login '" + value.getUser() + "'");
+            }
+            Long serviceId = null;
+            if (value.getService() != null) {
+                serviceId = references.serviceIds.get(value.getService());
+                if (serviceId == null) {
+                    problems.add("service: unknown name '" + value.getService() + "'");
+                } else if (references.ambiguousServiceNames.contains(value.getService())) {
+                    problems.add("service: several services are named '" + value.getService() + "'");
+                }
+            }
+            if (!problems.isEmpty()) {
+                errors.add(new RowError(row.number(), problems));
+                continue;
+            }
+            Appointment appointment = new Appointment()
+                .startTime(value.getStartTime())
+                .endTime(value.getEndTime())
+                .status(value.getStatus())
+                .specialNeeds(value.getSpecialNeeds())
+                .user(entityManager.getReference(User.class, userId));
+            if (serviceId != null) {
+                appointment.service(entityManager.getReference(Service.class, serviceId));
+            }
+            entityManager.persist(appointment);
+            appointmentEventBus.publishAfterCommit(
+                AppointmentEventDTO.of(
+                    AppointmentEventDTO.Type.CREATED,
+                    appointment.getId(),
+                    value.getStatus(),
+                    value.getStartTime(),
+                    value.getEndTime(),
+                    serviceId,
+                    value.getUser()
+                )
+            );
+            Slot slot = Slot.of(appointment);
+            if (slot != null) {
+                slotCounts.merge(slot, 1, Integer::sum);
+            }
+        }
+        if (!slotCounts.isEmpty()) {
+            slotOccupancyService.add(slotCounts);
+        }
+        return errors;
+    }
+
+    private List<RowError> writeServices(List<Row<ServiceDTO>> chunk) {
+        List<RowError> errors = new ArrayList<>();
+        for (Row<ServiceDTO> row : chunk) {
+            if (row.value().getId() != null) {
+                errors.add(new RowError(row.number(), List.of("id: must be empty")));
+                continue;
+            }
+            entityManager.persist(serviceMapper.toEntity(row.value()));
+        }
+        return errors;
+    }
+
+    private RowReader open(InputStream input, Format format) throws IOException {
+        return switch (format) {
+            case CSV -> csvRows(input);
+            case NDJSON -> ndjsonRows(input);
+        };
+    }
+
+    private RowReader csvRows(InputStream input) throws IOException {
+        MappingIterator<JsonNode> rows = csvReader.readValues(input);
+        return new RowReader() {
+            private boolean malformed;
+
+            @Override
+            public RawRow next() throws IOException {
+                if (malformed) {
+                    return null;
+                }
+                try {
+                    return rows.hasNextValue() ? new RawRow(rows.nextValue(), null) : null;
+                } catch (JsonProcessingException e) {
+                    // the parser cannot resynchronize on the next row
+                    malformed = true;
+                    return new RawRow(null, "malformed CSV, the rest of the upload is ignored: " + e.getOriginalMessage());
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                rows.close();
+            }
+        };
+    }
+
+    private RowReader ndjsonRows(InputStream input) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return new RowReader() {
+            @Override
+            public RawRow next() throws IOException {
+                String line = lines.readLine();
+                while (line != null && line.isBlank()) {
+                    line = lines.readLine();
+                }
+                if (line == null) {
+                    return null;
+                }
+                try {
+                    return new RawRow(objectMapper.readTree(line), null);
+                } catch (JsonProcessingException e) {
+                    return new RawRow(null, "malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                lines.close();
+            }
+        };
+    }
+
+    /**
+     * Identifiers of the users and services referenced by the rows of an appointment import, resolved chunk by chunk.
+     */
+    private final class AppointmentReferences {
+
+        private final Map<String, Long> userIds = new HashMap<>();
+
+        private final Map<String, Long> serviceIds = new HashMap<>();
+
+        private final Set<String> ambiguousServiceNames = new HashSet<>();
+
+        void resolve(List<Row<AppointmentImportRowDTO>> chunk) {
+            Set<String> logins = chunk
+                .stream()
+                .map(row -> row.value().getUser())
+                .filter(login -> !userIds.containsKey(login))
+                .collect(Collectors.toSet());
+            if (!logins.isEmpty()) {
+                for (UserReference user : userRepository.findAllReferencesByLoginIn(logins)) {
+                    userIds.put(user.getLogin(), user.getId());
+                }
+            }
+            Set<String> names = chunk
+                .stream()
+                .map(row -> row.value().getService())
+                .filter(Objects::nonNull)
+                .filter(name -> !serviceIds.containsKey(name))
+                .collect(Collectors.toSet());
+            if (!names.isEmpty()) {
+                for (ServiceReference service : serviceRepository.findAllReferencesByNameIn(names)) {
+                    Long previous = serviceIds.putIfAbsent(service.getName(), service.getId());
+                    if (previous != null && !previous.equals(service.getId())) {
+                        ambiguousServiceNames.add(service.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    private record Row<T>(long number, T value) {}
+
+    private record RawRow(JsonNode node, String error) {}
+
+    private interface RowReader extends Closeable {
+        /**
+         * @return the next row, or {@code null} at the end of the upload.
+         */
+        RawRow next() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        /**
+         * Persist the rows of a chunk, within its transaction.
+         *
+         * @return the rows which could not be persisted.
+         */
+        List<RowError> write(List<Row<T>> chunk);
+    }
+}
@@ -0,0 +1,10 @@
+package com.mycompany.myapp.service;
+
+public class InvalidRecurrenceException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidRecurrenceException(String message) {
+        super(message);
+    }
+}
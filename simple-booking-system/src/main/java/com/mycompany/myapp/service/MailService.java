@@ -182,4 +182,28 @@ public class MailService {
 
         sendEmail(user.getEmail(), subject, content, false, true);
     }
+
+    @Async
+    public void sendWaitlistPromotionEmail(User user, AppointmentDTO appointment) {
+        log.debug("Sending waitlist promotion email to '{}'", user.getEmail());
+        if (user.getEmail() == null) {
+            log.debug("Email doesn't exist for user '{}'", user.getLogin());
+            return;
+        }
+
+        Locale locale = Locale.forLanguageTag(user.getLangKey());
+        Context context = new Context(locale);
+        context.setVariable(USER, user);
+        context.setVariable(APPOINTMENT, appointment);
+        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy 'at' h:mm a").withZone(ZoneId.systemDefault());
+        context.setVariable(APPOINTMENT_DATETIME, formatter.format(appointment.getStartTime()));
+        context.setVariable(SERVICE_NAME, appointment.getService() != null ? appointment.getService().getName() : "Not specified");
+
+        String content = templateEngine.process("mail/waitlistPromotionEmail", context);
+        String subject = messageSource.getMessage("email.appointment.waitlist.title", null, locale);
+
+        sendEmail(user.getEmail(), subject, content, false, true);
+    }
 }
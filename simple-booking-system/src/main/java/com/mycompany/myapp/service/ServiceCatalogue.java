@@ -0,0 +1,260 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.mapper.ServiceMapper;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Immutable in-memory snapshot of the whole {@link Service} catalogue.
+ * <p>
+ * The snapshot is loaded on first use and dropped whenever a service is written: readers then rebuild it from
+ * the database, so a new snapshot is swapped in atomically after each write. A transaction which has written a
+ * service does not use the snapshot until it completes, so that it keeps reading its own uncommitted writes.
+ * <p>
+ * The snapshot is loaded in a read-write transaction of its own, so that it is read from the primary database even when the
+ * caller is in a read-only transaction routed to a replica: a lagging replica would be cached until the next write.
+ */
+@Component
+public class ServiceCatalogue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceCatalogue.class);
+
+    private static final Map<String, Comparator<ServiceDTO>> COMPARATORS = Map.of(
+        "id",
+        comparing(ServiceDTO::getId),
+        "name",
+        comparing(ServiceDTO::getName),
+        "description",
+        comparing(ServiceDTO::getDescription),
+        "price",
+        comparing(ServiceDTO::getPrice)
+    );
+
+    private static final Map<String, Comparator<ServiceDTO>> CASE_INSENSITIVE_COMPARATORS = Map.of(
+        "name",
+        comparing(ServiceDTO::getName, String.CASE_INSENSITIVE_ORDER),
+        "description",
+        comparing(ServiceDTO::getDescription, String.CASE_INSENSITIVE_ORDER)
+    );
+
+    private final ServiceRepository serviceRepository;
+
+    private final ServiceMapper serviceMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public ServiceCatalogue(
+        ServiceRepository serviceRepository,
+        ServiceMapper serviceMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.serviceRepository = serviceRepository;
+        this.serviceMapper = serviceMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the current snapshot, loading it if needed.
+     *
+     * @return the snapshot, or empty if the current transaction has written a service and must read from the database.
+     */
+    public Optional<Snapshot> current() {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return Optional.empty();
+        }
+        Snapshot current = snapshot.get();
+        if (current != null && current.generation == generation.get()) {
+            return Optional.of(current);
+        }
+        return Optional.of(load());
+    }
+
+    /**
+     * Drop the snapshot after a service has been inserted, updated or deleted.
+     * <p>
+     * When called within a transaction, the snapshot is bypassed by that transaction and dropped again once it
+     * completes, so that no snapshot built before the commit survives it.
+     */
+    public void evict() {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(ServiceCatalogue.this);
+                        invalidate();
+                    }
+                }
+            );
+        }
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private synchronized Snapshot load() {
+        long loadedGeneration = generation.get();
+        Snapshot current = snapshot.get();
+        if (current != null && current.generation == loadedGeneration) {
+            return current;
+        }
+        LOG.debug("Loading the Service catalogue");
+        List<Service> services = transactionTemplate.execute(status -> serviceRepository.findAll(Sort.by("id")));
+        Instant lastModifiedDate = services
+            .stream()
+            .map(Service::getLastModifiedDate)
+            .filter(Objects::nonNull)
+            .max(Instant::compareTo)
+            .orElse(null);
+        Snapshot loaded = new Snapshot(
+            loadedGeneration,
+            serviceMapper,
+            services.stream().map(serviceMapper::toDto).toList(),
+            services.stream().collect(Collectors.toUnmodifiableMap(Service::getId, service -> String.valueOf(service.getLastModifiedDate()))),
+            services.size() + ":" + lastModifiedDate
+        );
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<ServiceDTO> comparing(Function<ServiceDTO, T> property) {
+        return comparing(property, Comparator.naturalOrder());
+    }
+
+    private static <T> Comparator<ServiceDTO> comparing(Function<ServiceDTO, T> property, Comparator<? super T> comparator) {
+        return Comparator.comparing(property, Comparator.nullsFirst(comparator));
+    }
+
+    /**
+     * A consistent view of all services, ordered by id. The services it returns are copies, so that a caller changing them
+     * does not change the snapshot.
+     */
+    public static final class Snapshot {
+
+        private final long generation;
+
+        private final ServiceMapper serviceMapper;
+
+        private final List<ServiceDTO> services;
+
+        private final Map<Long, ServiceDTO> servicesById;
+
+        private final Map<Long, String> versions;
+
+        private final String catalogueVersion;
+
+        private Snapshot(
+            long generation,
+            ServiceMapper serviceMapper,
+            List<ServiceDTO> services,
+            Map<Long, String> versions,
+            String catalogueVersion
+        ) {
+            this.generation = generation;
+            this.serviceMapper = serviceMapper;
+            this.services = services;
+            this.servicesById = services.stream().collect(Collectors.toUnmodifiableMap(ServiceDTO::getId, Function.identity()));
+            this.versions = versions;
+            this.catalogueVersion = catalogueVersion;
+        }
+
+        /**
+         * Get a page of services, sorted in memory.
+         *
+         * @param pageable the pagination information.
+         * @return the page, or empty if the requested sort is not supported by the snapshot.
+         */
+        public Optional<Page<ServiceDTO>> findAll(Pageable pageable) {
+            List<ServiceDTO> sorted = services;
+            if (pageable.getSort().isSorted()) {
+                Comparator<ServiceDTO> comparator = null;
+                for (Sort.Order order : pageable.getSort()) {
+                    Comparator<ServiceDTO> next = comparator(order);
+                    if (next == null) {
+                        return Optional.empty();
+                    }
+                    comparator = comparator == null ? next : comparator.thenComparing(next);
+                }
+                sorted = services.stream().sorted(comparator).toList();
+            }
+            List<ServiceDTO> content = sorted;
+            if (pageable.isPaged()) {
+                int from = (int) Math.min(pageable.getOffset(), sorted.size());
+                int to = Math.min(from + pageable.getPageSize(), sorted.size());
+                content = sorted.subList(from, to);
+            }
+            return Optional.of(new PageImpl<>(content.stream().map(serviceMapper::copy).toList(), pageable, services.size()));
+        }
+
+        /**
+         * Get one service by id.
+         *
+         * @param id the id of the entity.
+         * @return the service.
+         */
+        public Optional<ServiceDTO> findOne(Long id) {
+            return Optional.ofNullable(servicesById.get(id)).map(serviceMapper::copy);
+        }
+
+        /**
+         * Get the version of one service.
+         *
+         * @param id the id of the entity.
+         * @return the version, or empty if the entity does not exist.
+         */
+        public Optional<String> findVersion(Long id) {
+            return Optional.ofNullable(versions.get(id));
+        }
+
+        /**
+         * Get the version of the whole catalogue.
+         *
+         * @return the version.
+         */
+        public String getCatalogueVersion() {
+            return catalogueVersion;
+        }
+
+        private static Comparator<ServiceDTO> comparator(Sort.Order order) {
+            Comparator<ServiceDTO> comparator = order.isIgnoreCase()
+                ? CASE_INSENSITIVE_COMPARATORS.getOrDefault(order.getProperty(), COMPARATORS.get(order.getProperty()))
+                : COMPARATORS.get(order.getProperty());
+            if (comparator == null || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                return null;
+            }
+            return order.isAscending() ? comparator : comparator.reversed();
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.ServiceDailyStats;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentRepository.StatusCount;
+import com.mycompany.myapp.repository.ServiceDailyStatsRepository;
+import com.mycompany.myapp.service.dto.ServiceDailyStatsDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for the daily statistics of the {@link com.mycompany.myapp.domain.Service}s, see
+ * {@link ServiceDailyStats}.
+ * <p>
+ * The changes of the appointments of a transaction are added up by service and day as it goes, and added to the counters just
+ * before it commits, after its last flush, with a single statement which creates the missing rows. The rows are written in the
+ * order of their keys, so that two transactions changing the same days do not deadlock.
+ * <p>
+ * The days are those of the start times of the appointments, in UTC, and the revenue is read from the current price of the
+ * services. The counters of a day only hold the changes made since the table was created until the {@link #backfill backfill}
+ * counts its appointments.
+ */
+@Service
+public class ServiceDailyStatsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceDailyStatsService.class);
+
+    static final int BACKFILL_CHUNK_DAYS = 31;
+
+    private static final int MAX_ROWS_PER_INSERT = 500;
+
+    private static final List<String> COLUMNS = List.of(
+        "requested_count",
+        "scheduled_count",
+        "completed_count",
+        "cancelled_count",
+        "approved_count",
+        "approval_lead_time"
+    );
+
+    private static final int APPROVED = 4;
+
+    private static final int APPROVAL_LEAD_TIME = 5;
+
+    private static final Comparator<ServiceDailyStats.StatsId> KEY_ORDER = Comparator.comparing(
+        ServiceDailyStats.StatsId::getServiceId
+    ).thenComparing(ServiceDailyStats.StatsId::getStatsDate);
+
+    private final ServiceDailyStatsRepository serviceDailyStatsRepository;
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final EntityManager em;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<SharedSessionContractImplementor, PendingStats> pendingStats = new ConcurrentHashMap<>();
+
+    public ServiceDailyStatsService(
+        ServiceDailyStatsRepository serviceDailyStatsRepository,
+        AppointmentRepository appointmentRepository,
+        EntityManager em,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.serviceDailyStatsRepository = serviceDailyStatsRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Record a new or deleted appointment, added to the counters when the current transaction commits.
+     *
+     * @param serviceId the id of the service of the appointment, {@code null} if none.
+     * @param startTime the start time of the appointment.
+     * @param status the status of the appointment.
+     * @param delta {@code 1} for a new appointment, {@code -1} for a deleted one.
+     */
+    public void record(Long serviceId, Instant startTime, AppointmentStatus status, int delta) {
+        if (serviceId == null || startTime == null || status == null) {
+            return;
+        }
+        pending().add(key(serviceId, startTime), statusColumn(status), delta);
+    }
+
+    /**
+     * Record a change of an appointment, added to the counters when the current transaction commits. A requested appointment
+     * becoming scheduled is an approval, whose lead time runs from the request of the appointment to now.
+     *
+     * @param oldServiceId the id of the service of the appointment before the change, {@code null} if none.
+     * @param oldStartTime the start time of the appointment before the change.
+     * @param oldStatus the status of the appointment before the change.
+     * @param serviceId the id of the service of the appointment, {@code null} if none.
+     * @param startTime the start time of the appointment.
+     * @param status the status of the appointment.
+     * @param createdDate the date the appointment was requested, {@code null} if unknown.
+     */
+    public void recordChange(
+        Long oldServiceId,
+        Instant oldStartTime,
+        AppointmentStatus oldStatus,
+        Long serviceId,
+        Instant startTime,
+        AppointmentStatus status,
+        Instant createdDate
+    ) {
+        if (Objects.equals(oldServiceId, serviceId) && Objects.equals(oldStartTime, startTime) && oldStatus == status) {
+            return;
+        }
+        record(oldServiceId, oldStartTime, oldStatus, -1);
+        record(serviceId, startTime, status, 1);
+        if (oldStatus == AppointmentStatus.REQUESTED && status == AppointmentStatus.SCHEDULED && serviceId != null && startTime != null) {
+            ServiceDailyStats.StatsId key = key(serviceId, startTime);
+            PendingStats stats = pending();
+            stats.add(key, APPROVED, 1);
+            if (createdDate != null) {
+                stats.add(key, APPROVAL_LEAD_TIME, Math.max(0, Duration.between(createdDate, Instant.now()).toSeconds()));
+            }
+        }
+    }
+
+    /**
+     * Get the statistics of the services by day.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     * @param serviceId the id of the service, {@code null} for all of them.
+     * @return the statistics of the days with appointments, by day then service name.
+     */
+    @Transactional(readOnly = true)
+    public List<ServiceDailyStatsDTO> findDailyStats(LocalDate from, LocalDate to, Long serviceId) {
+        LOG.debug("Request to get the daily statistics from {} to {} of Service {}", from, to, serviceId);
+        return serviceDailyStatsRepository
+            .findAllDailyStats(from, to, serviceId)
+            .stream()
+            .map(stats ->
+                new ServiceDailyStatsDTO(
+                    stats.getServiceId(),
+                    stats.getServiceName(),
+                    stats.getPrice(),
+                    stats.getStatsDate(),
+                    stats.getRequestedCount(),
+                    stats.getScheduledCount(),
+                    stats.getCompletedCount(),
+                    stats.getCancelledCount(),
+                    stats.getApprovedCount(),
+                    stats.getApprovalLeadTime()
+                )
+            )
+            .toList();
+    }
+
+    /**
+     * Count again the appointments by status of the days between two dates, a chunk of {@value #BACKFILL_CHUNK_DAYS} days per
+     * transaction, so that the history is counted without locking the whole table nor holding a long transaction. The
+     * approvals are kept as they are: the appointments do not tell when they were approved.
+     * <p>
+     * The counters of every service on the days of a chunk are reset, and the missing ones created, before its appointments are
+     * read: all of them are then locked, so that the changes committing meanwhile wait for the chunk and are added to the
+     * recounted values instead of being overwritten by them.
+     *
+     * @param from the first day.
+     * @param to the last day, included.
+     */
+    @Async
+    public void backfill(LocalDate from, LocalDate to) {
+        LOG.info("Backfilling the daily statistics of the services from {} to {}", from, to);
+        LocalDate end = to.plusDays(1);
+        int days = 0;
+        for (LocalDate chunkStart = from; chunkStart.isBefore(end); chunkStart = chunkStart.plusDays(BACKFILL_CHUNK_DAYS)) {
+            LocalDate start = chunkStart;
+            LocalDate chunkEnd = start.plusDays(BACKFILL_CHUNK_DAYS).isBefore(end) ? start.plusDays(BACKFILL_CHUNK_DAYS) : end;
+            days += transactionTemplate.execute(status -> backfillChunk(start, chunkEnd));
+        }
+        LOG.info("Backfilled {} days of statistics of the services from {} to {}", days, from, to);
+    }
+
+    private int backfillChunk(LocalDate from, LocalDate to) {
+        resetStatusCounts(em.unwrap(SessionImplementor.class), from, to);
+        Map<ServiceDailyStats.StatsId, long[]> counts = new TreeMap<>(KEY_ORDER);
+        List<StatusCount> statusCounts = appointmentRepository.countByServiceAndStartTime(
+            from.atStartOfDay(ZoneOffset.UTC).toInstant(),
+            to.atStartOfDay(ZoneOffset.UTC).toInstant()
+        );
+        for (StatusCount statusCount : statusCounts) {
+            ServiceDailyStats.StatsId key = key(statusCount.getServiceId(), statusCount.getStartTime());
+            long[] row = counts.computeIfAbsent(key, k -> new long[COLUMNS.size()]);
+            row[statusColumn(statusCount.getStatus())] += statusCount.getBookings();
+        }
+        write(em.unwrap(SessionImplementor.class), counts, true);
+        LOG.debug("Backfilled {} days of statistics from {} to {}", counts.size(), from, to);
+        return counts.size();
+    }
+
+    /**
+     * Reset the status counters of every service on the days between two dates, the first included, creating the missing rows,
+     * so that all the counters of the chunk are locked before its appointments are counted, including those of the days which
+     * had no row yet. The rows are written in the order of their keys, like the other writes. The approvals are kept: they
+     * cannot be counted again from the appointments.
+     */
+    private void resetStatusCounts(SessionImplementor session, LocalDate from, LocalDate to) {
+        List<LocalDate> days = from.datesUntil(to).toList();
+        StringBuilder sql = new StringBuilder("insert into service_daily_stats (service_id, stats_date, ")
+            .append(String.join(", ", COLUMNS))
+            .append(") select service.id, days.stats_date, ")
+            .append(String.join(", ", Collections.nCopies(COLUMNS.size(), "0")))
+            .append(" from service cross join (");
+        for (int i = 0; i < days.size(); i++) {
+            sql.append(i == 0 ? "select cast(? as date) as stats_date" : " union all select cast(? as date)");
+        }
+        sql.append(") days order by service.id, days.stats_date on duplicate key update ");
+        for (int column = 0; column < APPROVED; column++) {
+            sql.append(column == 0 ? "" : ", ").append(COLUMNS.get(column)).append(" = 0");
+        }
+        Query query = session.createNativeQuery(sql.toString()).addSynchronizedQuerySpace("service_daily_stats");
+        for (int i = 0; i < days.size(); i++) {
+            query.setParameter(i + 1, days.get(i));
+        }
+        query.executeUpdate();
+    }
+
+    private PendingStats pending() {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        return pendingStats.computeIfAbsent(session, key -> {
+            PendingStats stats = new PendingStats();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) stats);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) stats);
+            return stats;
+        });
+    }
+
+    private static ServiceDailyStats.StatsId key(Long serviceId, Instant startTime) {
+        return new ServiceDailyStats.StatsId(serviceId, LocalDate.ofInstant(startTime, ZoneOffset.UTC));
+    }
+
+    private static int statusColumn(AppointmentStatus status) {
+        return switch (status) {
+            case REQUESTED -> 0;
+            case SCHEDULED -> 1;
+            case COMPLETED -> 2;
+            case CANCELLED -> 3;
+        };
+    }
+
+    /**
+     * Write rows of counters, either added to the existing ones, or, for the backfill, replacing their status counters.
+     */
+    private void write(SessionImplementor session, Map<ServiceDailyStats.StatsId, long[]> counters, boolean replaceStatusCounts) {
+        List<Map.Entry<ServiceDailyStats.StatsId, long[]>> entries = new ArrayList<>(counters.entrySet());
+        List<String> updates = new ArrayList<>();
+        for (int column = 0; column < COLUMNS.size(); column++) {
+            String name = COLUMNS.get(column);
+            if (!replaceStatusCounts) {
+                updates.add(name + " = " + name + " + values(" + name + ")");
+            } else if (column < APPROVED) {
+                updates.add(name + " = values(" + name + ")");
+            }
+        }
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_INSERT) {
+            List<Map.Entry<ServiceDailyStats.StatsId, long[]>> rows = entries.subList(
+                from,
+                Math.min(entries.size(), from + MAX_ROWS_PER_INSERT)
+            );
+            StringBuilder sql = new StringBuilder("insert into service_daily_stats (service_id, stats_date, ")
+                .append(String.join(", ", COLUMNS))
+                .append(") values ");
+            for (int i = 0; i < rows.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?)");
+            }
+            sql.append(" on duplicate key update ").append(String.join(", ", updates));
+            Query query = session.createNativeQuery(sql.toString()).addSynchronizedQuerySpace("service_daily_stats");
+            int position = 1;
+            for (Map.Entry<ServiceDailyStats.StatsId, long[]> row : rows) {
+                query.setParameter(position++, row.getKey().getServiceId()).setParameter(position++, row.getKey().getStatsDate());
+                for (long value : row.getValue()) {
+                    query.setParameter(position++, value);
+                }
+            }
+            query.executeUpdate();
+        }
+    }
+
+    /**
+     * The changes of the counters recorded by the transaction of a session, by service and day. They are written by Hibernate
+     * once it has flushed the session for the commit, so that the appointments flushed by the commit itself are counted.
+     */
+    private final class PendingStats implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final Map<ServiceDailyStats.StatsId, long[]> deltas = new TreeMap<>(KEY_ORDER);
+
+        void add(ServiceDailyStats.StatsId key, int column, long delta) {
+            deltas.computeIfAbsent(key, k -> new long[COLUMNS.size()])[column] += delta;
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            // a change undone within the transaction, e.g. an appointment moved back, leaves nothing to write
+            deltas.values().removeIf(row -> Arrays.stream(row).allMatch(value -> value == 0));
+            if (!deltas.isEmpty()) {
+                write(session, deltas, false);
+            }
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingStats.remove(session);
+        }
+    }
+}
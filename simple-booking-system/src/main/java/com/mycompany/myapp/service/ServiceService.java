@@ -2,17 +2,22 @@ package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Service;
 import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.ServiceRepository.CatalogueVersion;
 import com.mycompany.myapp.service.dto.ServiceDTO;
 import com.mycompany.myapp.service.mapper.ServiceMapper;
+import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service Implementation for managing {@link com.mycompany.myapp.domain.Service}.
+ * <p>
+ * Reads are served from the {@link ServiceCatalogue} snapshot, outside of any database transaction.
  */
 @org.springframework.stereotype.Service
 @Transactional
@@ -24,9 +29,12 @@ public class ServiceService {
 
     private final ServiceMapper serviceMapper;
 
-    public ServiceService(ServiceRepository serviceRepository, ServiceMapper serviceMapper) {
+    private final ServiceCatalogue serviceCatalogue;
+
+    public ServiceService(ServiceRepository serviceRepository, ServiceMapper serviceMapper, ServiceCatalogue serviceCatalogue) {
         this.serviceRepository = serviceRepository;
         this.serviceMapper = serviceMapper;
+        this.serviceCatalogue = serviceCatalogue;
     }
 
     /**
@@ -81,10 +89,13 @@ public class ServiceService {
      * @param pageable the pagination information.
      * @return the list of entities.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ServiceDTO> findAll(Pageable pageable) {
         LOG.debug("Request to get all Services");
-        return serviceRepository.findAll(pageable).map(serviceMapper::toDto);
+        return serviceCatalogue
+            .current()
+            .flatMap(snapshot -> snapshot.findAll(pageable))
+            .orElseGet(() -> serviceRepository.findAll(pageable).map(serviceMapper::toDto));
     }
 
     /**
@@ -93,10 +104,43 @@ public class ServiceService {
      * @param id the id of the entity.
      * @return the entity.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<ServiceDTO> findOne(Long id) {
         LOG.debug("Request to get Service : {}", id);
-        return serviceRepository.findById(id).map(serviceMapper::toDto);
+        return serviceCatalogue
+            .current()
+            .map(snapshot -> snapshot.findOne(id))
+            .orElseGet(() -> serviceRepository.findById(id).map(serviceMapper::toDto));
+    }
+
+    /**
+     * Get the version of one service, changed by every write to it.
+     *
+     * @param id the id of the entity.
+     * @return the version, or empty if the entity does not exist.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<String> findVersion(Long id) {
+        return serviceCatalogue
+            .current()
+            .map(snapshot -> snapshot.findVersion(id))
+            .orElseGet(() -> serviceRepository.findLastModifiedDateById(id).map(Objects::toString));
+    }
+
+    /**
+     * Get the version of the whole catalogue, changed by every insert, update or delete of a service.
+     *
+     * @return the version.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String findCatalogueVersion() {
+        return serviceCatalogue
+            .current()
+            .map(ServiceCatalogue.Snapshot::getCatalogueVersion)
+            .orElseGet(() -> {
+                CatalogueVersion version = serviceRepository.findCatalogueVersion();
+                return version.getCount() + ":" + version.getLastModifiedDate();
+            });
     }
 
     /**
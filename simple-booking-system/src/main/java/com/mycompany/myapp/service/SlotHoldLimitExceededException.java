@@ -0,0 +1,10 @@
+package com.mycompany.myapp.service;
+
+public class SlotHoldLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SlotHoldLimitExceededException(int maxPerUser) {
+        super("A user cannot hold more than " + maxPerUser + " slots at once");
+    }
+}
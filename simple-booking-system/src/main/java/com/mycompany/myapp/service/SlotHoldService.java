@@ -0,0 +1,262 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.SlotHold;
+import com.mycompany.myapp.repository.SlotHoldRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.dto.SlotHoldDTO;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for managing {@link SlotHold}.
+ * <p>
+ * A hold takes a place in the counter of its slot, like a booking, and the booking made with it takes the place over instead of
+ * taking another one. The table of the holds is shared by all the nodes, while each node keeps the expiry times of the holds it
+ * took in a {@link DelayQueue}, whose thread gives their places back as they expire. Holds left by a node which stopped are
+ * reclaimed by the others from the index on the expiry times, so that no table scan ever runs.
+ * <p>
+ * A user can only have a few holds at once, so that one account cannot hold every slot of a service. The holds of a user are
+ * counted and taken under the lock of its row, so that concurrent holds cannot all pass the count before any of them is saved.
+ */
+@org.springframework.stereotype.Service
+@Transactional
+public class SlotHoldService implements SmartLifecycle {
+
+    static final int RECLAIM_BATCH_SIZE = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlotHoldService.class);
+
+    private final SlotHoldRepository slotHoldRepository;
+
+    private final UserRepository userRepository;
+
+    private final SlotOccupancyService slotOccupancyService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxPerUser;
+
+    private final DelayQueue<Expiry> expiries = new DelayQueue<>();
+
+    private volatile Thread reaper;
+
+    public SlotHoldService(
+        SlotHoldRepository slotHoldRepository,
+        UserRepository userRepository,
+        SlotOccupancyService slotOccupancyService,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.slotHoldRepository = slotHoldRepository;
+        this.userRepository = userRepository;
+        this.slotOccupancyService = slotOccupancyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPerUser = applicationProperties.getSlotHolds().getMaxPerUser();
+    }
+
+    /**
+     * Hold a place in a slot for the current user.
+     *
+     * @param slotHoldDTO the slot and the duration of the hold.
+     * @return the persisted hold, with its expiry time.
+     * @throws AppointmentConflictException if the slot is full.
+     * @throws SlotHoldLimitExceededException if the current user already has as many holds as allowed.
+     */
+    public SlotHoldDTO hold(SlotHoldDTO slotHoldDTO) {
+        LOG.debug("Request to hold Slot : {}", slotHoldDTO);
+        String login = SecurityUtils.getCurrentUserLogin().orElseThrow();
+        userRepository.findOneForUpdateByLogin(login);
+        Instant now = Instant.now();
+        if (slotHoldRepository.countByLoginAndExpiresAtAfter(login, now) >= maxPerUser) {
+            throw new SlotHoldLimitExceededException(maxPerUser);
+        }
+        SlotHold hold = slotHoldRepository.save(
+            new SlotHold()
+                .serviceId(slotHoldDTO.getServiceId())
+                .startTime(slotHoldDTO.getStartTime())
+                .endTime(slotHoldDTO.getEndTime())
+                .login(login)
+                .expiresAt(now.plus(slotHoldDTO.getMinutes(), ChronoUnit.MINUTES))
+        );
+        slotOccupancyService.book(new Slot(hold.getServiceId(), hold.getStartTime()));
+        // the expiry of a hold whose transaction rolls back finds nothing to delete
+        schedule(hold.getId(), hold.getExpiresAt());
+        return toDto(hold);
+    }
+
+    /**
+     * Expire a hold from the thread of this node at the given time.
+     */
+    void schedule(Long id, Instant expiresAt) {
+        expiries.add(new Expiry(id, expiresAt));
+    }
+
+    /**
+     * Hand the place of a hold of the current user over to a booking of its slot.
+     *
+     * @param id the id of the hold.
+     * @param slot the slot of the booking.
+     * @return whether the hold was consumed, {@code false} if it does not exist, has expired or is for another slot or user.
+     */
+    public boolean consume(Long id, Slot slot) {
+        LOG.debug("Request to consume SlotHold : {}", id);
+        return SecurityUtils.getCurrentUserLogin()
+            .map(login -> slotHoldRepository.deleteConsumable(id, login, slot.serviceId(), slot.startTime(), Instant.now()) == 1)
+            .orElse(false);
+    }
+
+    /**
+     * Release a hold of the current user before it expires.
+     *
+     * @param id the id of the hold.
+     * @return whether the hold was released, {@code false} if it does not exist or is held by another user.
+     */
+    public boolean release(Long id) {
+        LOG.debug("Request to release SlotHold : {}", id);
+        return slotHoldRepository
+            .findById(id)
+            .filter(hold ->
+                SecurityUtils.getCurrentUserLogin().map(login -> slotHoldRepository.deleteByIdAndLogin(id, login) == 1).orElse(false)
+            )
+            .map(hold -> {
+                slotOccupancyService.release(new Slot(hold.getServiceId(), hold.getStartTime()));
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Give back the place of a hold if it has expired and was neither consumed nor released, by this node or another one.
+     *
+     * @param id the id of the hold.
+     * @return whether the place was given back.
+     */
+    public boolean expire(Long id) {
+        return slotHoldRepository
+            .findById(id)
+            .filter(hold -> slotHoldRepository.deleteExpired(id, Instant.now()) == 1)
+            .map(hold -> {
+                LOG.debug("SlotHold {} expired", id);
+                slotOccupancyService.release(new Slot(hold.getServiceId(), hold.getStartTime()));
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Reclaim the expired holds which no node expired, e.g. as the node which took them stopped. They are read from the index on
+     * the expiry times, by batches of {@value #RECLAIM_BATCH_SIZE} each reclaimed in its own transaction, until a batch is not
+     * full.
+     * <p>
+     * This is scheduled to get fired every minute.
+     *
+     * @return the number of reclaimed holds.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reclaimExpired() {
+        int reclaimed = 0;
+        ReclaimedBatch batch;
+        do {
+            batch = transactionTemplate.execute(status -> reclaimBatch());
+            reclaimed += batch.reclaimed();
+        } while (batch.found() == RECLAIM_BATCH_SIZE);
+        if (reclaimed > 0) {
+            LOG.info("Reclaimed {} expired slot holds", reclaimed);
+        }
+        return reclaimed;
+    }
+
+    private ReclaimedBatch reclaimBatch() {
+        List<SlotHold> expired = slotHoldRepository.findAllByExpiresAtBetweenOrderByExpiresAt(
+            Instant.EPOCH,
+            Instant.now(),
+            Limit.of(RECLAIM_BATCH_SIZE)
+        );
+        int reclaimed = 0;
+        for (SlotHold hold : expired) {
+            reclaimed += expire(hold.getId()) ? 1 : 0;
+        }
+        return new ReclaimedBatch(expired.size(), reclaimed);
+    }
+
+    @Override
+    public void start() {
+        Thread thread = new Thread(this::reap, "slot-hold-reaper");
+        thread.setDaemon(true);
+        thread.start();
+        reaper = thread;
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = reaper;
+        reaper = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return reaper != null;
+    }
+
+    private void reap() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Expiry expiry;
+            try {
+                expiry = expiries.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> expire(expiry.id()));
+            } catch (RuntimeException e) {
+                LOG.warn("Could not expire SlotHold {}, left to the reclaiming: {}", expiry.id(), e.getMessage());
+            }
+        }
+    }
+
+    private static SlotHoldDTO toDto(SlotHold hold) {
+        SlotHoldDTO slotHoldDTO = new SlotHoldDTO();
+        slotHoldDTO.setId(hold.getId());
+        slotHoldDTO.setServiceId(hold.getServiceId());
+        slotHoldDTO.setStartTime(hold.getStartTime());
+        slotHoldDTO.setEndTime(hold.getEndTime());
+        slotHoldDTO.setMinutes(null);
+        slotHoldDTO.setExpiresAt(hold.getExpiresAt());
+        return slotHoldDTO;
+    }
+
+    private record ReclaimedBatch(int found, int reclaimed) {}
+
+    private record Expiry(Long id, Instant expiresAt) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Instant.now().until(expiresAt, ChronoUnit.MILLIS), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return expiresAt.compareTo(((Expiry) other).expiresAt);
+        }
+    }
+}
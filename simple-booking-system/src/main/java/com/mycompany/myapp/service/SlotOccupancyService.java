@@ -0,0 +1,230 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.service.dto.SlotAvailabilityDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for the occupancy of the slots of the services, a slot being a service at a start time.
+ * <p>
+ * Booking a slot first creates its counter if it does not exist, with an insert which does nothing on a duplicate key, then
+ * takes a place with an update conditioned on the capacity of the service. Both statements are atomic in the database, so
+ * concurrent bookings of the same slot queue on its row, and neither the capacity check nor the availability ever count
+ * appointment rows. The callers join the transaction of the booking, so the places are given back if it rolls back.
+ * <p>
+ * Every place given back, whether by an appointment, a series or a hold, is offered to the next waiter of its slot, see
+ * {@link WaitlistService#promote}.
+ */
+@org.springframework.stereotype.Service
+@Transactional
+public class SlotOccupancyService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlotOccupancyService.class);
+
+    private final SlotOccupancyRepository slotOccupancyRepository;
+
+    private final EntityManager em;
+
+    private final ObjectProvider<WaitlistService> waitlistService;
+
+    public SlotOccupancyService(
+        SlotOccupancyRepository slotOccupancyRepository,
+        EntityManager em,
+        ObjectProvider<WaitlistService> waitlistService
+    ) {
+        this.slotOccupancyRepository = slotOccupancyRepository;
+        this.em = em;
+        this.waitlistService = waitlistService;
+    }
+
+    /**
+     * Take a place in a slot.
+     *
+     * @param slot the slot.
+     * @throws AppointmentConflictException if the slot is full.
+     */
+    public void book(Slot slot) {
+        if (!tryBook(slot)) {
+            throw new AppointmentConflictException(List.of(slot.startTime()));
+        }
+    }
+
+    /**
+     * Take a place in a slot if it is not full.
+     *
+     * @param slot the slot.
+     * @return whether a place was taken.
+     */
+    public boolean tryBook(Slot slot) {
+        LOG.debug("Request to book Slot : {}", slot);
+        createMissing(slot.serviceId(), List.of(slot.startTime()));
+        return slotOccupancyRepository.incrementAvailable(slot.serviceId(), List.of(slot.startTime())) == 1;
+    }
+
+    /**
+     * Take a place in each of the given slots of a service, or in none of them.
+     *
+     * @param serviceId the id of the service.
+     * @param startTimes the distinct start times of the slots.
+     * @throws AppointmentConflictException if some of the slots are full, with their start times.
+     */
+    public void bookAll(Long serviceId, Collection<Instant> startTimes) {
+        LOG.debug("Request to book {} Slots of Service : {}", startTimes.size(), serviceId);
+        createMissing(serviceId, startTimes);
+        List<Instant> full = slotOccupancyRepository.findFullStartTimes(serviceId, startTimes);
+        if (!full.isEmpty()) {
+            throw new AppointmentConflictException(full);
+        }
+        if (slotOccupancyRepository.incrementAvailable(serviceId, startTimes) < startTimes.size()) {
+            // another booking took the last place of a slot in the meantime, which the snapshot of this transaction may not show
+            full = slotOccupancyRepository.findFullStartTimes(serviceId, startTimes);
+            throw new AppointmentConflictException(full.isEmpty() ? List.copyOf(startTimes) : full);
+        }
+    }
+
+    /**
+     * Add bookings to slots regardless of the capacity of their services, for bookings which were accepted elsewhere.
+     *
+     * @param counts the number of bookings to add, by slot.
+     */
+    public void add(Map<Slot, Integer> counts) {
+        counts
+            .keySet()
+            .stream()
+            .collect(Collectors.groupingBy(Slot::serviceId, Collectors.mapping(Slot::startTime, Collectors.toList())))
+            .forEach(this::createMissing);
+        counts.forEach((slot, count) -> slotOccupancyRepository.increment(slot.serviceId(), slot.startTime(), count));
+    }
+
+    /**
+     * Give back a place in a slot, and offer it to the next waiter of the slot.
+     *
+     * @param slot the slot.
+     */
+    public void release(Slot slot) {
+        LOG.debug("Request to release Slot : {}", slot);
+        slotOccupancyRepository.decrement(slot.serviceId(), slot.startTime());
+        waitlistService.getObject().promote(slot);
+    }
+
+    /**
+     * Move a booking from a slot to another one, either of them being {@code null} when the appointment takes no place.
+     *
+     * @param from the slot of the appointment before the change.
+     * @param to the slot of the appointment after the change.
+     * @throws AppointmentConflictException if the new slot is full.
+     */
+    public void move(Slot from, Slot to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (to != null) {
+            book(to);
+        }
+        if (from != null) {
+            release(from);
+        }
+    }
+
+    /**
+     * Free the places taken by the occurrences of a series, before they leave the statuses which take a place, and offer them to
+     * the next waiters of their slots. The occurrences are expected to be locked, see
+     * {@link AppointmentRepository#findOccurrencesBySeriesId}.
+     */
+    public void releaseOccurrences(List<AppointmentRepository.SeriesOccurrence> occurrences) {
+        LOG.debug("Request to release the Slots of {} occurrences", occurrences.size());
+        List<AppointmentRepository.SeriesOccurrence> booked = occurrences
+            .stream()
+            .filter(occurrence -> occurrence.getServiceId() != null)
+            .toList();
+        if (booked.isEmpty()) {
+            return;
+        }
+        slotOccupancyRepository.decrementByAppointmentIds(booked.stream().map(AppointmentRepository.SeriesOccurrence::getId).toList());
+        WaitlistService waitlist = waitlistService.getObject();
+        for (AppointmentRepository.SeriesOccurrence occurrence : booked) {
+            waitlist.promote(new Slot(occurrence.getServiceId(), occurrence.getStartTime()));
+        }
+    }
+
+    /**
+     * Whether a slot is full, as of the last committed booking.
+     *
+     * @param slot the slot.
+     * @return whether the slot is full.
+     */
+    @Transactional(readOnly = true)
+    public boolean isFull(Slot slot) {
+        return !slotOccupancyRepository.findFullStartTimes(slot.serviceId(), List.of(slot.startTime())).isEmpty();
+    }
+
+    /**
+     * Get the slots of a service starting in a time range which have bookings; the other slots are free.
+     *
+     * @param serviceId the id of the service.
+     * @param from the start of the range, inclusive.
+     * @param to the end of the range, exclusive.
+     * @return the booked slots, by start time.
+     */
+    @Transactional(readOnly = true)
+    public List<SlotAvailabilityDTO> findAvailability(Long serviceId, Instant from, Instant to) {
+        LOG.debug("Request to get the availability of Service : {}", serviceId);
+        return slotOccupancyRepository
+            .findAllCounts(serviceId, from, to)
+            .stream()
+            .map(count -> new SlotAvailabilityDTO(count.getStartTime(), count.getCapacity(), count.getBooked()))
+            .toList();
+    }
+
+    /**
+     * Create the counters of the slots which have none, in a single statement. The no-op update on a duplicate key makes the
+     * insert of an existing counter lock it instead of failing, both on MySQL and on H2 in its MySQL mode, which the Hibernate
+     * {@code on conflict} clause does not: H2 emulates it with a merge, which two concurrent bookings can both take for an
+     * insert. The statement declares the table it writes, so that Hibernate does not evict its whole second-level cache.
+     */
+    private void createMissing(Long serviceId, Collection<Instant> startTimes) {
+        if (startTimes.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder("insert into slot_occupancy (service_id, start_time, booked) values ");
+        for (int i = 0; i < startTimes.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, 0)");
+        }
+        Query query = em
+            .createNativeQuery(sql.append(" on duplicate key update booked = booked").toString())
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace("slot_occupancy");
+        int position = 1;
+        for (Instant startTime : startTimes) {
+            query.setParameter(position++, serviceId).setParameter(position++, startTime);
+        }
+        query.executeUpdate();
+    }
+
+    /**
+     * The slot taken by an appointment: its service at its start time, unless it has no service or is cancelled.
+     */
+    public record Slot(Long serviceId, Instant startTime) {
+        public static Slot of(Appointment appointment) {
+            if (appointment.getService() == null || appointment.getStatus() == AppointmentStatus.CANCELLED) {
+                return null;
+            }
+            return new Slot(appointment.getService().getId(), appointment.getStartTime());
+        }
+    }
+}
@@ -12,7 +12,9 @@ import com.mycompany.myapp.service.dto.UserDTO;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.CacheManager;
@@ -275,6 +277,20 @@ public class UserService {
         return userRepository.findAll(pageable).map(AdminUserDTO::new);
     }
 
+    /**
+     * Read a page of users as rows, handed to the consumer one at a time as they are read, so that neither the entities nor the
+     * DTOs of the page are built. The transaction stays open until the consumer has taken the last row.
+     *
+     * @param pageable the pagination information.
+     * @param consumer the consumer of the rows.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllManagedUsers(Pageable pageable, Consumer<UserRepository.UserRow> consumer) {
+        try (Stream<UserRepository.UserRow> rows = userRepository.streamAllRows(pageable)) {
+            rows.forEach(consumer);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Page<UserDTO> getAllPublicUsers(Pageable pageable) {
         return userRepository.findAllByIdNotNullAndActivatedIsTrue(pageable).map(UserDTO::new);
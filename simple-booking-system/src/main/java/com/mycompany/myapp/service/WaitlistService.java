@@ -0,0 +1,189 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.WaitlistEntry;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.repository.WaitlistEntryRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.security.SecurityUtils;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import com.mycompany.myapp.service.dto.WaitlistEntryDTO;
+import com.mycompany.myapp.service.mapper.AppointmentMapper;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service Implementation for managing {@link WaitlistEntry}.
+ * <p>
+ * A place freed in a slot is handed over to its next waiter, in the transaction which frees it: the release of the place locks
+ * the counter of the slot until the commit, so that concurrent releases promote their waiters one after the other. A promotion
+ * reads a single waiter from the head of the index of the slot, whatever the length of its waitlist.
+ */
+@org.springframework.stereotype.Service
+@Transactional
+public class WaitlistService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final ServiceRepository serviceRepository;
+
+    private final UserRepository userRepository;
+
+    private final SlotOccupancyService slotOccupancyService;
+
+    private final AppointmentMapper appointmentMapper;
+
+    private final MailService mailService;
+
+    private final AppointmentEventBus appointmentEventBus;
+
+    public WaitlistService(
+        WaitlistEntryRepository waitlistEntryRepository,
+        AppointmentRepository appointmentRepository,
+        ServiceRepository serviceRepository,
+        UserRepository userRepository,
+        SlotOccupancyService slotOccupancyService,
+        AppointmentMapper appointmentMapper,
+        MailService mailService,
+        AppointmentEventBus appointmentEventBus
+    ) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.serviceRepository = serviceRepository;
+        this.userRepository = userRepository;
+        this.slotOccupancyService = slotOccupancyService;
+        this.appointmentMapper = appointmentMapper;
+        this.mailService = mailService;
+        this.appointmentEventBus = appointmentEventBus;
+    }
+
+    /**
+     * Put the current user on the waitlist of a slot. Only administrators can set the priority of the entry.
+     *
+     * @param waitlistEntryDTO the slot to wait for.
+     * @return the persisted entry.
+     */
+    public WaitlistEntryDTO join(WaitlistEntryDTO waitlistEntryDTO) {
+        LOG.debug("Request to save WaitlistEntry : {}", waitlistEntryDTO);
+        User user = SecurityUtils.getCurrentUserLogin().flatMap(userRepository::findOneByLogin).orElseThrow();
+        WaitlistEntry entry = new WaitlistEntry()
+            .serviceId(waitlistEntryDTO.getServiceId())
+            .startTime(waitlistEntryDTO.getStartTime())
+            .endTime(waitlistEntryDTO.getEndTime())
+            .user(user);
+        if (waitlistEntryDTO.getPriority() != null && SecurityUtils.hasCurrentUserThisAuthority(AuthoritiesConstants.ADMIN)) {
+            entry.setPriority(waitlistEntryDTO.getPriority());
+        }
+        return toDto(waitlistEntryRepository.save(entry));
+    }
+
+    /**
+     * Whether the current user is already waiting for a slot.
+     *
+     * @param slot the slot.
+     * @return whether an entry of the current user exists for the slot.
+     */
+    @Transactional(readOnly = true)
+    public boolean isWaiting(Slot slot) {
+        return SecurityUtils.getCurrentUserLogin()
+            .map(login -> waitlistEntryRepository.existsByServiceIdAndStartTimeAndUserLogin(slot.serviceId(), slot.startTime(), login))
+            .orElse(false);
+    }
+
+    /**
+     * Get the entries of the current user.
+     *
+     * @return the list of entries, by start time.
+     */
+    @Transactional(readOnly = true)
+    public List<WaitlistEntryDTO> findAllOfCurrentUser() {
+        LOG.debug("Request to get the WaitlistEntries of the current user");
+        return SecurityUtils.getCurrentUserLogin()
+            .map(waitlistEntryRepository::findAllByUserLoginOrderByStartTime)
+            .orElse(List.of())
+            .stream()
+            .map(WaitlistService::toDto)
+            .toList();
+    }
+
+    /**
+     * Remove an entry of the current user.
+     *
+     * @param id the id of the entry.
+     * @return whether the entry was removed, {@code false} if it does not exist or belongs to another user.
+     */
+    public boolean leave(Long id) {
+        LOG.debug("Request to delete WaitlistEntry : {}", id);
+        return SecurityUtils.getCurrentUserLogin()
+            .map(login -> waitlistEntryRepository.deleteByIdAndUserLogin(id, login) == 1)
+            .orElse(false);
+    }
+
+    /**
+     * Book a place freed in a slot for its next waiter, as a requested appointment, and notify them once the transaction commits.
+     * The caller must have released the place in the current transaction.
+     *
+     * @param slot the slot.
+     * @return the appointment of the promoted waiter, or empty if the slot has no waiter or is still full.
+     */
+    public Optional<Appointment> promote(Slot slot) {
+        return waitlistEntryRepository
+            .findFirstByServiceIdAndStartTimeOrderByPriorityDescCreatedDateAscIdAsc(slot.serviceId(), slot.startTime())
+            .filter(entry -> slotOccupancyService.tryBook(slot))
+            .map(entry -> {
+                LOG.debug("Promoting WaitlistEntry : {}", entry);
+                User user = (User) Hibernate.unproxy(entry.getUser());
+                Appointment appointment = appointmentRepository.save(
+                    new Appointment()
+                        .startTime(entry.getStartTime())
+                        .endTime(entry.getEndTime())
+                        .status(AppointmentStatus.REQUESTED)
+                        .user(user)
+                        .service(serviceRepository.getReferenceById(entry.getServiceId()))
+                );
+                waitlistEntryRepository.delete(entry);
+                AppointmentDTO appointmentDTO = appointmentMapper.toDto(appointment);
+                notifyAfterCommit(user, appointmentDTO);
+                appointmentEventBus.publishAfterCommit(AppointmentEventDTO.of(AppointmentEventDTO.Type.CREATED, appointmentDTO));
+                return appointment;
+            });
+    }
+
+    private void notifyAfterCommit(User user, AppointmentDTO appointmentDTO) {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mailService.sendWaitlistPromotionEmail(user, appointmentDTO);
+                }
+            }
+        );
+    }
+
+    private static WaitlistEntryDTO toDto(WaitlistEntry entry) {
+        WaitlistEntryDTO waitlistEntryDTO = new WaitlistEntryDTO();
+        waitlistEntryDTO.setId(entry.getId());
+        waitlistEntryDTO.setServiceId(entry.getServiceId());
+        waitlistEntryDTO.setStartTime(entry.getStartTime());
+        waitlistEntryDTO.setEndTime(entry.getEndTime());
+        waitlistEntryDTO.setPriority(entry.getPriority());
+        waitlistEntryDTO.setCreatedDate(entry.getCreatedDate());
+        return waitlistEntryDTO;
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+
+/**
+ * The last change of an {@link com.mycompany.myapp.domain.Appointment}: the appointment as it is now, or a tombstone with its
+ * id only once it is deleted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AppointmentChangeDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long seq;
+
+    private Long appointmentId;
+
+    private boolean deleted;
+
+    private AppointmentDTO appointment;
+
+    public AppointmentChangeDTO() {}
+
+    public AppointmentChangeDTO(Long seq, Long appointmentId, AppointmentDTO appointment) {
+        this.seq = seq;
+        this.appointmentId = appointmentId;
+        this.deleted = appointment == null;
+        this.appointment = appointment;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public AppointmentDTO getAppointment() {
+        return appointment;
+    }
+
+    public void setAppointment(AppointmentDTO appointment) {
+        this.appointment = appointment;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentChangeDTO{" +
+            "seq=" + getSeq() +
+            ", appointmentId=" + getAppointmentId() +
+            ", deleted='" + isDeleted() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A page of the changes of the appointments after a sequence number, with the sequence number to read the next page from.
+ */
+public class AppointmentChangesDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<AppointmentChangeDTO> changes;
+
+    private long next;
+
+    private boolean more;
+
+    public AppointmentChangesDTO() {}
+
+    public AppointmentChangesDTO(List<AppointmentChangeDTO> changes, long next, boolean more) {
+        this.changes = changes;
+        this.next = next;
+        this.more = more;
+    }
+
+    public List<AppointmentChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<AppointmentChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * The sequence number of the last change of the page, or the one the page was read after if it is empty.
+     */
+    public long getNext() {
+        return next;
+    }
+
+    public void setNext(long next) {
+        this.next = next;
+    }
+
+    /**
+     * Whether the page is full, so that more changes may follow it.
+     */
+    public boolean isMore() {
+        return more;
+    }
+
+    public void setMore(boolean more) {
+        this.more = more;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentChangesDTO{" +
+            "changes=" + (getChanges() != null ? getChanges().size() : 0) +
+            ", next=" + getNext() +
+            ", more='" + isMore() + "'" +
+            "}";
+    }
+}
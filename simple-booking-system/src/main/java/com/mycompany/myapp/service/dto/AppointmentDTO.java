@@ -32,6 +32,13 @@ public class AppointmentDTO implements Serializable {
 
     private ServiceDTO service;
 
+    private Long seriesId;
+
+    /**
+     * The id of a hold of the slot taken by the current user, whose place the appointment takes over when it is created.
+     */
+    private Long holdId;
+
     public Long getId() {
         return id;
     }
@@ -88,6 +95,22 @@ public class AppointmentDTO implements Serializable {
         this.service = service;
     }
 
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    public Long getHoldId() {
+        return holdId;
+    }
+
+    public void setHoldId(Long holdId) {
+        this.holdId = holdId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -120,6 +143,8 @@ public class AppointmentDTO implements Serializable {
             ", specialNeeds='" + getSpecialNeeds() + "'" +
             ", user=" + getUser() +
             ", service=" + getService() +
+            ", seriesId=" + getSeriesId() +
+            ", holdId=" + getHoldId() +
             "}";
     }
 }
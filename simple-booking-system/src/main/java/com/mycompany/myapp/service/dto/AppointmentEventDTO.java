@@ -0,0 +1,185 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A change of an {@link com.mycompany.myapp.domain.Appointment}, with the fields shown in the list of appointments only: an
+ * event of a deleted appointment has its id only.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AppointmentEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+
+    @JsonIgnore
+    private String eventId;
+
+    private Type type;
+
+    private Long appointmentId;
+
+    private AppointmentStatus status;
+
+    private Instant startTime;
+
+    private Instant endTime;
+
+    private Long serviceId;
+
+    private String userLogin;
+
+    /**
+     * Build the event of a change.
+     *
+     * @param type the change.
+     * @param appointment the appointment once changed.
+     * @return the event, without an id until it is published.
+     */
+    public static AppointmentEventDTO of(Type type, AppointmentDTO appointment) {
+        AppointmentEventDTO event = new AppointmentEventDTO();
+        event.type = type;
+        event.appointmentId = appointment.getId();
+        if (type != Type.DELETED) {
+            event.status = appointment.getStatus();
+            event.startTime = appointment.getStartTime();
+            event.endTime = appointment.getEndTime();
+            event.serviceId = appointment.getService() != null ? appointment.getService().getId() : null;
+            event.userLogin = appointment.getUser() != null ? appointment.getUser().getLogin() : null;
+        }
+        return event;
+    }
+
+    /**
+     * Build the event of a change of an appointment which was not mapped to a DTO, such as the appointments imported or changed
+     * by a bulk update.
+     *
+     * @param type the change, other than a deletion.
+     * @param appointmentId the id of the appointment.
+     * @param status the status of the appointment once changed.
+     * @param startTime the start time of the appointment.
+     * @param endTime the end time of the appointment.
+     * @param serviceId the id of the service of the appointment, {@code null} if none.
+     * @param userLogin the login of the user of the appointment.
+     * @return the event, without an id until it is published.
+     */
+    public static AppointmentEventDTO of(
+        Type type,
+        Long appointmentId,
+        AppointmentStatus status,
+        Instant startTime,
+        Instant endTime,
+        Long serviceId,
+        String userLogin
+    ) {
+        AppointmentEventDTO event = new AppointmentEventDTO();
+        event.type = type;
+        event.appointmentId = appointmentId;
+        event.status = status;
+        event.startTime = startTime;
+        event.endTime = endTime;
+        event.serviceId = serviceId;
+        event.userLogin = userLogin;
+        return event;
+    }
+
+    /**
+     * Build the event of a deletion.
+     *
+     * @param appointmentId the id of the deleted appointment.
+     * @return the event, without an id until it is published.
+     */
+    public static AppointmentEventDTO deleted(Long appointmentId) {
+        AppointmentEventDTO event = new AppointmentEventDTO();
+        event.type = Type.DELETED;
+        event.appointmentId = appointmentId;
+        return event;
+    }
+
+    /**
+     * The id of the event in the stream, sent as the id of the server-sent event rather than in its data.
+     */
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getAppointmentId() {
+        return appointmentId;
+    }
+
+    public void setAppointmentId(Long appointmentId) {
+        this.appointmentId = appointmentId;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public String getUserLogin() {
+        return userLogin;
+    }
+
+    public void setUserLogin(String userLogin) {
+        this.userLogin = userLogin;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentEventDTO{" +
+            "eventId='" + getEventId() + "'" +
+            ", type='" + getType() + "'" +
+            ", appointmentId=" + getAppointmentId() +
+            ", status='" + getStatus() + "'" +
+            "}";
+    }
+}
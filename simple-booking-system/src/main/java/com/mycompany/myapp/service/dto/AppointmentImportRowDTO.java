@@ -0,0 +1,92 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A row of an appointment import: same fields as the {@link AppointmentDTO}, but the user is referenced by its login and the
+ * service by its name.
+ */
+public class AppointmentImportRowDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotNull
+    private Instant startTime;
+
+    @NotNull
+    private Instant endTime;
+
+    @NotNull
+    private AppointmentStatus status;
+
+    private String specialNeeds;
+
+    @NotBlank
+    private String user;
+
+    private String service;
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+
+    public String getSpecialNeeds() {
+        return specialNeeds;
+    }
+
+    public void setSpecialNeeds(String specialNeeds) {
+        this.specialNeeds = specialNeeds;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentImportRowDTO{" +
+            "startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", specialNeeds='" + getSpecialNeeds() + "'" +
+            ", user='" + getUser() + "'" +
+            ", service='" + getService() + "'" +
+            "}";
+    }
+}
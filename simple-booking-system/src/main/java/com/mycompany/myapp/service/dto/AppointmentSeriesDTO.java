@@ -0,0 +1,172 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.AppointmentSeries} entity.
+ * <p>
+ * The first occurrence is given by the start and end times, and the next ones by the frequency, until either {@code count}
+ * occurrences or the {@code until} instant (inclusive) is reached. Occurrences keep the same local time in the {@code timeZone}.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class AppointmentSeriesDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    private Instant startTime;
+
+    @NotNull
+    private Instant endTime;
+
+    private String specialNeeds;
+
+    @NotNull
+    private UserDTO user;
+
+    private ServiceDTO service;
+
+    @NotNull
+    private RecurrenceFrequency frequency;
+
+    @Min(1)
+    private Integer count;
+
+    private Instant until;
+
+    private String timeZone = "UTC";
+
+    private List<AppointmentDTO> appointments = new ArrayList<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getSpecialNeeds() {
+        return specialNeeds;
+    }
+
+    public void setSpecialNeeds(String specialNeeds) {
+        this.specialNeeds = specialNeeds;
+    }
+
+    public UserDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserDTO user) {
+        this.user = user;
+    }
+
+    public ServiceDTO getService() {
+        return service;
+    }
+
+    public void setService(ServiceDTO service) {
+        this.service = service;
+    }
+
+    public RecurrenceFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(RecurrenceFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+
+    public Instant getUntil() {
+        return until;
+    }
+
+    public void setUntil(Instant until) {
+        this.until = until;
+    }
+
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    public void setTimeZone(String timeZone) {
+        this.timeZone = timeZone;
+    }
+
+    public List<AppointmentDTO> getAppointments() {
+        return appointments;
+    }
+
+    public void setAppointments(List<AppointmentDTO> appointments) {
+        this.appointments = appointments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AppointmentSeriesDTO)) {
+            return false;
+        }
+
+        AppointmentSeriesDTO appointmentSeriesDTO = (AppointmentSeriesDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, appointmentSeriesDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AppointmentSeriesDTO{" +
+            "id=" + getId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", specialNeeds='" + getSpecialNeeds() + "'" +
+            ", user=" + getUser() +
+            ", service=" + getService() +
+            ", frequency='" + getFrequency() + "'" +
+            ", count=" + getCount() +
+            ", until='" + getUntil() + "'" +
+            ", timeZone='" + getTimeZone() + "'" +
+            "}";
+    }
+}
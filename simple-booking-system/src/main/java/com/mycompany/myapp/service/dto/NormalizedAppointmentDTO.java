@@ -0,0 +1,109 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.Appointment} entity in a {@link NormalizedAppointmentsDTO normalized list},
+ * referencing its user and service by id.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class NormalizedAppointmentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Instant startTime;
+
+    private Instant endTime;
+
+    private AppointmentStatus status;
+
+    private String specialNeeds;
+
+    private Long userId;
+
+    private Long serviceId;
+
+    private Long seriesId;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public AppointmentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AppointmentStatus status) {
+        this.status = status;
+    }
+
+    public String getSpecialNeeds() {
+        return specialNeeds;
+    }
+
+    public void setSpecialNeeds(String specialNeeds) {
+        this.specialNeeds = specialNeeds;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public Long getSeriesId() {
+        return seriesId;
+    }
+
+    public void setSeriesId(Long seriesId) {
+        this.seriesId = seriesId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "NormalizedAppointmentDTO{" +
+            "id=" + getId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", userId=" + getUserId() +
+            ", serviceId=" + getServiceId() +
+            ", seriesId=" + getSeriesId() +
+            "}";
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.myapp.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of appointments referencing their users and services by id, each user and service of the page being listed once, by
+ * id.
+ */
+public class NormalizedAppointmentsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<NormalizedAppointmentDTO> appointments;
+
+    private Map<Long, UserDTO> users;
+
+    private Map<Long, ServiceDTO> services;
+
+    @JsonIgnore
+    private long totalCount;
+
+    public NormalizedAppointmentsDTO() {}
+
+    public NormalizedAppointmentsDTO(
+        List<NormalizedAppointmentDTO> appointments,
+        Map<Long, UserDTO> users,
+        Map<Long, ServiceDTO> services,
+        long totalCount
+    ) {
+        this.appointments = appointments;
+        this.users = users;
+        this.services = services;
+        this.totalCount = totalCount;
+    }
+
+    public List<NormalizedAppointmentDTO> getAppointments() {
+        return appointments;
+    }
+
+    public void setAppointments(List<NormalizedAppointmentDTO> appointments) {
+        this.appointments = appointments;
+    }
+
+    public Map<Long, UserDTO> getUsers() {
+        return users;
+    }
+
+    public void setUsers(Map<Long, UserDTO> users) {
+        this.users = users;
+    }
+
+    public Map<Long, ServiceDTO> getServices() {
+        return services;
+    }
+
+    public void setServices(Map<Long, ServiceDTO> services) {
+        this.services = services;
+    }
+
+    /**
+     * The number of appointments of all the pages, sent in the pagination headers rather than in the body.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "NormalizedAppointmentsDTO{" +
+            "appointments=" + (getAppointments() != null ? getAppointments().size() : 0) +
+            ", users=" + (getUsers() != null ? getUsers().size() : 0) +
+            ", services=" + (getServices() != null ? getServices().size() : 0) +
+            ", totalCount=" + getTotalCount() +
+            "}";
+    }
+}
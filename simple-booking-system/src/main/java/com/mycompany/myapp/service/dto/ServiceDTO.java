@@ -25,6 +25,10 @@ public class ServiceDTO implements Serializable {
     @DecimalMin(value = "0")
     private BigDecimal price;
 
+    @NotNull
+    @Min(value = 1)
+    private Integer capacity = 1;
+
     public Long getId() {
         return id;
     }
@@ -57,6 +61,14 @@ public class ServiceDTO implements Serializable {
         this.price = price;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -86,6 +98,7 @@ public class ServiceDTO implements Serializable {
             ", name='" + getName() + "'" +
             ", description='" + getDescription() + "'" +
             ", price=" + getPrice() +
+            ", capacity=" + getCapacity() +
             "}";
     }
 }
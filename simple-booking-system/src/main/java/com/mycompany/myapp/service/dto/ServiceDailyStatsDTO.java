@@ -0,0 +1,195 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A DTO for the statistics of a {@link com.mycompany.myapp.domain.Service} for a day, read from its counters.
+ */
+public class ServiceDailyStatsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long serviceId;
+
+    private String serviceName;
+
+    private BigDecimal price;
+
+    private LocalDate date;
+
+    private Integer requested;
+
+    private Integer scheduled;
+
+    private Integer completed;
+
+    private Integer cancelled;
+
+    private Integer approved;
+
+    private Long approvalLeadTime;
+
+    public ServiceDailyStatsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ServiceDailyStatsDTO(
+        Long serviceId,
+        String serviceName,
+        BigDecimal price,
+        LocalDate date,
+        Integer requested,
+        Integer scheduled,
+        Integer completed,
+        Integer cancelled,
+        Integer approved,
+        Long approvalLeadTime
+    ) {
+        this.serviceId = serviceId;
+        this.serviceName = serviceName;
+        this.price = price;
+        this.date = date;
+        this.requested = requested;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.cancelled = cancelled;
+        this.approved = approved;
+        this.approvalLeadTime = approvalLeadTime;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * The current price of the service.
+     */
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    /**
+     * The day (UTC) on which the appointments start.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Integer getRequested() {
+        return requested;
+    }
+
+    public void setRequested(Integer requested) {
+        this.requested = requested;
+    }
+
+    public Integer getScheduled() {
+        return scheduled;
+    }
+
+    public void setScheduled(Integer scheduled) {
+        this.scheduled = scheduled;
+    }
+
+    public Integer getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Integer completed) {
+        this.completed = completed;
+    }
+
+    public Integer getCancelled() {
+        return cancelled;
+    }
+
+    public void setCancelled(Integer cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    public Integer getApproved() {
+        return approved;
+    }
+
+    public void setApproved(Integer approved) {
+        this.approved = approved;
+    }
+
+    /**
+     * The sum of the lead times of the approvals, from the request of the appointment to its approval, in seconds.
+     */
+    public Long getApprovalLeadTime() {
+        return approvalLeadTime;
+    }
+
+    public void setApprovalLeadTime(Long approvalLeadTime) {
+        this.approvalLeadTime = approvalLeadTime;
+    }
+
+    /**
+     * The appointments of the day, whatever their status.
+     */
+    public int getBookings() {
+        return requested + scheduled + completed + cancelled;
+    }
+
+    /**
+     * The share of the appointments of the day which are cancelled, none without appointments.
+     */
+    public Double getCancellationRate() {
+        int bookings = getBookings();
+        return bookings > 0 ? (double) cancelled / bookings : null;
+    }
+
+    /**
+     * The revenue of the completed appointments, at the current price of the service.
+     */
+    public BigDecimal getRevenue() {
+        return price.multiply(BigDecimal.valueOf(completed));
+    }
+
+    /**
+     * The average lead time of the approvals in seconds, none without approvals.
+     */
+    public Long getAverageApprovalLeadTime() {
+        return approved > 0 ? Math.round((double) approvalLeadTime / approved) : null;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ServiceDailyStatsDTO{" +
+            "serviceId=" + getServiceId() +
+            ", serviceName='" + getServiceName() + "'" +
+            ", date='" + getDate() + "'" +
+            ", requested=" + getRequested() +
+            ", scheduled=" + getScheduled() +
+            ", completed=" + getCompleted() +
+            ", cancelled=" + getCancelled() +
+            ", approved=" + getApproved() +
+            ", approvalLeadTime=" + getApprovalLeadTime() +
+            "}";
+    }
+}
@@ -0,0 +1,69 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO for the occupancy of a slot of a {@link com.mycompany.myapp.domain.Service}, read from its counter.
+ */
+public class SlotAvailabilityDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Instant startTime;
+
+    private Integer capacity;
+
+    private Integer booked;
+
+    public SlotAvailabilityDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public SlotAvailabilityDTO(Instant startTime, Integer capacity, Integer booked) {
+        this.startTime = startTime;
+        this.capacity = capacity;
+        this.booked = booked;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getBooked() {
+        return booked;
+    }
+
+    public void setBooked(Integer booked) {
+        this.booked = booked;
+    }
+
+    /**
+     * The places left, none when the capacity was lowered below the bookings.
+     */
+    public int getAvailable() {
+        return Math.max(0, capacity - booked);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SlotAvailabilityDTO{" +
+            "startTime='" + getStartTime() + "'" +
+            ", capacity=" + getCapacity() +
+            ", booked=" + getBooked() +
+            "}";
+    }
+}
@@ -0,0 +1,119 @@
+package com.mycompany.myapp.service.dto;
+
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.SlotHold} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class SlotHoldDTO implements Serializable {
+
+    public static final int DEFAULT_MINUTES = 10;
+
+    public static final int MAX_MINUTES = 30;
+
+    private Long id;
+
+    @NotNull
+    private Long serviceId;
+
+    @NotNull
+    private Instant startTime;
+
+    @NotNull
+    private Instant endTime;
+
+    /**
+     * How long the place is held, from the time the hold is taken.
+     */
+    @Min(1)
+    @Max(MAX_MINUTES)
+    private Integer minutes = DEFAULT_MINUTES;
+
+    private Instant expiresAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public Integer getMinutes() {
+        return minutes;
+    }
+
+    public void setMinutes(Integer minutes) {
+        this.minutes = minutes;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SlotHoldDTO)) {
+            return false;
+        }
+
+        SlotHoldDTO slotHoldDTO = (SlotHoldDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, slotHoldDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SlotHoldDTO{" +
+            "id=" + getId() +
+            ", serviceId=" + getServiceId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", minutes=" + getMinutes() +
+            ", expiresAt='" + getExpiresAt() + "'" +
+            "}";
+    }
+}
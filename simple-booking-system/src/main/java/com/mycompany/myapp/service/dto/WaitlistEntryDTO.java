@@ -0,0 +1,113 @@
+package com.mycompany.myapp.service.dto;
+
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.WaitlistEntry} entity.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class WaitlistEntryDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    private Long serviceId;
+
+    @NotNull
+    private Instant startTime;
+
+    @NotNull
+    private Instant endTime;
+
+    /**
+     * The waiters with a higher priority are served first; only administrators can set it.
+     */
+    private Integer priority;
+
+    private Instant createdDate;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getServiceId() {
+        return serviceId;
+    }
+
+    public void setServiceId(Long serviceId) {
+        this.serviceId = serviceId;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Instant endTime) {
+        this.endTime = endTime;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WaitlistEntryDTO)) {
+            return false;
+        }
+
+        WaitlistEntryDTO waitlistEntryDTO = (WaitlistEntryDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, waitlistEntryDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "WaitlistEntryDTO{" +
+            "id=" + getId() +
+            ", serviceId=" + getServiceId() +
+            ", startTime='" + getStartTime() + "'" +
+            ", endTime='" + getEndTime() + "'" +
+            ", priority=" + getPriority() +
+            ", createdDate='" + getCreatedDate() + "'" +
+            "}";
+    }
+}
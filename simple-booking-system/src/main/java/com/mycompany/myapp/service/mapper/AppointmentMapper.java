@@ -1,9 +1,11 @@
 package com.mycompany.myapp.service.mapper;
 
 import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.AppointmentSeries;
 import com.mycompany.myapp.domain.Service;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.NormalizedAppointmentDTO;
 import com.mycompany.myapp.service.dto.ServiceDTO;
 import com.mycompany.myapp.service.dto.UserDTO;
 import org.mapstruct.*;
@@ -15,8 +17,29 @@ import org.mapstruct.*;
 public interface AppointmentMapper extends EntityMapper<AppointmentDTO, Appointment> {
     @Mapping(target = "user", source = "user", qualifiedByName = "userLogin")
     @Mapping(target = "service", source = "service", qualifiedByName = "serviceName")
+    @Mapping(target = "seriesId", source = "series.id")
+    @Mapping(target = "holdId", ignore = true)
     AppointmentDTO toDto(Appointment s);
 
+    @Mapping(target = "series", source = "seriesId", qualifiedByName = "seriesId")
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "service.lastModifiedDate", ignore = true)
+    Appointment toEntity(AppointmentDTO dto);
+
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "series", ignore = true)
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "service.lastModifiedDate", ignore = true)
+    void partialUpdate(@MappingTarget Appointment entity, AppointmentDTO dto);
+
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "serviceId", source = "service.id")
+    @Mapping(target = "seriesId", source = "series.id")
+    NormalizedAppointmentDTO toNormalizedDto(Appointment s);
+
     @Named("userLogin")
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "id", source = "id")
@@ -28,4 +51,9 @@ public interface AppointmentMapper extends EntityMapper<AppointmentDTO, Appointm
     @Mapping(target = "id", source = "id")
     @Mapping(target = "name", source = "name")
     ServiceDTO toDtoServiceName(Service service);
+
+    @Named("seriesId")
+    default AppointmentSeries seriesFromId(Long id) {
+        return id == null ? null : new AppointmentSeries().id(id);
+    }
 }
@@ -8,4 +8,17 @@ import org.mapstruct.*;
  * Mapper for the entity {@link Service} and its DTO {@link ServiceDTO}.
  */
 @Mapper(componentModel = "spring")
-public interface ServiceMapper extends EntityMapper<ServiceDTO, Service> {}
+public interface ServiceMapper extends EntityMapper<ServiceDTO, Service> {
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    Service toEntity(ServiceDTO dto);
+
+    @Named("partialUpdate")
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "lastModifiedDate", ignore = true)
+    void partialUpdate(@MappingTarget Service entity, ServiceDTO dto);
+
+    /**
+     * A copy of a DTO with all its fields, to hand out a DTO which is shared, e.g. by the {@code ServiceCatalogue}.
+     */
+    ServiceDTO copy(ServiceDTO dto);
+}
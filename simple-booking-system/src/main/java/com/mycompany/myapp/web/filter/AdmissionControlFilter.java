@@ -0,0 +1,138 @@
+package com.mycompany.myapp.web.filter;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control of the appointment and appointment series writes: at most a limit of them run at once, the others waiting
+ * briefly for a place and then being refused with a {@code 503 (Service Unavailable)} and a {@code Retry-After} header, before
+ * they take a database connection. The limit follows the latency of the writes with an {@link AimdLimiter}, so that a burst of
+ * bookings cannot take the whole connection pool from the reads.
+ * <p>
+ * The limit, the writes in flight and the refused writes are exported as the {@value #LIMIT_METER_NAME},
+ * {@value #IN_FLIGHT_METER_NAME} and {@value #REJECTED_METER_NAME} meters.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_METER_NAME = "appointment.admission.limit";
+    public static final String IN_FLIGHT_METER_NAME = "appointment.admission.in-flight";
+    public static final String REJECTED_METER_NAME = "appointment.admission.rejected";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private static final List<String> PATHS = List.of("/api/appointments", "/api/appointment-series");
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final boolean enabled;
+
+    private final AimdLimiter limiter;
+
+    private final long maxWaitNanos;
+
+    private final String retryAfter;
+
+    private final Counter rejected;
+
+    public AdmissionControlFilter(ApplicationProperties.AdmissionControl properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.limiter = new AimdLimiter(
+            properties.getInitialLimit(),
+            properties.getMinLimit(),
+            properties.getMaxLimit(),
+            properties.getLatencyThreshold().toNanos(),
+            properties.getBackoffRatio()
+        );
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.retryAfter = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+        Gauge.builder(LIMIT_METER_NAME, limiter, AimdLimiter::getLimit)
+            .description("Number of appointment writes allowed to run at once")
+            .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METER_NAME, limiter, AimdLimiter::getInFlight)
+            .description("Number of appointment writes running")
+            .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METER_NAME)
+            .description("Number of appointment writes refused as the limit was reached")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !WRITE_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PATHS.stream().noneMatch(prefix -> path.equals(prefix) || path.startsWith(prefix + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (!acquire()) {
+            LOG.debug("Refusing {} {}, {} appointment writes in flight", request.getMethod(), request.getRequestURI(), limiter.getLimit());
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            response
+                .getWriter()
+                .write("{\"title\":\"Service Unavailable\",\"status\":503,\"detail\":\"Too many bookings at once, retry later\"}");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return limiter.tryAcquire(maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Run a request dispatched in-process without the servlet filters, such as an operation of a batch, under the admission
+     * control of this filter: an appointment write is refused with the same {@code 503 (Service Unavailable)} response.
+     *
+     * @param request the request.
+     * @param response the response.
+     * @param dispatcher what runs the request once it is admitted.
+     * @throws ServletException if the dispatcher fails.
+     * @throws IOException if the dispatcher or the refusal fails to write the response.
+     */
+    public void dispatch(HttpServletRequest request, HttpServletResponse response, FilterChain dispatcher)
+        throws ServletException, IOException {
+        if (shouldNotFilter(request)) {
+            dispatcher.doFilter(request, response);
+        } else {
+            doFilterInternal(request, response, dispatcher);
+        }
+    }
+
+    AimdLimiter getLimiter() {
+        return limiter;
+    }
+}
@@ -0,0 +1,101 @@
+package com.mycompany.myapp.web.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit adapted with an additive increase, multiplicative decrease: each request completing within the latency
+ * threshold while the limit is reached raises it by {@code 1 / limit}, i.e. by one once a full limit of requests went well, and
+ * each slow or failed request cuts it by the backoff ratio.
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid limits " + minLimit + ".." + maxLimit + " or backoff ratio " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Take a place if fewer requests than the limit are in flight.
+     *
+     * @return whether a place was taken, to be given back with {@link #release}.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Take a place, waiting for one to be given back while the limit is reached.
+     *
+     * @param timeoutNanos how long to wait at most.
+     * @return whether a place was taken, to be given back with {@link #release}.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public boolean tryAcquire(long timeoutNanos) throws InterruptedException {
+        if (tryAcquire()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        synchronized (this) {
+            while (!tryAcquire()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Give back a place and adapt the limit to the outcome of its request.
+     *
+     * @param latencyNanos the duration of the request.
+     * @param failed whether the request failed, e.g. for lack of a database connection.
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int released = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (released >= getLimit()) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            notifyAll();
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
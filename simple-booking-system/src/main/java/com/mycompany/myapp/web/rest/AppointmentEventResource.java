@@ -0,0 +1,88 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.AppointmentEventBus;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming the changes of the {@link com.mycompany.myapp.domain.Appointment}s as server-sent events, so that
+ * the approval queue is kept up to date without polling the list of appointments.
+ */
+@RestController
+@RequestMapping("/api/appointments")
+public class AppointmentEventResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppointmentEventResource.class);
+
+    static final String APPOINTMENT_EVENT_NAME = "appointment";
+
+    static final String RESET_EVENT_NAME = "reset";
+
+    private final AppointmentEventBus appointmentEventBus;
+
+    private final long timeoutMillis;
+
+    public AppointmentEventResource(AppointmentEventBus appointmentEventBus, ApplicationProperties applicationProperties) {
+        this.appointmentEventBus = appointmentEventBus;
+        this.timeoutMillis = applicationProperties.getAppointmentEvents().getTimeout().toMillis();
+    }
+
+    /**
+     * {@code GET  /appointments/events} : stream the changes of the appointments.
+     * <p>
+     * Each change is an {@value #APPOINTMENT_EVENT_NAME} event with an id, from which a client reconnecting with a
+     * {@code Last-Event-ID} header resumes. When the changes since that id are no longer known, a {@value #RESET_EVENT_NAME}
+     * event asks the client to read the appointments again.
+     * <p>
+     * The changes are those of the appointments booked, changed or deleted one at a time, of the series, of the imports, and
+     * of the waiters promoted when a place is freed, by a cancellation or by a released or expired hold. The holds themselves
+     * are not appointments, and are not streamed.
+     *
+     * @param lastEventId the id of the last event received, if any.
+     * @return the stream of events.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public SseEmitter streamAppointmentEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        LOG.debug("REST request to stream the Appointment events after {}", lastEventId);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AppointmentEventBus.Subscription subscription = appointmentEventBus.subscribe(lastEventId, new EmitterSubscriber(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    private record EmitterSubscriber(SseEmitter emitter) implements AppointmentEventBus.Subscriber {
+        @Override
+        public void send(AppointmentEventDTO event) throws IOException {
+            emitter.send(SseEmitter.event().id(event.getEventId()).name(APPOINTMENT_EVENT_NAME).data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void reset() throws IOException {
+            emitter.send(SseEmitter.event().name(RESET_EVENT_NAME).data(""));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment(""));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.mycompany.myapp.web.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentRepository.AppointmentRow;
 import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.AppointmentChangeService;
 import com.mycompany.myapp.service.AppointmentService;
+import com.mycompany.myapp.service.dto.AppointmentChangesDTO;
 import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.NormalizedAppointmentDTO;
+import com.mycompany.myapp.service.dto.NormalizedAppointmentsDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.JsonStreamUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -16,11 +27,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -37,6 +52,10 @@ public class AppointmentResource {
 
     private static final String ENTITY_NAME = "appointment";
 
+    static final int MAX_CHANGES_LIMIT = 1000;
+
+    private static final List<String> STREAM_ORDERED_PROPERTIES = List.of("id", "startTime", "endTime", "status");
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -44,9 +63,20 @@ public class AppointmentResource {
 
     private final AppointmentRepository appointmentRepository;
 
-    public AppointmentResource(AppointmentService appointmentService, AppointmentRepository appointmentRepository) {
+    private final AppointmentChangeService appointmentChangeService;
+
+    private final ObjectMapper objectMapper;
+
+    public AppointmentResource(
+        AppointmentService appointmentService,
+        AppointmentRepository appointmentRepository,
+        AppointmentChangeService appointmentChangeService,
+        ObjectMapper objectMapper
+    ) {
         this.appointmentService = appointmentService;
         this.appointmentRepository = appointmentRepository;
+        this.appointmentChangeService = appointmentChangeService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -160,17 +190,123 @@ public class AppointmentResource {
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /appointments?shape=normalized} : get all the appointments, referencing their users and services by id.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and in body the appointments, with the users and services
+     * they reference by id.
+     */
+    @GetMapping(value = "", params = "shape=normalized")
+    public ResponseEntity<NormalizedAppointmentsDTO> getAllAppointmentsNormalized(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a normalized page of Appointments");
+        NormalizedAppointmentsDTO appointments = appointmentService.findAllNormalized(pageable);
+        Page<NormalizedAppointmentDTO> page = new PageImpl<>(appointments.getAppointments(), pageable, appointments.getTotalCount());
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(appointments);
+    }
+
+    /**
+     * {@code GET  /appointments?stream=true} : get all the appointments, written to the response one at a time as they are read,
+     * for the large pages.
+     * <p>
+     * The appointments have the fields of the default list, their users and services coming with their id and login or name
+     * only, but there are no pagination headers, as the appointments are not counted. They can only be sorted by their own
+     * fields. They are only streamed as JSON: a client asking for CBOR or Smile gets the default list.
+     *
+     * @param pageable the pagination information.
+     * @param response the response, to write the appointments to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping(value = "", params = { "stream=true", "!shape" }, produces = MediaType.APPLICATION_JSON_VALUE)
+    public void getAllAppointmentsStreamed(@org.springdoc.core.annotations.ParameterObject Pageable pageable, HttpServletResponse response)
+        throws IOException {
+        LOG.debug("REST request to stream a page of Appointments");
+        if (!pageable.getSort().stream().map(Sort.Order::getProperty).allMatch(STREAM_ORDERED_PROPERTIES::contains)) {
+            throw new BadRequestAlertException("Invalid sort", ENTITY_NAME, "invalidsort");
+        }
+        JsonStreamUtil.writeArray(
+            response,
+            objectMapper.getFactory(),
+            consumer -> appointmentService.streamAll(pageable, consumer),
+            AppointmentResource::writeAppointment
+        );
+    }
+
+    private static void writeAppointment(JsonGenerator generator, AppointmentRow row) throws IOException {
+        generator.writeStartObject();
+        JsonStreamUtil.writeIdField(generator, "id", row.id());
+        JsonStreamUtil.writeInstantField(generator, "startTime", row.startTime());
+        JsonStreamUtil.writeInstantField(generator, "endTime", row.endTime());
+        generator.writeStringField("status", row.status() != null ? row.status().name() : null);
+        generator.writeStringField("specialNeeds", row.specialNeeds());
+        // the fields of the default list, see AppointmentResourceIT#getAllAppointmentsStreamedWithTheFieldsOfTheList
+        writeReference(generator, "user", row.userId(), "login", row.userLogin());
+        writeReference(generator, "service", row.serviceId(), "name", row.serviceName());
+        JsonStreamUtil.writeIdField(generator, "seriesId", row.seriesId());
+        generator.writeNullField("holdId");
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write a relationship as its id and label, or {@code null} without an id.
+     */
+    private static void writeReference(JsonGenerator generator, String name, Long id, String labelName, String label)
+        throws IOException {
+        if (id == null) {
+            generator.writeNullField(name);
+            return;
+        }
+        generator.writeObjectFieldStart(name);
+        JsonStreamUtil.writeIdField(generator, "id", id);
+        generator.writeStringField(labelName, label);
+        generator.writeEndObject();
+    }
+
+    /**
+     * {@code GET  /appointments/changes} : get the changes of the appointments after a sequence number.
+     * <p>
+     * A client reads all the appointments from sequence number 0, then only the appointments changed since the {@code next}
+     * sequence number of its last read, deleted appointments coming as tombstones. It reads again at once while {@code more} is
+     * set.
+     *
+     * @param since the sequence number of the last change read.
+     * @param limit the maximum number of changes, up to {@value #MAX_CHANGES_LIMIT}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of changes in body.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<AppointmentChangesDTO> getAppointmentChanges(
+        @RequestParam(name = "since", defaultValue = "0") long since,
+        @RequestParam(name = "limit", defaultValue = "100") int limit
+    ) {
+        LOG.debug("REST request to get the Appointment changes after {}", since);
+        if (since < 0 || limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new BadRequestAlertException("Invalid since or limit", ENTITY_NAME, "invalidchanges");
+        }
+        return ResponseEntity.ok(appointmentChangeService.findChanges(since, limit));
+    }
+
     /**
      * {@code GET  /appointments/:id} : get the "id" appointment.
      *
      * @param id the id of the appointmentDTO to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the appointmentDTO, or with status {@code 404 (Not Found)}.
+     * @param request the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the appointmentDTO, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the appointment has not changed since the given ETag.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<AppointmentDTO> getAppointment(@PathVariable("id") Long id) {
+    public ResponseEntity<AppointmentDTO> getAppointment(@PathVariable("id") Long id, WebRequest request) {
         LOG.debug("REST request to get Appointment : {}", id);
+        Optional<String> eTag = appointmentService
+            .findVersion(id)
+            .map(version -> ETagUtil.strongETag(version, id, ETagUtil.representation(request)));
+        if (eTag.isPresent() && request.checkNotModified(eTag.orElseThrow())) {
+            return ETagUtil.notModified(eTag.orElseThrow());
+        }
         Optional<AppointmentDTO> appointmentDTO = appointmentService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(appointmentDTO);
+        return ResponseUtil.wrapOrNotFound(appointmentDTO, ETagUtil.createETagHeaders(eTag.orElse(null)));
     }
 
     /**
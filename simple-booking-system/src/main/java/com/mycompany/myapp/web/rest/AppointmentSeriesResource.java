@@ -0,0 +1,119 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.AppointmentSeriesService;
+import com.mycompany.myapp.service.dto.AppointmentSeriesDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for managing {@link com.mycompany.myapp.domain.AppointmentSeries}.
+ */
+@RestController
+@RequestMapping("/api/appointment-series")
+public class AppointmentSeriesResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppointmentSeriesResource.class);
+
+    private static final String ENTITY_NAME = "appointmentSeries";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final AppointmentSeriesService appointmentSeriesService;
+
+    public AppointmentSeriesResource(AppointmentSeriesService appointmentSeriesService) {
+        this.appointmentSeriesService = appointmentSeriesService;
+    }
+
+    /**
+     * {@code POST  /appointment-series} : Book a new series of appointments.
+     *
+     * @param appointmentSeriesDTO the appointmentSeriesDTO to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new appointmentSeriesDTO and its appointments,
+     * or with status {@code 400 (Bad Request)} if the series has already an ID or an invalid recurrence rule,
+     * or with status {@code 409 (Conflict)} if some of its occurrences overlap existing bookings.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("")
+    public ResponseEntity<AppointmentSeriesDTO> createAppointmentSeries(@Valid @RequestBody AppointmentSeriesDTO appointmentSeriesDTO)
+        throws URISyntaxException {
+        LOG.debug("REST request to save AppointmentSeries : {}", appointmentSeriesDTO);
+        if (appointmentSeriesDTO.getId() != null) {
+            throw new BadRequestAlertException("A new appointmentSeries cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        appointmentSeriesDTO = appointmentSeriesService.save(appointmentSeriesDTO);
+        return ResponseEntity.created(new URI("/api/appointment-series/" + appointmentSeriesDTO.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, appointmentSeriesDTO.getId().toString()))
+            .body(appointmentSeriesDTO);
+    }
+
+    /**
+     * {@code GET  /appointment-series/:id} : get the "id" appointmentSeries.
+     *
+     * @param id the id of the appointmentSeriesDTO to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the appointmentSeriesDTO and its appointments,
+     * or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<AppointmentSeriesDTO> getAppointmentSeries(@PathVariable("id") Long id) {
+        LOG.debug("REST request to get AppointmentSeries : {}", id);
+        Optional<AppointmentSeriesDTO> appointmentSeriesDTO = appointmentSeriesService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(appointmentSeriesDTO);
+    }
+
+    /**
+     * {@code PUT  /appointment-series/:id/approve} : Approve the REQUESTED appointments of a series which have not started yet.
+     *
+     * @param id the id of the series to approve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated appointmentSeriesDTO,
+     * or with status {@code 404 (Not Found)}.
+     */
+    @PutMapping("/{id}/approve")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<AppointmentSeriesDTO> approveAppointmentSeries(@PathVariable("id") Long id) {
+        LOG.debug("REST request to approve AppointmentSeries : {}", id);
+        return appointmentSeriesService
+            .approve(id)
+            .flatMap(approved -> appointmentSeriesService.findOne(id))
+            .map(result ->
+                ResponseEntity.ok()
+                    .headers(HeaderUtil.createAlert(applicationName, "Appointment series approved", id.toString()))
+                    .body(result)
+            )
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * {@code PUT  /appointment-series/:id/cancel} : Cancel the REQUESTED and SCHEDULED appointments of a series which have not started
+     * yet.
+     *
+     * @param id the id of the series to cancel.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated appointmentSeriesDTO,
+     * or with status {@code 404 (Not Found)}.
+     */
+    @PutMapping("/{id}/cancel")
+    public ResponseEntity<AppointmentSeriesDTO> cancelAppointmentSeries(@PathVariable("id") Long id) {
+        LOG.debug("REST request to cancel AppointmentSeries : {}", id);
+        return appointmentSeriesService
+            .cancel(id)
+            .flatMap(cancelled -> appointmentSeriesService.findOne(id))
+            .map(result ->
+                ResponseEntity.ok()
+                    .headers(HeaderUtil.createAlert(applicationName, "Appointment series cancelled", id.toString()))
+                    .body(result)
+            )
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
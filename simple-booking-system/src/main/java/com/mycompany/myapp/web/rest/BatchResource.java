@@ -0,0 +1,344 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.mycompany.myapp.web.filter.AdmissionControlFilter;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.BatchServletRequest;
+import com.mycompany.myapp.web.rest.util.BatchServletResponse;
+import com.mycompany.myapp.web.rest.vm.BatchRequestVM;
+import com.mycompany.myapp.web.rest.vm.BatchResponseVM;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * REST controller running a batch of operations on the other REST resources in one round trip, such as the reads and the
+ * booking of the booking page.
+ * <p>
+ * The operations are dispatched in-process, through a dispatcher servlet of their own on the same application context, with
+ * the security context of the batch: each of them is authorized against the rules of the URLs, then against the rules of the
+ * resource methods, as if it came alone. The appointment writes go through the {@link AdmissionControlFilter admission control}
+ * as well, which the servlet filters would otherwise apply. The reads between two writes run in parallel, a write waits for the
+ * operations before it. An atomic batch runs its operations in order, in one transaction which the first failed operation rolls
+ * back.
+ */
+@RestController
+@RequestMapping("/api")
+public class BatchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchResource.class);
+
+    private static final String ENTITY_NAME = "batch";
+
+    private static final String BATCH_PATH = "/api/batch";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD");
+
+    /**
+     * Encoded separators and dots, double slashes and dot segments, which would make the URL authorized differ from the URL
+     * dispatched.
+     */
+    private static final Pattern UNSAFE_PATH = Pattern.compile("(?i).*(//|/\\.\\.?(/|$)|;|\\\\|%2e|%2f|%5c|%3b|%25).*");
+
+    private final WebApplicationContext applicationContext;
+
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+    private final ObjectMapper objectMapper;
+
+    private final Executor taskExecutor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AdmissionControlFilter admissionControlFilter;
+
+    private volatile DispatcherServlet dispatcherServlet;
+
+    public BatchResource(
+        WebApplicationContext applicationContext,
+        WebInvocationPrivilegeEvaluator privilegeEvaluator,
+        ObjectMapper objectMapper,
+        @Qualifier("taskExecutor") Executor taskExecutor,
+        PlatformTransactionManager transactionManager,
+        ObjectProvider<AdmissionControlFilter> admissionControlFilter
+    ) {
+        this.applicationContext = applicationContext;
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.admissionControlFilter = admissionControlFilter.getIfAvailable();
+    }
+
+    /**
+     * {@code POST  /batch} : run a batch of operations.
+     * <p>
+     * The results come in the order of the operations. When an atomic batch fails, the failed operation has its own result and
+     * the others have the status {@code 424 (Failed Dependency)}, as nothing they did was kept.
+     *
+     * @param batch the operations.
+     * @param request the request of the batch.
+     * @param response the response of the batch.
+     * @return the {@link ResponseEntity} with status {@code 207 (Multi-Status)} and with body the results of the operations, or
+     * with status {@code 400 (Bad Request)} if an operation does not target a REST resource.
+     * @throws IOException if the body of an operation cannot be serialized.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponseVM> runBatch(
+        @Valid @RequestBody BatchRequestVM batch,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to run a batch : {}", batch);
+        List<BatchRequestVM.Operation> operations = batch.getOperations();
+        List<BatchServletRequest> subRequests = new ArrayList<>(operations.size());
+        for (BatchRequestVM.Operation operation : operations) {
+            subRequests.add(subRequest(request, operation));
+        }
+        BatchResponseVM.Result[] results = new BatchResponseVM.Result[operations.size()];
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        if (batch.isAtomic()) {
+            runAtomically(operations, subRequests, response, securityContext.getAuthentication(), results);
+        } else {
+            runConcurrently(operations, subRequests, response, securityContext, results);
+        }
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(new BatchResponseVM(Arrays.asList(results)));
+    }
+
+    private BatchServletRequest subRequest(HttpServletRequest request, BatchRequestVM.Operation operation) throws IOException {
+        UriComponents url;
+        try {
+            url = UriComponentsBuilder.fromUriString(operation.getUrl()).build(true);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid operation URL", ENTITY_NAME, "invalidurl");
+        }
+        String path = url.getPath();
+        if (
+            url.getScheme() != null ||
+            url.getHost() != null ||
+            url.getFragment() != null ||
+            path == null ||
+            !path.startsWith("/api/") ||
+            UNSAFE_PATH.matcher(path).matches() ||
+            path.equals(BATCH_PATH)
+        ) {
+            throw new BadRequestAlertException("Invalid operation URL", ENTITY_NAME, "invalidurl");
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        String acceptLanguage = request.getHeader(HttpHeaders.ACCEPT_LANGUAGE);
+        if (acceptLanguage != null) {
+            headers.set(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage);
+        }
+        if (operation.getHeaders() != null) {
+            operation.getHeaders().forEach(headers::set);
+        }
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        byte[] body = new byte[0];
+        if (operation.getBody() != null && !operation.getBody().isNull()) {
+            body = objectMapper.writeValueAsBytes(operation.getBody());
+            if (headers.getContentType() == null) {
+                headers.setContentType(MediaType.APPLICATION_JSON);
+            }
+        }
+        return new BatchServletRequest(request, operation.getMethod(), path, url.getQuery(), headers, body);
+    }
+
+    private void runConcurrently(
+        List<BatchRequestVM.Operation> operations,
+        List<BatchServletRequest> subRequests,
+        HttpServletResponse response,
+        SecurityContext securityContext,
+        BatchResponseVM.Result[] results
+    ) {
+        Executor executor = new DelegatingSecurityContextExecutor(taskExecutor, securityContext);
+        Authentication authentication = securityContext.getAuthentication();
+        List<CompletableFuture<Void>> reads = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            int index = i;
+            if (READ_METHODS.contains(operations.get(i).getMethod())) {
+                reads.add(
+                    CompletableFuture.runAsync(
+                        () -> results[index] = dispatch(operations.get(index), subRequests.get(index), response, authentication),
+                        executor
+                    )
+                );
+            } else {
+                CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).join();
+                reads.clear();
+                results[i] = dispatch(operations.get(i), subRequests.get(i), response, authentication);
+            }
+        }
+        CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void runAtomically(
+        List<BatchRequestVM.Operation> operations,
+        List<BatchServletRequest> subRequests,
+        HttpServletResponse response,
+        Authentication authentication,
+        BatchResponseVM.Result[] results
+    ) {
+        Integer failed = transactionTemplate.execute(status -> {
+            for (int i = 0; i < operations.size(); i++) {
+                results[i] = dispatch(operations.get(i), subRequests.get(i), response, authentication);
+                if (results[i].getStatus() >= HttpStatus.BAD_REQUEST.value()) {
+                    status.setRollbackOnly();
+                    return i;
+                }
+            }
+            return -1;
+        });
+        if (failed != null && failed >= 0) {
+            for (int i = 0; i < operations.size(); i++) {
+                if (i != failed) {
+                    results[i] = new BatchResponseVM.Result(operations.get(i).getId(), HttpStatus.FAILED_DEPENDENCY.value(), null, null);
+                }
+            }
+        }
+    }
+
+    private BatchResponseVM.Result dispatch(
+        BatchRequestVM.Operation operation,
+        BatchServletRequest subRequest,
+        HttpServletResponse response,
+        Authentication authentication
+    ) {
+        String method = subRequest.getMethod();
+        if (!privilegeEvaluator.isAllowed(subRequest.getContextPath(), subRequest.getServletPath(), method, authentication)) {
+            return new BatchResponseVM.Result(operation.getId(), HttpStatus.FORBIDDEN.value(), null, null);
+        }
+        BatchServletResponse subResponse = new BatchServletResponse(response);
+        try {
+            DispatcherServlet servlet = dispatcherServlet();
+            if (admissionControlFilter != null) {
+                admissionControlFilter.dispatch(subRequest, subResponse, servlet::service);
+            } else {
+                servlet.service(subRequest, subResponse);
+            }
+        } catch (ServletException | IOException | RuntimeException e) {
+            LOG.warn("Failed to run the batch operation {} {}: {}", method, operation.getUrl(), e.getMessage());
+            return new BatchResponseVM.Result(operation.getId(), HttpStatus.INTERNAL_SERVER_ERROR.value(), null, null);
+        }
+        return new BatchResponseVM.Result(operation.getId(), subResponse.getStatus(), headers(subResponse), body(subResponse));
+    }
+
+    private static Map<String, String> headers(BatchServletResponse subResponse) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        subResponse.getResponseHeaders().forEach((name, values) -> headers.put(name, String.join(", ", values)));
+        return headers.isEmpty() ? null : headers;
+    }
+
+    private JsonNode body(BatchServletResponse subResponse) {
+        byte[] content = subResponse.getContentAsByteArray();
+        if (content.length == 0) {
+            return null;
+        }
+        MediaType contentType = subResponse.getContentType() != null ? MediaType.parseMediaType(subResponse.getContentType()) : null;
+        if (
+            contentType != null &&
+            (contentType.isCompatibleWith(MediaType.APPLICATION_JSON) || "json".equals(contentType.getSubtypeSuffix()))
+        ) {
+            try {
+                return objectMapper.readTree(content);
+            } catch (IOException e) {
+                LOG.debug("Embedding an invalid JSON body of a batch operation as text: {}", e.getMessage());
+            }
+        }
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return TextNode.valueOf(new String(content, charset));
+    }
+
+    /**
+     * The dispatcher servlet of the operations, initialized on the first batch, once the application context is refreshed.
+     */
+    private DispatcherServlet dispatcherServlet() throws ServletException {
+        DispatcherServlet servlet = dispatcherServlet;
+        if (servlet == null) {
+            synchronized (this) {
+                servlet = dispatcherServlet;
+                if (servlet == null) {
+                    servlet = new DispatcherServlet(applicationContext);
+                    servlet.setPublishContext(false);
+                    servlet.init(new BatchServletConfig(applicationContext.getServletContext()));
+                    dispatcherServlet = servlet;
+                }
+            }
+        }
+        return servlet;
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        DispatcherServlet servlet = dispatcherServlet;
+        dispatcherServlet = null;
+        if (servlet != null) {
+            servlet.destroy();
+        }
+    }
+
+    private record BatchServletConfig(ServletContext servletContext) implements ServletConfig {
+        @Override
+        public String getServletName() {
+            return "batchDispatcherServlet";
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return servletContext;
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return null;
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return Collections.emptyEnumeration();
+        }
+    }
+}
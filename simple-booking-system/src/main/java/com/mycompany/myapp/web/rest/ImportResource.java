@@ -0,0 +1,122 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.ImportService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for importing appointments and services in bulk.
+ * <p>
+ * The upload is either a CSV file with a header row ({@code text/csv}) or one JSON object per line ({@code application/x-ndjson}),
+ * and is read as it is received. The report is written as the import goes, one NDJSON line per rejected row followed by a line with
+ * the totals, e.g. {@code {"row":12,"errors":["user: unknown login 'jdoe'"]}} then {@code {"imported":99,"rejected":1}}.
+ */
+@RestController
+@RequestMapping("/api/admin/import")
+public class ImportResource {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportResource.class);
+
+    private final ImportService importService;
+
+    private final ObjectMapper objectMapper;
+
+    public ImportResource(ImportService importService, ObjectMapper objectMapper) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@code POST  /admin/import/appointments} : Import appointments.
+     *
+     * @param contentType the format of the upload.
+     * @param input the upload.
+     * @param response the response, with status {@code 200 (OK)} and the report as body.
+     * @throws IOException if the upload cannot be read or the report cannot be written.
+     */
+    @PostMapping(
+        value = "/appointments",
+        consumes = { TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE },
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public void importAppointments(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream input,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to import Appointments as {}", contentType);
+        report(response, errorConsumer -> importService.importAppointments(input, format(contentType), errorConsumer));
+    }
+
+    /**
+     * {@code POST  /admin/import/services} : Import services.
+     *
+     * @param contentType the format of the upload.
+     * @param input the upload.
+     * @param response the response, with status {@code 200 (OK)} and the report as body.
+     * @throws IOException if the upload cannot be read or the report cannot be written.
+     */
+    @PostMapping(
+        value = "/services",
+        consumes = { TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE },
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public void importServices(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream input,
+        HttpServletResponse response
+    ) throws IOException {
+        LOG.debug("REST request to import Services as {}", contentType);
+        report(response, errorConsumer -> importService.importServices(input, format(contentType), errorConsumer));
+    }
+
+    private static ImportService.Format format(MediaType contentType) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? ImportService.Format.NDJSON : ImportService.Format.CSV;
+    }
+
+    private void report(HttpServletResponse response, Import importTask) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        ImportService.Summary summary;
+        try {
+            summary = importTask.run(rowError -> {
+                try {
+                    writeLine(output, rowError);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeLine(output, summary);
+        output.flush();
+    }
+
+    private void writeLine(OutputStream output, Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write('\n');
+    }
+
+    @FunctionalInterface
+    private interface Import {
+        ImportService.Summary run(Consumer<ImportService.RowError> errorConsumer) throws IOException;
+    }
+}
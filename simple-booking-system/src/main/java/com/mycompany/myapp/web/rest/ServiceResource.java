@@ -2,12 +2,16 @@ package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.repository.ServiceRepository;
 import com.mycompany.myapp.service.ServiceService;
+import com.mycompany.myapp.service.SlotOccupancyService;
 import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.SlotAvailabilityDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -19,6 +23,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -42,9 +47,12 @@ public class ServiceResource {
 
     private final ServiceRepository serviceRepository;
 
-    public ServiceResource(ServiceService serviceService, ServiceRepository serviceRepository) {
+    private final SlotOccupancyService slotOccupancyService;
+
+    public ServiceResource(ServiceService serviceService, ServiceRepository serviceRepository, SlotOccupancyService slotOccupancyService) {
         this.serviceService = serviceService;
         this.serviceRepository = serviceRepository;
+        this.slotOccupancyService = slotOccupancyService;
     }
 
     /**
@@ -139,27 +147,70 @@ public class ServiceResource {
      * {@code GET  /services} : get all the services.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of services in body.
+     * @param request the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of services in body,
+     * or with status {@code 304 (Not Modified)} if the catalogue has not changed since the given ETag.
      */
     @GetMapping("")
-    public ResponseEntity<List<ServiceDTO>> getAllServices(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ServiceDTO>> getAllServices(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        WebRequest request
+    ) {
         LOG.debug("REST request to get a page of Services");
+        String eTag = ETagUtil.strongETag(serviceService.findCatalogueVersion(), pageable, ETagUtil.representation(request));
+        if (request.checkNotModified(eTag)) {
+            return ETagUtil.notModified(eTag);
+        }
         Page<ServiceDTO> page = serviceService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(page.getContent());
     }
 
     /**
      * {@code GET  /services/:id} : get the "id" service.
      *
      * @param id the id of the serviceDTO to retrieve.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the serviceDTO, or with status {@code 404 (Not Found)}.
+     * @param request the current request, checked for an {@code If-None-Match} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the serviceDTO, or with status {@code 404 (Not Found)},
+     * or with status {@code 304 (Not Modified)} if the service has not changed since the given ETag.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ServiceDTO> getService(@PathVariable("id") Long id) {
+    public ResponseEntity<ServiceDTO> getService(@PathVariable("id") Long id, WebRequest request) {
         LOG.debug("REST request to get Service : {}", id);
+        Optional<String> eTag = serviceService
+            .findVersion(id)
+            .map(version -> ETagUtil.strongETag(version, id, ETagUtil.representation(request)));
+        if (eTag.isPresent() && request.checkNotModified(eTag.orElseThrow())) {
+            return ETagUtil.notModified(eTag.orElseThrow());
+        }
         Optional<ServiceDTO> serviceDTO = serviceService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(serviceDTO);
+        return ResponseUtil.wrapOrNotFound(serviceDTO, ETagUtil.createETagHeaders(eTag.orElse(null)));
+    }
+
+    /**
+     * {@code GET  /services/:id/availability} : get the booked slots of the "id" service starting in a time range, from their
+     * counters; the slots which are not listed are free.
+     *
+     * @param id the id of the service.
+     * @param from the start of the range, inclusive.
+     * @param to the end of the range, exclusive.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of booked slots in body, or with status
+     * {@code 404 (Not Found)}, or with status {@code 400 (Bad Request)} if the range is empty.
+     */
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<List<SlotAvailabilityDTO>> getServiceAvailability(
+        @PathVariable("id") Long id,
+        @RequestParam("from") Instant from,
+        @RequestParam("to") Instant to
+    ) {
+        LOG.debug("REST request to get the availability of Service : {} from {} to {}", id, from, to);
+        if (!to.isAfter(from)) {
+            throw new BadRequestAlertException("The end of the range must be after its start", ENTITY_NAME, "invalidrange");
+        }
+        if (!serviceRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(slotOccupancyService.findAvailability(id, from, to));
     }
 
     /**
@@ -0,0 +1,85 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.ServiceDailyStatsService;
+import com.mycompany.myapp.service.dto.ServiceDailyStatsDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the daily statistics of the services: their bookings, approvals, cancellations and revenue by day.
+ * <p>
+ * The statistics are read from counters kept up to date as the appointments change, see {@link ServiceDailyStatsService}.
+ */
+@RestController
+@RequestMapping("/api/admin/stats")
+public class ServiceStatsResource {
+
+    public static final int MAX_DAYS = 366;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceStatsResource.class);
+
+    private static final String ENTITY_NAME = "serviceDailyStats";
+
+    private final ServiceDailyStatsService serviceDailyStatsService;
+
+    public ServiceStatsResource(ServiceDailyStatsService serviceDailyStatsService) {
+        this.serviceDailyStatsService = serviceDailyStatsService;
+    }
+
+    /**
+     * {@code GET  /admin/stats} : get the statistics of the services by day.
+     *
+     * @param from the first day (UTC).
+     * @param to the last day (UTC), included, at most {@value #MAX_DAYS} days after the first one.
+     * @param serviceId the id of the service, all of them if none.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the statistics of the days with appointments in body.
+     */
+    @GetMapping("")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<List<ServiceDailyStatsDTO>> getDailyStats(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long serviceId
+    ) {
+        LOG.debug("REST request to get the daily statistics from {} to {} of Service {}", from, to, serviceId);
+        checkRange(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new BadRequestAlertException("At most " + MAX_DAYS + " days can be read at once", ENTITY_NAME, "invalidrange");
+        }
+        return ResponseEntity.ok(serviceDailyStatsService.findDailyStats(from, to, serviceId));
+    }
+
+    /**
+     * {@code POST  /admin/stats/backfill} : count again the appointments of the days between two dates, in the background.
+     *
+     * @param from the first day (UTC).
+     * @param to the last day (UTC), included.
+     * @return the {@link ResponseEntity} with status {@code 202 (Accepted)}.
+     */
+    @PostMapping("/backfill")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<Void> backfill(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LOG.debug("REST request to backfill the daily statistics from {} to {}", from, to);
+        checkRange(from, to);
+        serviceDailyStatsService.backfill(from, to);
+        return ResponseEntity.accepted().build();
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestAlertException("The last day is before the first one", ENTITY_NAME, "invalidrange");
+        }
+    }
+}
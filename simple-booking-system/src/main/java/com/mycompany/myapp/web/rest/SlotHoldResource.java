@@ -0,0 +1,84 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.SlotHoldService;
+import com.mycompany.myapp.service.dto.SlotHoldDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+
+/**
+ * REST controller for holding slots of the services during the checkout of a booking.
+ */
+@RestController
+@RequestMapping("/api/slots")
+public class SlotHoldResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlotHoldResource.class);
+
+    private static final String ENTITY_NAME = "slotHold";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final SlotHoldService slotHoldService;
+
+    private final ServiceRepository serviceRepository;
+
+    public SlotHoldResource(SlotHoldService slotHoldService, ServiceRepository serviceRepository) {
+        this.slotHoldService = slotHoldService;
+        this.serviceRepository = serviceRepository;
+    }
+
+    /**
+     * {@code POST  /slots/hold} : Hold a place in a slot for the current user, for a number of minutes. An appointment created
+     * with the id of the hold takes the place over.
+     *
+     * @param slotHoldDTO the slot to hold.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the hold and its expiry time, or with
+     * status {@code 400 (Bad Request)} if the hold is not valid, or with status {@code 409 (Conflict)} if the slot is full.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("/hold")
+    public ResponseEntity<SlotHoldDTO> holdSlot(@Valid @RequestBody SlotHoldDTO slotHoldDTO) throws URISyntaxException {
+        LOG.debug("REST request to hold Slot : {}", slotHoldDTO);
+        if (slotHoldDTO.getId() != null) {
+            throw new BadRequestAlertException("A new slotHold cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        if (!slotHoldDTO.getEndTime().isAfter(slotHoldDTO.getStartTime())) {
+            throw new BadRequestAlertException("The end of the slot must be after its start", ENTITY_NAME, "invalidrange");
+        }
+        if (!serviceRepository.existsById(slotHoldDTO.getServiceId())) {
+            throw new BadRequestAlertException("Service not found", ENTITY_NAME, "servicenotfound");
+        }
+        slotHoldDTO = slotHoldService.hold(slotHoldDTO);
+        return ResponseEntity.created(new URI("/api/slots/hold/" + slotHoldDTO.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, slotHoldDTO.getId().toString()))
+            .body(slotHoldDTO);
+    }
+
+    /**
+     * {@code DELETE  /slots/hold/:id} : release the "id" hold of the current user before it expires.
+     *
+     * @param id the id of the hold.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)} if the
+     * hold does not exist, has ended or is held by another user.
+     */
+    @DeleteMapping("/hold/{id}")
+    public ResponseEntity<Void> releaseSlot(@PathVariable("id") Long id) {
+        LOG.debug("REST request to release SlotHold : {}", id);
+        if (!slotHoldService.release(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.mycompany.myapp.web.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.config.Constants;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.UserRepository;
@@ -10,8 +12,11 @@ import com.mycompany.myapp.service.dto.AdminUserDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
 import com.mycompany.myapp.web.rest.errors.EmailAlreadyUsedException;
 import com.mycompany.myapp.web.rest.errors.LoginAlreadyUsedException;
+import com.mycompany.myapp.web.rest.util.JsonStreamUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.*;
@@ -23,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -86,10 +92,13 @@ public class UserResource {
 
     private final MailService mailService;
 
-    public UserResource(UserService userService, UserRepository userRepository, MailService mailService) {
+    private final ObjectMapper objectMapper;
+
+    public UserResource(UserService userService, UserRepository userRepository, MailService mailService, ObjectMapper objectMapper) {
         this.userService = userService;
         this.userRepository = userRepository;
         this.mailService = mailService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -175,6 +184,61 @@ public class UserResource {
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * {@code GET /admin/users?stream=true} : get all users with all the details, written to the response one at a time as they
+     * are read, for the large pages - calling this are only allowed for the administrators.
+     * <p>
+     * The users have the fields of {@code GET /admin/users}, but there are no pagination headers, as the users are not counted.
+     * They are only streamed as JSON: a client asking for CBOR or Smile gets the paginated list.
+     *
+     * @param pageable the pagination information.
+     * @param response the response, to write the users to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping(value = "/users", params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public void getAllUsersStreamed(@org.springdoc.core.annotations.ParameterObject Pageable pageable, HttpServletResponse response)
+        throws IOException {
+        LOG.debug("REST request to stream all User for an admin");
+        if (!onlyContainsAllowedProperties(pageable)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        JsonStreamUtil.writeArray(
+            response,
+            objectMapper.getFactory(),
+            consumer -> userService.streamAllManagedUsers(pageable, consumer),
+            UserResource::writeUser
+        );
+    }
+
+    private static void writeUser(JsonGenerator generator, UserRepository.UserRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("login", row.login());
+        generator.writeStringField("firstName", row.firstName());
+        generator.writeStringField("lastName", row.lastName());
+        generator.writeStringField("email", row.email());
+        generator.writeStringField("imageUrl", row.imageUrl());
+        generator.writeBooleanField("activated", row.activated());
+        generator.writeStringField("langKey", row.langKey());
+        generator.writeStringField("createdBy", row.createdBy());
+        JsonStreamUtil.writeInstantField(generator, "createdDate", row.createdDate());
+        generator.writeStringField("lastModifiedBy", row.lastModifiedBy());
+        JsonStreamUtil.writeInstantField(generator, "lastModifiedDate", row.lastModifiedDate());
+        generator.writeArrayFieldStart("authorities");
+        String authorities = row.authorities();
+        if (authorities != null) {
+            for (int start = 0, end; start <= authorities.length(); start = end + 1) {
+                end = authorities.indexOf(',', start);
+                end = end < 0 ? authorities.length() : end;
+                generator.writeString(authorities.substring(start, end));
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     private boolean onlyContainsAllowedProperties(Pageable pageable) {
         return pageable.getSort().stream().map(Sort.Order::getProperty).allMatch(ALLOWED_ORDERED_PROPERTIES::contains);
     }
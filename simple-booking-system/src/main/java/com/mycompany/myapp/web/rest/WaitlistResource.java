@@ -0,0 +1,112 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.SlotOccupancyService;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.WaitlistService;
+import com.mycompany.myapp.service.dto.WaitlistEntryDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.HeaderUtil;
+
+/**
+ * REST controller for managing the waitlist entries of the current user, {@link com.mycompany.myapp.domain.WaitlistEntry}.
+ */
+@RestController
+@RequestMapping("/api/waitlist")
+public class WaitlistResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WaitlistResource.class);
+
+    private static final String ENTITY_NAME = "waitlistEntry";
+
+    @Value("${jhipster.clientApp.name}")
+    private String applicationName;
+
+    private final WaitlistService waitlistService;
+
+    private final SlotOccupancyService slotOccupancyService;
+
+    private final ServiceRepository serviceRepository;
+
+    public WaitlistResource(
+        WaitlistService waitlistService,
+        SlotOccupancyService slotOccupancyService,
+        ServiceRepository serviceRepository
+    ) {
+        this.waitlistService = waitlistService;
+        this.slotOccupancyService = slotOccupancyService;
+        this.serviceRepository = serviceRepository;
+    }
+
+    /**
+     * {@code POST  /waitlist} : Put the current user on the waitlist of a full slot. When a place is freed in the slot, an
+     * appointment is requested for the first waiter, who is notified by email.
+     *
+     * @param waitlistEntryDTO the slot to wait for.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new entry, or with status
+     * {@code 400 (Bad Request)} if the entry is not valid, the slot is not full or the user is already waiting for it.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PostMapping("")
+    public ResponseEntity<WaitlistEntryDTO> joinWaitlist(@Valid @RequestBody WaitlistEntryDTO waitlistEntryDTO) throws URISyntaxException {
+        LOG.debug("REST request to save WaitlistEntry : {}", waitlistEntryDTO);
+        if (waitlistEntryDTO.getId() != null) {
+            throw new BadRequestAlertException("A new waitlistEntry cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        if (!waitlistEntryDTO.getEndTime().isAfter(waitlistEntryDTO.getStartTime())) {
+            throw new BadRequestAlertException("The end of the slot must be after its start", ENTITY_NAME, "invalidrange");
+        }
+        if (!serviceRepository.existsById(waitlistEntryDTO.getServiceId())) {
+            throw new BadRequestAlertException("Service not found", ENTITY_NAME, "servicenotfound");
+        }
+        Slot slot = new Slot(waitlistEntryDTO.getServiceId(), waitlistEntryDTO.getStartTime());
+        if (!slotOccupancyService.isFull(slot)) {
+            throw new BadRequestAlertException("The slot is not full", ENTITY_NAME, "slotavailable");
+        }
+        if (waitlistService.isWaiting(slot)) {
+            throw new BadRequestAlertException("Already waiting for the slot", ENTITY_NAME, "alreadywaiting");
+        }
+        waitlistEntryDTO = waitlistService.join(waitlistEntryDTO);
+        return ResponseEntity.created(new URI("/api/waitlist/" + waitlistEntryDTO.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, waitlistEntryDTO.getId().toString()))
+            .body(waitlistEntryDTO);
+    }
+
+    /**
+     * {@code GET  /waitlist} : get the waitlist entries of the current user.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of entries in body.
+     */
+    @GetMapping("")
+    public List<WaitlistEntryDTO> getWaitlist() {
+        LOG.debug("REST request to get the WaitlistEntries of the current user");
+        return waitlistService.findAllOfCurrentUser();
+    }
+
+    /**
+     * {@code DELETE  /waitlist/:id} : leave the waitlist of a slot.
+     *
+     * @param id the id of the entry.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}, or with status {@code 404 (Not Found)} if the
+     * entry does not exist, was promoted or belongs to another user.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable("id") Long id) {
+        LOG.debug("REST request to delete WaitlistEntry : {}", id);
+        if (!waitlistService.leave(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent()
+            .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
+            .build();
+    }
+}
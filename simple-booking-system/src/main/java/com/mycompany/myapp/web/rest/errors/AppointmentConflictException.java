@@ -0,0 +1,27 @@
+package com.mycompany.myapp.web.rest.errors;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause.ProblemDetailWithCauseBuilder;
+
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class AppointmentConflictException extends ErrorResponseException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AppointmentConflictException(List<Instant> conflicts) {
+        super(
+            HttpStatus.CONFLICT,
+            ProblemDetailWithCauseBuilder.instance()
+                .withStatus(HttpStatus.CONFLICT.value())
+                .withType(ErrorConstants.APPOINTMENT_CONFLICT_TYPE)
+                .withTitle("Appointment conflicts with existing bookings")
+                .withProperty("message", "error.appointmentconflict")
+                .withProperty("conflicts", conflicts.stream().map(Instant::toString).toList())
+                .build(),
+            null
+        );
+    }
+}
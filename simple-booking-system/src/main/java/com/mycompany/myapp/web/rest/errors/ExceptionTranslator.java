@@ -95,6 +95,21 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (
             ex instanceof com.mycompany.myapp.service.InvalidPasswordException
         ) return (ProblemDetailWithCause) new InvalidPasswordException().getBody();
+        if (
+            ex instanceof com.mycompany.myapp.service.InvalidRecurrenceException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(ex.getMessage(), "appointmentSeries", "invalidrecurrence").getBody();
+        if (
+            ex instanceof com.mycompany.myapp.service.SlotHoldLimitExceededException
+        ) return (ProblemDetailWithCause) new BadRequestAlertException(ex.getMessage(), "slotHold", "toomanyholds").getBody();
+        if (
+            ex instanceof com.mycompany.myapp.service.AppointmentConflictException conflictException
+        ) return (ProblemDetailWithCause) new AppointmentConflictException(conflictException.getConflicts()).getBody();
+        if (
+            ex instanceof com.mycompany.myapp.security.LoginRateLimitExceededException
+        ) return (ProblemDetailWithCause) new TooManyLoginAttemptsException(ex.getMessage()).getBody();
+        if (
+            ex instanceof com.mycompany.myapp.security.PasswordHashingUnavailableException
+        ) return (ProblemDetailWithCause) new PasswordHashingUnavailableException(ex.getMessage()).getBody();
 
         if (
             ex instanceof ErrorResponseException exp && exp.getBody() instanceof ProblemDetailWithCause problemDetailWithCause
@@ -227,6 +242,16 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
+        if (err instanceof com.mycompany.myapp.security.LoginRateLimitExceededException rateLimitException) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, rateLimitException.getRetryAfter().toSeconds())));
+            return headers;
+        }
+        if (err instanceof com.mycompany.myapp.security.PasswordHashingUnavailableException) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "1");
+            return headers;
+        }
         return err instanceof BadRequestAlertException badRequestAlertException
             ? HeaderUtil.createFailureAlert(
                 applicationName,
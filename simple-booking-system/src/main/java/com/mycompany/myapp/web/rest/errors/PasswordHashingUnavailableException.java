@@ -0,0 +1,25 @@
+package com.mycompany.myapp.web.rest.errors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause.ProblemDetailWithCauseBuilder;
+
+@SuppressWarnings("java:S110") // Inheritance tree of classes should not be too deep
+public class PasswordHashingUnavailableException extends ErrorResponseException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingUnavailableException(String detail) {
+        super(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            ProblemDetailWithCauseBuilder.instance()
+                .withStatus(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .withType(ErrorConstants.PASSWORD_HASHING_UNAVAILABLE_TYPE)
+                .withTitle("Password hashing unavailable")
+                .withDetail(detail)
+                .withProperty("message", "error.passwordhashingunavailable")
+                .build(),
+            null
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.mycompany.myapp.web.rest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Utility class for handling conditional {@code GET} requests with strong ETags.
+ * <p>
+ * The ETag is computed from a cheap version token before any payload is loaded, so that a matching
+ * {@code If-None-Match} header costs a single version lookup and an empty {@code 304 (Not Modified)} response.
+ * <p>
+ * The resources have a JSON, a CBOR and a Smile representation, selected by the {@code Accept} header: it is part of their
+ * ETags, and the responses carrying an ETag vary by it.
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * Build a strong ETag from a version token and the parameters which select the representation.
+     *
+     * @param parts the version token, followed by anything else the response body depends on.
+     * @return the quoted ETag value.
+     */
+    public static String strongETag(Object... parts) {
+        StringBuilder value = new StringBuilder();
+        for (Object part : parts) {
+            value.append(part).append('|');
+        }
+        return '"' + DigestUtils.md5DigestAsHex(value.toString().getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+
+    /**
+     * The representation asked for by a request, to build its ETag from.
+     *
+     * @param request the current request.
+     * @return the value of its {@code Accept} header, or an empty string.
+     */
+    public static String representation(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept == null ? "" : accept;
+    }
+
+    /**
+     * Build an empty {@code 304 (Not Modified)} response, to be returned once
+     * {@link WebRequest#checkNotModified(String)} has matched the {@code If-None-Match} header.
+     *
+     * @param <X> type of the response.
+     * @param eTag the current ETag of the resource.
+     * @return the response with status {@code 304 (Not Modified)}.
+     */
+    public static <X> ResponseEntity<X> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    /**
+     * Create the headers of a full response carrying the given ETag.
+     *
+     * @param eTag the current ETag of the resource, or {@code null} if it does not exist.
+     * @return the {@link HttpHeaders}.
+     */
+    public static HttpHeaders createETagHeaders(String eTag) {
+        HttpHeaders headers = new HttpHeaders();
+        if (eTag != null) {
+            headers.setETag(eTag);
+            headers.setVary(List.of(HttpHeaders.ACCEPT));
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,102 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+
+/**
+ * Utility class for writing a list to the response as a JSON array, one row at a time, straight from the rows read from the
+ * database to a {@link JsonGenerator}, so that neither the entities nor the list are built. The endpoints using it only produce
+ * JSON, the other representations being left to their regular, paginated, handler.
+ * <p>
+ * The status and headers are sent with the first bytes of the array: an error while the rows are read can only abort the
+ * response, which the client then sees as a truncated array.
+ */
+public final class JsonStreamUtil {
+
+    private JsonStreamUtil() {}
+
+    /**
+     * Writes a row as a JSON value.
+     *
+     * @param <T> the type of the rows.
+     */
+    @FunctionalInterface
+    public interface RowWriter<T> {
+        void write(JsonGenerator generator, T row) throws IOException;
+    }
+
+    /**
+     * Write rows to the response as a JSON array.
+     *
+     * @param response the response.
+     * @param jsonFactory the factory of the generator, the one of the object mapper of the application.
+     * @param rows reads the rows and hands them to the consumer it is given, one at a time.
+     * @param rowWriter writes a row.
+     * @param <T> the type of the rows.
+     * @throws IOException if the response cannot be written.
+     */
+    public static <T> void writeArray(
+        HttpServletResponse response,
+        JsonFactory jsonFactory,
+        Consumer<Consumer<T>> rows,
+        RowWriter<T> rowWriter
+    ) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            try {
+                rows.accept(row -> {
+                    try {
+                        rowWriter.write(generator, row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Write an instant field, in the ISO-8601 format of the object mapper of the application.
+     *
+     * @param generator the generator.
+     * @param name the name of the field.
+     * @param value the instant, or {@code null}.
+     * @throws IOException if the field cannot be written.
+     */
+    public static void writeInstantField(JsonGenerator generator, String name, Instant value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Write a number field of a nullable id.
+     *
+     * @param generator the generator.
+     * @param name the name of the field.
+     * @param value the id, or {@code null}.
+     * @throws IOException if the field cannot be written.
+     */
+    public static void writeIdField(JsonGenerator generator, String name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+}
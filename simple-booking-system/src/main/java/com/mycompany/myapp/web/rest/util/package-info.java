@@ -0,0 +1,4 @@
+/**
+ * Utility classes for the REST layer.
+ */
+package com.mycompany.myapp.web.rest.util;
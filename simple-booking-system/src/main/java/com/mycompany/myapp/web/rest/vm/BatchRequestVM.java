@@ -0,0 +1,129 @@
+package com.mycompany.myapp.web.rest.vm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View Model object for a batch of operations on the REST resources, run in one round trip.
+ */
+public class BatchRequestVM {
+
+    public static final int MAX_OPERATIONS = 20;
+
+    @NotNull
+    @Size(min = 1, max = MAX_OPERATIONS)
+    @Valid
+    private List<Operation> operations;
+
+    private boolean atomic;
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<Operation> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Whether the operations run in order in a single transaction, rolled back if one of them fails.
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+    public void setAtomic(boolean atomic) {
+        this.atomic = atomic;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BatchRequestVM{" +
+            "operations=" + operations +
+            ", atomic=" + atomic +
+            "}";
+    }
+
+    /**
+     * A request to a REST resource, with a JSON body for the writes.
+     */
+    public static class Operation {
+
+        @Size(max = 50)
+        private String id;
+
+        @NotNull
+        @Pattern(regexp = "GET|HEAD|POST|PUT|PATCH|DELETE")
+        private String method;
+
+        @NotNull
+        @Size(max = 2000)
+        private String url;
+
+        private Map<String, String> headers;
+
+        private JsonNode body;
+
+        /**
+         * The id of the operation, given back with its result.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        /**
+         * The path of the resource under {@code /api/}, with its query.
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public void setHeaders(Map<String, String> headers) {
+            this.headers = headers;
+        }
+
+        public JsonNode getBody() {
+            return body;
+        }
+
+        public void setBody(JsonNode body) {
+            this.body = body;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "Operation{" +
+                "id='" + id + "'" +
+                ", method='" + method + "'" +
+                ", url='" + url + "'" +
+                "}";
+        }
+    }
+}
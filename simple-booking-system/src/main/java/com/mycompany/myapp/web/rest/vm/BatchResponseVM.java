@@ -0,0 +1,93 @@
+package com.mycompany.myapp.web.rest.vm;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View Model object for the results of a batch of operations, in the order of the operations.
+ */
+public class BatchResponseVM {
+
+    private List<Result> results;
+
+    public BatchResponseVM() {}
+
+    public BatchResponseVM(List<Result> results) {
+        this.results = results;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    /**
+     * The response to an operation: its status, headers and body, a JSON body being embedded as is.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+
+        private String id;
+
+        private int status;
+
+        private Map<String, String> headers;
+
+        private JsonNode body;
+
+        public Result() {}
+
+        public Result(String id, int status, Map<String, String> headers, JsonNode body) {
+            this.id = id;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public void setHeaders(Map<String, String> headers) {
+            this.headers = headers;
+        }
+
+        public JsonNode getBody() {
+            return body;
+        }
+
+        public void setBody(JsonNode body) {
+            this.body = body;
+        }
+
+        // prettier-ignore
+        @Override
+        public String toString() {
+            return "Result{" +
+                "id='" + id + "'" +
+                ", status=" + status +
+                "}";
+        }
+    }
+}
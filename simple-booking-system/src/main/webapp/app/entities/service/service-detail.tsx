@@ -49,6 +49,12 @@ export const ServiceDetail = () => {
             </span>
           </dt>
           <dd>{serviceEntity.price}</dd>
+          <dt>
+            <span id="capacity">
+              <Translate contentKey="simpleBookingSystemApp.service.capacity">Capacity</Translate>
+            </span>
+          </dt>
+          <dd>{serviceEntity.capacity}</dd>
         </dl>
         <Button tag={Link} to="/service" replace color="info" data-cy="entityDetailsBackButton">
           <FontAwesomeIcon icon="arrow-left" />{' '}
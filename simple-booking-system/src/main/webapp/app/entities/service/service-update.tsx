@@ -46,6 +46,9 @@ export const ServiceUpdate = () => {
     if (values.price !== undefined && typeof values.price !== 'number') {
       values.price = Number(values.price);
     }
+    if (values.capacity !== undefined && typeof values.capacity !== 'number') {
+      values.capacity = Number(values.capacity);
+    }
 
     const entity = {
       ...serviceEntity,
@@ -122,6 +125,18 @@ export const ServiceUpdate = () => {
                   validate: v => isNumber(v) || translate('entity.validation.number'),
                 }}
               />
+              <ValidatedField
+                label={translate('simpleBookingSystemApp.service.capacity')}
+                id="service-capacity"
+                name="capacity"
+                data-cy="capacity"
+                type="text"
+                validate={{
+                  required: { value: true, message: translate('entity.validation.required') },
+                  min: { value: 1, message: translate('entity.validation.min', { min: 1 }) },
+                  validate: v => isNumber(v) || translate('entity.validation.number'),
+                }}
+              />
               <Button tag={Link} id="cancel-save" data-cy="entityCreateCancelButton" to="/service" replace color="info">
                 <FontAwesomeIcon icon="arrow-left" />
                 &nbsp;
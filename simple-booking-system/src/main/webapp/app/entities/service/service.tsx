@@ -125,6 +125,10 @@ export const Service = () => {
                   <Translate contentKey="simpleBookingSystemApp.service.price">Price</Translate>{' '}
                   <FontAwesomeIcon icon={getSortIconByFieldName('price')} />
                 </th>
+                <th className="hand" onClick={sort('capacity')}>
+                  <Translate contentKey="simpleBookingSystemApp.service.capacity">Capacity</Translate>{' '}
+                  <FontAwesomeIcon icon={getSortIconByFieldName('capacity')} />
+                </th>
                 <th />
               </tr>
             </thead>
@@ -139,6 +143,7 @@ export const Service = () => {
                   <td>{service.name}</td>
                   <td>{service.description}</td>
                   <td>{service.price}</td>
+                  <td>{service.capacity}</td>
                   <td className="text-end">
                     <div className="btn-group flex-btn-group-container">
                       <Button tag={Link} to={`/service/${service.id}`} color="info" size="sm" data-cy="entityDetailsButton">
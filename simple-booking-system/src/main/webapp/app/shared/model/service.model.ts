@@ -3,6 +3,7 @@ export interface IService {
   name?: string;
   description?: string | null;
   price?: number;
+  capacity?: number;
 }
 
 export const defaultValue: Readonly<IService> = {};
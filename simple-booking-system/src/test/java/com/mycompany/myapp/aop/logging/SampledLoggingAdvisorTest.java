@@ -0,0 +1,135 @@
+package com.mycompany.myapp.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mycompany.myapp.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Service;
+
+/**
+ * Test class for the {@link SampledLoggingAdvisor}, advising the services of this package.
+ */
+class SampledLoggingAdvisorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SampledLoggingAdvisor advisor;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        ApplicationProperties.MethodLogging properties = new ApplicationProperties.MethodLogging();
+        properties.setSampleRate(1);
+        advisor = new SampledLoggingAdvisor(List.of("com.mycompany.myapp.aop.logging"), properties, () -> meterRegistry);
+    }
+
+    @Test
+    void testTimesCallsByOutcome() {
+        GreetingService greetingService = proxy(new GreetingService());
+
+        assertThat(greetingService.greet("Jane")).isEqualTo("Hello Jane");
+        assertThat(greetingService.greet("John")).isEqualTo("Hello John");
+        assertThatThrownBy(() -> greetingService.greet(null)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(timerCount("success")).isEqualTo(2);
+        assertThat(timerCount("error")).isEqualTo(1);
+    }
+
+    @Test
+    void testMatchesOnlyStereotypesOfPackages() {
+        assertThat(AopUtils.canApply(advisor.getPointcut(), GreetingService.class)).isTrue();
+        assertThat(AopUtils.canApply(advisor.getPointcut(), Greeter.class)).isFalse();
+        assertThat(AopUtils.canApply(advisor.getPointcut(), String.class)).isFalse();
+    }
+
+    @Test
+    void testDoesNotLogWhenNotSampled() {
+        ApplicationProperties.MethodLogging properties = new ApplicationProperties.MethodLogging();
+        properties.setSampleRate(0);
+        advisor = new SampledLoggingAdvisor(List.of("com.mycompany.myapp.aop.logging"), properties, () -> meterRegistry);
+        GreetingService greetingService = proxy(new GreetingService());
+
+        assertThat(greetingService.greet("Jane")).isEqualTo("Hello Jane");
+
+        assertThat(timerCount("success")).isEqualTo(1);
+    }
+
+    @Test
+    void testDoesNotLogArgumentsOrResults() {
+        Logger logger = (Logger) LoggerFactory.getLogger(GreetingService.class);
+        Level level = logger.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.DEBUG);
+        try {
+            GreetingService greetingService = proxy(new GreetingService());
+
+            greetingService.changePassword("current-secret", "new-secret");
+            assertThatThrownBy(() -> greetingService.changePassword(null, "other-secret")).isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            logger.detachAppender(appender);
+            logger.setLevel(level);
+        }
+
+        assertThat(appender.list).isNotEmpty();
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .allMatch(message -> message.contains("changePassword()"))
+            .noneMatch(message -> message.contains("secret"));
+    }
+
+    private GreetingService proxy(GreetingService target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(advisor);
+        return (GreetingService) proxyFactory.getProxy();
+    }
+
+    private long timerCount(String outcome) {
+        return meterRegistry
+            .get(SampledLoggingAdvisor.METER_NAME)
+            .tag("class", "GreetingService")
+            .tag("method", "greet")
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+
+    @Service
+    static class GreetingService {
+
+        String greet(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("No name");
+            }
+            return "Hello " + name;
+        }
+
+        String changePassword(String currentClearTextPassword, String newPassword) {
+            if (currentClearTextPassword == null) {
+                throw new IllegalArgumentException("No current password");
+            }
+            return newPassword;
+        }
+    }
+
+    static class Greeter {
+
+        String greet(String name) {
+            return "Hi " + name;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.mycompany.myapp.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Compares the encoding and decoding of a page of 1000 appointments in JSON, CBOR and Smile, with the object mappers of the
+ * message converters of the application. The size of the encoded page in each format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppointmentPayloadBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final TypeReference<List<AppointmentDTO>> PAGE_TYPE = new TypeReference<>() {};
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ConfigurableApplicationContext context;
+
+    private ObjectMapper mapper;
+
+    private List<AppointmentDTO> page;
+
+    private byte[] encodedPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        mapper = switch (format) {
+            case "cbor" -> context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+            case "smile" -> context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+            default -> context.getBean(ObjectMapper.class);
+        };
+        page = IntStream.range(0, PAGE_SIZE).mapToObj(AppointmentPayloadBenchmark::appointment).toList();
+        encodedPage = mapper.writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d appointments: %d bytes%n", format, PAGE_SIZE, encodedPage.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public List<AppointmentDTO> decode() throws IOException {
+        return mapper.readValue(encodedPage, PAGE_TYPE);
+    }
+
+    /**
+     * An appointment of one of 50 users for one of 10 services, as in a page of the approval queue.
+     */
+    private static AppointmentDTO appointment(int i) {
+        UserDTO user = new UserDTO();
+        user.setId(1000L + i % 50);
+        user.setLogin("user-" + i % 50);
+        ServiceDTO service = new ServiceDTO();
+        service.setId(1500L + i % 10);
+        service.setName("Service " + i % 10);
+        service.setDescription("Description of the service " + i % 10);
+        service.setPrice(BigDecimal.valueOf(40 + i % 10));
+        service.setCapacity(2);
+        Instant startTime = Instant.parse("2026-11-02T09:00:00Z").plus(i, ChronoUnit.HOURS);
+        AppointmentDTO appointment = new AppointmentDTO();
+        appointment.setId(2000L + i);
+        appointment.setStartTime(startTime);
+        appointment.setEndTime(startTime.plus(1, ChronoUnit.HOURS));
+        appointment.setStatus(i % 3 == 0 ? AppointmentStatus.REQUESTED : AppointmentStatus.SCHEDULED);
+        appointment.setSpecialNeeds(i % 4 == 0 ? "Wheelchair access" : null);
+        appointment.setUser(user);
+        appointment.setService(service);
+        return appointment;
+    }
+}
@@ -0,0 +1,136 @@
+package com.mycompany.myapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.AppointmentService;
+import com.mycompany.myapp.web.rest.AppointmentResource;
+import jakarta.servlet.ServletOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.DelegatingServletOutputStream;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Compares a page of 1000 appointments written by the streaming list mode, rows of a projection written straight to a
+ * {@link com.fasterxml.jackson.core.JsonGenerator}, with the default path, a page of entities mapped to DTOs then serialized.
+ * Both write to a discarding stream. The rows of the streaming list mode are also read alone, for the share of the database.
+ * <p>
+ * The scores are per row: run with {@code -prof gc} for the bytes allocated per row, in {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(AppointmentStreamingBenchmark.PAGE_SIZE)
+public class AppointmentStreamingBenchmark {
+
+    static final int PAGE_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+
+    private AppointmentService appointmentService;
+
+    private AppointmentResource appointmentResource;
+
+    private ObjectMapper objectMapper;
+
+    private final Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        appointmentService = context.getBean(AppointmentService.class);
+        appointmentResource = context.getBean(AppointmentResource.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        List<User> users = context
+            .getBean(UserRepository.class)
+            .saveAll(
+                IntStream.range(0, 50)
+                    .mapToObj(i -> {
+                        User user = new User();
+                        user.setLogin("streamed-user-" + i);
+                        user.setPassword("x".repeat(60));
+                        user.setEmail("streamed-user-" + i + "@localhost");
+                        user.setActivated(true);
+                        return user;
+                    })
+                    .toList()
+            );
+        List<Service> services = context
+            .getBean(ServiceRepository.class)
+            .saveAll(
+                IntStream.range(0, 10)
+                    .mapToObj(i -> new Service().name("Service " + i).description("Description " + i).price(BigDecimal.valueOf(40 + i)))
+                    .toList()
+            );
+        context
+            .getBean(AppointmentRepository.class)
+            .saveAll(
+                IntStream.range(0, PAGE_SIZE)
+                    .mapToObj(i -> {
+                        Instant startTime = Instant.parse("2026-11-02T09:00:00Z").plus(i, ChronoUnit.HOURS);
+                        return new Appointment()
+                            .startTime(startTime)
+                            .endTime(startTime.plus(1, ChronoUnit.HOURS))
+                            .status(i % 3 == 0 ? AppointmentStatus.REQUESTED : AppointmentStatus.SCHEDULED)
+                            .specialNeeds(i % 4 == 0 ? "Wheelchair access" : null)
+                            .user(users.get(i % users.size()))
+                            .service(services.get(i % services.size()));
+                    })
+                    .toList()
+            );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void streamed() throws IOException {
+        appointmentResource.getAllAppointmentsStreamed(pageable, new DiscardingResponse());
+    }
+
+    /**
+     * The rows of the streaming list mode, read without being written.
+     */
+    @Benchmark
+    public void rowsOnly(Blackhole blackhole) {
+        appointmentService.streamAll(pageable, blackhole::consume);
+    }
+
+    @Benchmark
+    public void mapped() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), appointmentService.findAllWithEagerRelationships(pageable).getContent());
+    }
+
+    /**
+     * A response whose body is discarded.
+     */
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private final ServletOutputStream output = new DelegatingServletOutputStream(OutputStream.nullOutputStream());
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return output;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.SimpleBookingSystemApp;
+import com.mycompany.myapp.config.AsyncSyncConfiguration;
+import com.mycompany.myapp.config.JacksonConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application on the embedded test database for JMH benchmarks, like {@link com.mycompany.myapp.IntegrationTest} does for tests.
+ * The login rate limit is disabled, and the given properties override the defaults.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {}
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(SimpleBookingSystemApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class)
+            .profiles("test", "testdev")
+            .properties(
+                "server.port=0",
+                "logging.level.ROOT=WARN",
+                "logging.level.com.mycompany.myapp=WARN",
+                // every virtual user of the load test logs in from the same address
+                "application.login-rate-limit.enabled=false"
+            )
+            .properties(properties)
+            .run();
+    }
+}
@@ -0,0 +1,44 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.config.CRLFLogConverter;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the replacement of the CRLF characters of a log message by {@link CRLFLogConverter#replaceCRLF} with the regular
+ * expression the converter used before, on a message with and without such characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CRLFLogConverterBenchmark {
+
+    private static final Pattern CRLF = Pattern.compile("[\n\r\t]");
+
+    @Param({ "false", "true" })
+    private boolean withCRLF;
+
+    private String message;
+
+    @Setup
+    public void setUp() {
+        message = "Request to get Appointment : AppointmentDTO{id=1051, startTime='2026-10-19T09:00:00Z', status='SCHEDULED'" +
+        (withCRLF ? ", notes='first line\r\nsecond line'}" : ", notes='first line second line'}");
+    }
+
+    @Benchmark
+    public String regex() {
+        return message.replaceAll("[\n\r\t]", "_");
+    }
+
+    @Benchmark
+    public String compiledRegex() {
+        return CRLF.matcher(message).replaceAll("_");
+    }
+
+    @Benchmark
+    public String scan() {
+        return CRLFLogConverter.replaceCRLF(message, "_");
+    }
+}
@@ -0,0 +1,77 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.AppointmentService;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+
+/**
+ * Compares {@link AppointmentService#findOne} called through its proxy, with and without the
+ * {@link com.mycompany.myapp.aop.logging.SampledLoggingAdvisor}, with the same call on the service itself, which runs
+ * neither the transaction nor the logging advice of the service but still calls the proxied repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MethodLoggingBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean methodLogging;
+
+    private ConfigurableApplicationContext context;
+
+    private AppointmentService proxiedService;
+
+    private AppointmentService unproxiedService;
+
+    private Long appointmentId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start("application.method-logging.enabled=" + methodLogging);
+        proxiedService = context.getBean(AppointmentService.class);
+        unproxiedService = AopTestUtils.getUltimateTargetObject(proxiedService);
+        Service service = context
+            .getBean(ServiceRepository.class)
+            .save(new Service().name("Haircut").description("Haircut").price(BigDecimal.TEN));
+        Instant startTime = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        appointmentId = context
+            .getBean(AppointmentRepository.class)
+            .save(
+                new Appointment()
+                    .startTime(startTime)
+                    .endTime(startTime.plus(1, ChronoUnit.HOURS))
+                    .status(AppointmentStatus.SCHEDULED)
+                    .user(context.getBean(UserRepository.class).findOneByLogin("user").orElseThrow())
+                    .service(service)
+            )
+            .getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<AppointmentDTO> proxied() {
+        return proxiedService.findOne(appointmentId);
+    }
+
+    @Benchmark
+    public Optional<AppointmentDTO> unproxied() {
+        return unproxiedService.findOne(appointmentId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.benchmark;
+
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.ServiceService;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.mapper.ServiceMapper;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares a page of the service catalogue served from the {@link com.mycompany.myapp.service.ServiceCatalogue} snapshot
+ * with the previous path, a paged repository query mapped to DTOs in a read-only transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceCatalogueBenchmark {
+
+    @Param({ "20", "200" })
+    private int catalogueSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ServiceService serviceService;
+
+    private ServiceRepository serviceRepository;
+
+    private ServiceMapper serviceMapper;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by("name"));
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        serviceService = context.getBean(ServiceService.class);
+        serviceRepository = context.getBean(ServiceRepository.class);
+        serviceMapper = context.getBean(ServiceMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        serviceRepository.saveAll(
+            IntStream.range(0, catalogueSize)
+                .mapToObj(i -> new Service().name("Service " + i).description("Description " + i).price(BigDecimal.valueOf(i)))
+                .toList()
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ServiceDTO> snapshot() {
+        return serviceService.findAll(pageable);
+    }
+
+    @Benchmark
+    public Page<ServiceDTO> repository() {
+        return readOnlyTransaction.execute(status -> serviceRepository.findAll(pageable).map(serviceMapper::toDto));
+    }
+}
@@ -0,0 +1,122 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link AsyncLogAppender}, with a queue of two events in front of an appender which can be held.
+ */
+class AsyncLogAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private final CountDownLatch appending = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+
+    private AsyncLogAppender asyncAppender;
+
+    @BeforeEach
+    void setup() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        AppenderBase<ILoggingEvent> heldAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                appending.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                messages.add(event.getFormattedMessage());
+            }
+        };
+        heldAppender.setContext(context);
+        heldAppender.start();
+        asyncAppender = new AsyncLogAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC");
+        asyncAppender.setQueueSize(2);
+        asyncAppender.addAppender(heldAppender);
+        asyncAppender.start();
+    }
+
+    @AfterEach
+    void cleanup() {
+        release.countDown();
+        asyncAppender.stop();
+    }
+
+    @Test
+    void testAppendsOnWorker() throws InterruptedException {
+        release.countDown();
+
+        asyncAppender.doAppend(event(Level.INFO, "first"));
+        asyncAppender.doAppend(event(Level.INFO, "second"));
+        asyncAppender.stop();
+
+        assertThat(messages).containsExactly("first", "second");
+        assertThat(asyncAppender.getDroppedCount(Level.INFO)).isZero();
+    }
+
+    @Test
+    void testDropsAndCountsWhenQueueIsFull() throws InterruptedException {
+        asyncAppender.doAppend(event(Level.INFO, "held"));
+        assertThat(appending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        asyncAppender.doAppend(event(Level.INFO, "queued"));
+        asyncAppender.doAppend(event(Level.WARN, "queued"));
+        asyncAppender.doAppend(event(Level.DEBUG, "dropped"));
+        asyncAppender.doAppend(event(Level.INFO, "dropped"));
+
+        assertThat(asyncAppender.getQueuedCount()).isEqualTo(2);
+        assertThat(asyncAppender.getDroppedCount(Level.DEBUG)).isEqualTo(1);
+        assertThat(asyncAppender.getDroppedCount(Level.INFO)).isEqualTo(1);
+        assertThat(asyncAppender.getDroppedCount(Level.WARN)).isZero();
+
+        release.countDown();
+        asyncAppender.stop();
+
+        assertThat(messages).containsExactly("held", "queued", "queued");
+    }
+
+    @Test
+    void testWaitsForPlaceForErrors() throws InterruptedException {
+        asyncAppender.doAppend(event(Level.INFO, "held"));
+        assertThat(appending.await(5, TimeUnit.SECONDS)).isTrue();
+        asyncAppender.doAppend(event(Level.INFO, "queued"));
+        asyncAppender.doAppend(event(Level.INFO, "queued"));
+
+        Thread caller = new Thread(() -> asyncAppender.doAppend(event(Level.ERROR, "waited")));
+        caller.start();
+        caller.join(200);
+        assertThat(caller.isAlive()).isTrue();
+
+        release.countDown();
+        caller.join(5000);
+        asyncAppender.stop();
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(asyncAppender.getDroppedCount(Level.ERROR)).isZero();
+        assertThat(messages).containsExactly("held", "queued", "queued", "waited");
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(AsyncLogAppenderTest.class.getName(), context.getLogger("test"), level, message, null, null);
+    }
+}
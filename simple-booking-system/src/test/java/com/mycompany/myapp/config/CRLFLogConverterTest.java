@@ -130,4 +130,19 @@ class CRLFLogConverterTest {
 
         assertThat(result).isEqualTo("input");
     }
+
+    @Test
+    void replaceCRLFShouldReturnSameStringWhenNothingToReplace() {
+        String input = "Test input string";
+
+        String result = CRLFLogConverter.replaceCRLF(input, "_");
+
+        assertSame(input, result);
+    }
+
+    @Test
+    void replaceCRLFShouldReplaceEachCRLFCharacter() {
+        assertEquals("__Test__input_string_", CRLFLogConverter.replaceCRLF("\r\nTest\r\ninput\tstring\n", "_"));
+        assertEquals("Test<>input", CRLFLogConverter.replaceCRLF("Test\ninput", "<>"));
+    }
 }
@@ -0,0 +1,46 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonLogEncoderTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testEncodesOneLineOfJson() throws Exception {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setCustomFields(Map.of("app_name", "simpleBookingSystem"));
+        LoggingEvent event = new LoggingEvent(
+            JsonLogEncoderTest.class.getName(),
+            context.getLogger("com.mycompany.myapp.Test"),
+            Level.WARN,
+            "Login of {} failed",
+            new IllegalStateException("Bad \"credentials\""),
+            new Object[] { "forged\r\n2026-01-01 INFO admin logged in" }
+        );
+
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        assertThat(line).endsWith("}\n").doesNotContain("\r").containsOnlyOnce("\n");
+        JsonNode json = mapper.readTree(line);
+        assertThat(json.get("level").asText()).isEqualTo("WARN");
+        assertThat(json.get("logger_name").asText()).isEqualTo("com.mycompany.myapp.Test");
+        assertThat(json.get("message").asText()).isEqualTo("Login of forged\r\n2026-01-01 INFO admin logged in failed");
+        assertThat(json.get("stack_trace").asText()).contains("IllegalStateException: Bad \"credentials\"");
+        assertThat(json.get("app_name").asText()).isEqualTo("simpleBookingSystem");
+        assertThat(json.get("timestamp").asText()).endsWith("Z");
+    }
+}
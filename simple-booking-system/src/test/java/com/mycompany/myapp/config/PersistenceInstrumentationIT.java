@@ -0,0 +1,106 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.mapper.AppointmentMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link PersistenceInstrumentationConfiguration}.
+ */
+@IntegrationTest
+@Transactional
+class PersistenceInstrumentationIT {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentMapper appointmentMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void shouldTagStatementsWithRepositoryMethod() {
+        appointmentRepository.findAllWithEagerRelationships(PageRequest.of(0, 10));
+
+        Timer timer = meterRegistry
+            .find(StatementMetricsListener.METRIC_NAME)
+            .tag("repository", "AppointmentRepository")
+            .tag("method", "findAllWithToOneRelationships")
+            .tag("type", "select")
+            .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @Test
+    void shouldExportHibernateStatistics() {
+        assertThat(meterRegistry.find("hibernate.entities.loads").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.entities.fetches").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void appointmentMapperShouldNotLoadRelationships() {
+        for (int i = 0; i < 5; i++) {
+            createAppointment(i);
+        }
+        em.flush();
+        em.clear();
+
+        List<Appointment> appointments = appointmentRepository.findAllWithEagerRelationships(PageRequest.of(0, 20)).getContent();
+        long statements = statementCount();
+        List<AppointmentDTO> appointmentDTOs = appointments.stream().map(appointmentMapper::toDto).toList();
+
+        assertThat(statementCount()).as("statements issued by AppointmentMapper.toDto").isEqualTo(statements);
+        assertThat(appointmentDTOs).allSatisfy(appointmentDTO -> {
+            assertThat(appointmentDTO.getUser().getLogin()).isNotNull();
+            assertThat(appointmentDTO.getService().getName()).isNotNull();
+        });
+    }
+
+    private void createAppointment(int index) {
+        User user = new User();
+        user.setLogin("instrumentation-" + index);
+        user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+        user.setActivated(true);
+        em.persist(user);
+        Service service = new Service().name("Service " + index).price(BigDecimal.TEN);
+        em.persist(service);
+        Instant startTime = Instant.now().truncatedTo(ChronoUnit.HOURS).plus(index, ChronoUnit.HOURS);
+        em.persist(
+            new Appointment()
+                .startTime(startTime)
+                .endTime(startTime.plus(1, ChronoUnit.HOURS))
+                .status(AppointmentStatus.REQUESTED)
+                .user(user)
+                .service(service)
+        );
+    }
+
+    private long statementCount() {
+        return meterRegistry.find(StatementMetricsListener.METRIC_NAME).timers().stream().mapToLong(Timer::count).sum();
+    }
+}
@@ -0,0 +1,91 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.ServiceService;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link ReplicaDataSourceConfiguration}, using a second H2 database as the replica.
+ */
+@IntegrationTest
+@TestPropertySource(
+    properties = {
+        "application.datasource.replica.enabled=true",
+        "application.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;MODE=MYSQL",
+        "application.datasource.replica.username=replica",
+        "application.datasource.replica.read-your-writes-window=PT1H",
+    }
+)
+class ReplicaDataSourceConfigurationIT {
+
+    private static final String REPLICA = "REPLICA";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ServiceService serviceService;
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+        assertThat(currentDatabase(false)).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    void shouldRouteNonTransactionalAccessToPrimary() {
+        assertThat(jdbcTemplate.queryForObject("select database()", String.class)).isNotEqualTo(REPLICA);
+    }
+
+    @Test
+    @WithMockUser("reader")
+    void shouldRouteReadOnlyTransactionsOfOtherUsersToReplica() {
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @WithMockUser("writer")
+    void shouldReadYourWritesFromPrimary() {
+        String primary = currentDatabase(false);
+
+        assertThat(currentDatabase(true)).isEqualTo(primary);
+    }
+
+    @Test
+    void shouldLoadServiceCatalogueFromPrimary() {
+        // the replica database has no tables: a catalogue read from it would fail
+        Service service = serviceRepository.saveAndFlush(new Service().name("Replicated").price(BigDecimal.ONE).capacity(1));
+        try {
+            assertThat(serviceService.findAll(Pageable.unpaged()).getContent())
+                .extracting(ServiceDTO::getId)
+                .contains(service.getId());
+        } finally {
+            serviceRepository.deleteById(service.getId());
+        }
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+}
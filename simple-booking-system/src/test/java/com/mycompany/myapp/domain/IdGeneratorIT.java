@@ -0,0 +1,88 @@
+package com.mycompany.myapp.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.StatementMetricsListener;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the pooled identifier generation of the entities, which lets Hibernate batch their inserts.
+ */
+@IntegrationTest
+@Transactional
+class IdGeneratorIT {
+
+    private static final int BATCH_SIZE = 25;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void shouldBatchInserts() {
+        User user = new User();
+        user.setLogin("id-generator");
+        user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+        user.setActivated(true);
+        em.persist(user);
+        Service service = new Service().name("Id generator").price(BigDecimal.TEN);
+        em.persist(service);
+        em.flush();
+
+        long batches = insertCount(true);
+        long singleInserts = insertCount(false);
+        Instant startTime = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        List<Appointment> appointments = IntStream.range(0, 60)
+            .mapToObj(i ->
+                new Appointment()
+                    .startTime(startTime.plus(i, ChronoUnit.HOURS))
+                    .endTime(startTime.plus(i + 1L, ChronoUnit.HOURS))
+                    .status(AppointmentStatus.REQUESTED)
+                    .user(user)
+                    .service(service)
+            )
+            .toList();
+        appointmentRepository.saveAllAndFlush(appointments);
+
+        assertThat(insertCount(true) - batches).isEqualTo((60 + BATCH_SIZE - 1) / BATCH_SIZE);
+        assertThat(insertCount(false) - singleInserts).isZero();
+    }
+
+    @Test
+    void shouldAllocateIdsAfterTheIdentityStartValues() {
+        Service service = new Service().name("Id generator").price(BigDecimal.TEN);
+        em.persist(service);
+
+        assertThat(service.getId()).isGreaterThanOrEqualTo(1500L);
+    }
+
+    private long insertCount(boolean batch) {
+        return meterRegistry
+            .find(StatementMetricsListener.METRIC_NAME)
+            .tag("type", "insert")
+            .tag("batch", String.valueOf(batch))
+            .timers()
+            .stream()
+            .mapToLong(Timer::count)
+            .sum();
+    }
+}
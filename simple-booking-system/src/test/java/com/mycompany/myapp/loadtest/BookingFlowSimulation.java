@@ -0,0 +1,300 @@
+package com.mycompany.myapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mycompany.myapp.benchmark.BenchmarkContext;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load test of the booking flow: boots the application on the embedded test database, then runs concurrent virtual users which
+ * log in, browse the service catalogue, book appointments, have them approved by an admin and cancel some of them.
+ * <p>
+ * Prints the throughput, latency percentiles and error rate of each endpoint, and exits with a non-zero status when one of them
+ * exceeds the configured thresholds, so that it can gate a release. Run it with the {@code load-test} Maven profile.
+ */
+public final class BookingFlowSimulation {
+
+    private static final String APPOINTMENTS = "/api/appointments";
+
+    private static final String SERVICES = "/api/services";
+
+    private final int users = Integer.getInteger("load-test.users", 10);
+
+    private final int iterations = Integer.getInteger("load-test.iterations", 20);
+
+    private final int warmupIterations = Integer.getInteger("load-test.warmup-iterations", 2);
+
+    private final int services = Integer.getInteger("load-test.services", 10);
+
+    private final int cancelEvery = Integer.getInteger("load-test.cancel-every", 3);
+
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load-test.max-error-rate", "0.01"));
+
+    private final double maxP95 = Double.parseDouble(System.getProperty("load-test.max-p95", "1000"));
+
+    private final double maxP99 = Double.parseDouble(System.getProperty("load-test.max-p99", "2000"));
+
+    private final String report = System.getProperty("load-test.report");
+
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong slots = new AtomicLong();
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private final ObjectMapper mapper;
+
+    private final String baseUrl;
+
+    private String adminToken;
+
+    private volatile boolean recording;
+
+    private BookingFlowSimulation(ObjectMapper mapper, String baseUrl) {
+        this.mapper = mapper;
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> violations;
+        try (ConfigurableApplicationContext context = BenchmarkContext.start()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+            violations = new BookingFlowSimulation(context.getBean(ObjectMapper.class), baseUrl).run();
+        }
+        violations.forEach(violation -> System.out.println("FAILED: " + violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private List<String> run() throws Exception {
+        System.out.printf("Running the booking flow with %d virtual users, %d iterations each%n", users, iterations);
+        setUp();
+        runPhase(warmupIterations);
+        recording = true;
+        Duration elapsed = runPhase(iterations);
+        recording = false;
+
+        List<EndpointStats.Summary> summaries = stats.values().stream().map(endpointStats -> endpointStats.summarize(elapsed)).toList();
+        print(summaries);
+        if (report != null) {
+            write(summaries, Path.of(report));
+        }
+        return check(summaries);
+    }
+
+    private void setUp() throws IOException, InterruptedException {
+        adminToken = authenticate("admin", "admin");
+        if (adminToken == null) {
+            throw new IllegalStateException("Could not authenticate as admin");
+        }
+        for (int i = 0; i < services; i++) {
+            ObjectNode service = mapper.createObjectNode().put("name", "Load test service " + i).put("price", BigDecimal.valueOf(10 + i));
+            if (call("POST " + SERVICES, post(SERVICES, adminToken, service)) == null) {
+                throw new IllegalStateException("Could not create the services");
+            }
+        }
+    }
+
+    private Duration runPhase(int phaseIterations) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        long start = System.nanoTime();
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        virtualUser(phaseIterations);
+                        return null;
+                    })
+                );
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void virtualUser(int phaseIterations) throws IOException, InterruptedException {
+        String token = authenticate("user", "user");
+        JsonNode account = token == null ? null : call("GET /api/account", get("/api/account", token));
+        if (account == null) {
+            return;
+        }
+        for (int i = 0; i < phaseIterations; i++) {
+            book(token, account, i % cancelEvery == cancelEvery - 1);
+        }
+    }
+
+    private void book(String token, JsonNode account, boolean cancel) throws IOException, InterruptedException {
+        JsonNode page = call("GET " + SERVICES, get(SERVICES + "?page=0&size=20", token));
+        if (page == null || page.isEmpty()) {
+            return;
+        }
+        long serviceId = page.get(ThreadLocalRandom.current().nextInt(page.size())).get("id").asLong();
+        if (call("GET " + SERVICES + "/{id}", get(SERVICES + "/" + serviceId, token)) == null) {
+            return;
+        }
+
+        // Every booking gets its own slot, so that they never conflict with each other
+        Instant startTime = Instant.now()
+            .truncatedTo(ChronoUnit.DAYS)
+            .plus(1, ChronoUnit.DAYS)
+            .plus(slots.getAndIncrement(), ChronoUnit.HOURS);
+        ObjectNode appointment = mapper
+            .createObjectNode()
+            .put("startTime", startTime.toString())
+            .put("endTime", startTime.plus(1, ChronoUnit.HOURS).toString())
+            .put("status", AppointmentStatus.REQUESTED.name());
+        appointment.putObject("user").put("id", account.get("id").asLong()).put("login", account.get("login").asText());
+        appointment.putObject("service").put("id", serviceId);
+        JsonNode created = call("POST " + APPOINTMENTS, post(APPOINTMENTS, token, appointment));
+        if (created == null) {
+            return;
+        }
+
+        String location = APPOINTMENTS + "/" + created.get("id").asLong();
+        call("GET " + APPOINTMENTS + "/{id}", get(location, token));
+        call("PUT " + APPOINTMENTS + "/{id}/approve", request(location + "/approve", adminToken).PUT(HttpRequest.BodyPublishers.noBody()));
+        if (cancel) {
+            ObjectNode patch = mapper
+                .createObjectNode()
+                .put("id", created.get("id").asLong())
+                .put("status", AppointmentStatus.CANCELLED.name());
+            call(
+                "PATCH " + APPOINTMENTS + "/{id}",
+                request(location, token)
+                    .header("Content-Type", "application/merge-patch+json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(patch)))
+            );
+        }
+        call("GET " + APPOINTMENTS, get(APPOINTMENTS + "?page=0&size=20", token));
+    }
+
+    private String authenticate(String username, String password) throws IOException, InterruptedException {
+        ObjectNode login = mapper.createObjectNode().put("username", username).put("password", password);
+        JsonNode token = call("POST /api/authenticate", post("/api/authenticate", null, login));
+        return token == null ? null : token.get("id_token").asText();
+    }
+
+    /**
+     * Sends the request and records its latency under the given endpoint.
+     *
+     * @return the response body, or {@code null} if the request failed.
+     */
+    private JsonNode call(String endpoint, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = null;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            // Recorded as an error below
+        }
+        boolean error = response == null || response.statusCode() >= 400;
+        if (recording) {
+            stats.computeIfAbsent(endpoint, EndpointStats::new).record(System.nanoTime() - start, error);
+        }
+        if (error) {
+            return null;
+        }
+        return response.body().length == 0 ? mapper.createObjectNode() : mapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder get(String path, String token) {
+        return request(path, token).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String token, JsonNode body) throws IOException {
+        return request(path, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Accept", "application/json");
+        return token == null ? request : request.header("Authorization", "Bearer " + token);
+    }
+
+    private static void print(List<EndpointStats.Summary> summaries) {
+        System.out.printf("%n%-40s %9s %10s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Req/s", "Errors", "p50 ms", "p95 ms", "p99 ms");
+        for (EndpointStats.Summary summary : summaries) {
+            System.out.printf(
+                Locale.ROOT,
+                "%-40s %9d %10.1f %8.2f%% %9.1f %9.1f %9.1f%n",
+                summary.endpoint(),
+                summary.requests(),
+                summary.throughput(),
+                summary.errorRate() * 100,
+                summary.p50(),
+                summary.p95(),
+                summary.p99()
+            );
+        }
+    }
+
+    private static void write(List<EndpointStats.Summary> summaries, Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println("endpoint,requests,throughput,error_rate,p50_ms,p95_ms,p99_ms");
+            for (EndpointStats.Summary summary : summaries) {
+                writer.println(
+                    String.format(
+                        Locale.ROOT,
+                        "%s,%d,%.3f,%.5f,%.3f,%.3f,%.3f",
+                        summary.endpoint(),
+                        summary.requests(),
+                        summary.throughput(),
+                        summary.errorRate(),
+                        summary.p50(),
+                        summary.p95(),
+                        summary.p99()
+                    )
+                );
+            }
+        }
+    }
+
+    private List<String> check(List<EndpointStats.Summary> summaries) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats.Summary summary : summaries) {
+            if (summary.errorRate() > maxErrorRate) {
+                violations.add(
+                    String.format(Locale.ROOT, "%s error rate %.4f > %.4f", summary.endpoint(), summary.errorRate(), maxErrorRate)
+                );
+            }
+            if (maxP95 > 0 && summary.p95() > maxP95) {
+                violations.add(String.format(Locale.ROOT, "%s p95 %.1f ms > %.1f ms", summary.endpoint(), summary.p95(), maxP95));
+            }
+            if (maxP99 > 0 && summary.p99() > maxP99) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.1f ms > %.1f ms", summary.endpoint(), summary.p99(), maxP99));
+            }
+        }
+        return violations;
+    }
+}
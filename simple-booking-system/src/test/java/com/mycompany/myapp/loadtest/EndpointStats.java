@@ -0,0 +1,59 @@
+package com.mycompany.myapp.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Latencies and errors recorded for one endpoint of a {@link BookingFlowSimulation} run.
+ */
+final class EndpointStats {
+
+    private final String endpoint;
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private int errors;
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void record(long latencyNanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(Duration elapsed) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(
+            endpoint,
+            count,
+            count / Math.max(elapsed.toNanos() / 1e9, 1e-9),
+            count == 0 ? 0 : (double) errors / count,
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.95),
+            percentile(sorted, 0.99)
+        );
+    }
+
+    /**
+     * Nearest-rank percentile, in milliseconds.
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    record Summary(String endpoint, int requests, double throughput, double errorRate, double p50, double p95, double p99) {}
+}
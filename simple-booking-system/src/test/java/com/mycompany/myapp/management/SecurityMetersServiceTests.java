@@ -67,4 +67,18 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testLoginLockoutsCountersByKeyAreBoundToCorrectCounters() {
+        assertThat(meterRegistry.find("security.authentication.login-lockouts").counters()).hasSize(2);
+
+        securityMetersService.trackLoginIpLockout();
+
+        assertThat(meterRegistry.get("security.authentication.login-lockouts").tag("key", "ip").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.authentication.login-lockouts").tag("key", "login").counter().count()).isZero();
+
+        securityMetersService.trackLoginUserLockout();
+
+        assertThat(meterRegistry.get("security.authentication.login-lockouts").tag("key", "login").counter().count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,38 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link BloomFilter}.
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+
+    @Test
+    void testFindsEveryPutString() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("user-" + i + "@localhost"));
+
+        assertThat(IntStream.range(0, INSERTIONS)).allMatch(i -> filter.mightContain("user-" + i + "@localhost"));
+    }
+
+    @Test
+    void testFalsePositivesStayNearTheirProbability() {
+        BloomFilter filter = BloomFilter.create(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("user-" + i));
+
+        long falsePositives = IntStream.range(0, INSERTIONS).filter(i -> filter.mightContain("unknown-" + i)).count();
+
+        assertThat(falsePositives).isLessThan(INSERTIONS / 50);
+    }
+
+    @Test
+    void testRejectsInvalidProbability() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BloomFilter.create(INSERTIONS, 1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Test class for the {@link BulkheadPasswordEncoder}, with a single hashing thread and a queue of one password.
+ */
+class BulkheadPasswordEncoderTest {
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MeterRegistry meterRegistry;
+
+    private BulkheadPasswordEncoder encoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = encoder(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void cleanup() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void testHashesOnExecutor() {
+        release.countDown();
+
+        assertThat(encoder.encode("secret")).isEqualTo("{password-hashing-1}secret");
+        assertThat(encoder.matches("secret", "secret")).isTrue();
+        assertThat(meterRegistry.get(BulkheadPasswordEncoder.HASHING_METER_NAME).tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BulkheadPasswordEncoder.HASHING_METER_NAME).tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(BulkheadPasswordEncoder.QUEUE_METER_NAME).tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("running"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+        while (meterRegistry.get(BulkheadPasswordEncoder.QUEUED_METER_NAME).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.matches("rejected", "rejected")).isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(rejected("matches")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).endsWith("running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).endsWith("queued");
+    }
+
+    @Test
+    void testGivesUpAfterDeadline() throws Exception {
+        encoder.shutdown();
+        encoder = encoder(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> encoder.encode("slow")).isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(rejected("encode")).isEqualTo(1);
+    }
+
+    private BulkheadPasswordEncoder encoder(Duration deadline) {
+        return new BulkheadPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, Duration.ofSeconds(5), deadline, meterRegistry);
+    }
+
+    private double rejected(String operation) {
+        return meterRegistry.get(BulkheadPasswordEncoder.REJECTED_METER_NAME).tag("operation", operation).counter().count();
+    }
+
+    /**
+     * Encoder "hashing" a password into itself prefixed by its thread, once released.
+     */
+    private final class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{" + Thread.currentThread().getName() + "}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.contentEquals(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link DatabaseLoginAttemptStore}, within the transaction of the test.
+ */
+@IntegrationTest
+@Transactional
+class DatabaseLoginAttemptStoreIT {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    private DatabaseLoginAttemptStore store;
+
+    private Duration window;
+
+    @BeforeEach
+    void setup() {
+        store = new DatabaseLoginAttemptStore(em, applicationProperties);
+        window = applicationProperties.getLoginRateLimit().getLoginWindow();
+    }
+
+    @Test
+    void testCountsAttemptsOfKey() {
+        assertThat(store.count("ip:192.0.2.1", window)).isZero();
+
+        store.record("ip:192.0.2.1", window);
+        store.record("ip:192.0.2.1", window);
+        store.record("ip:192.0.2.1", window);
+        store.record("ip:192.0.2.2", window);
+
+        assertThat(store.count("ip:192.0.2.1", window)).isCloseTo(3, within(0.01));
+        assertThat(store.count("ip:192.0.2.2", window)).isCloseTo(1, within(0.01));
+    }
+
+    @Test
+    void testPurgeDeletesOldWindows() {
+        em
+            .createNativeQuery("insert into login_attempt (attempt_key, window_start, attempts) values ('ip:192.0.2.1', :windowStart, 7)")
+            .setParameter("windowStart", Instant.now().minus(Duration.ofDays(1)))
+            .executeUpdate();
+        store.record("ip:192.0.2.1", window);
+
+        store.purge();
+
+        Number attempts = (Number) em
+            .createNativeQuery("select attempts from login_attempt where attempt_key = 'ip:192.0.2.1'")
+            .getSingleResult();
+        assertThat(attempts.intValue()).isEqualTo(1);
+    }
+}
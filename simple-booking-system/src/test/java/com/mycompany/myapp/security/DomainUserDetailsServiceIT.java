@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.StatementMetricsListener;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Locale;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -16,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -42,6 +46,9 @@ class DomainUserDetailsServiceIT {
     @Qualifier("userDetailsService")
     private UserDetailsService domainUserDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public User getUserOne() {
         User userOne = new User();
         userOne.setLogin(USER_ONE_LOGIN);
@@ -133,4 +140,30 @@ class DomainUserDetailsServiceIT {
             domainUserDetailsService.loadUserByUsername(USER_THREE_LOGIN)
         );
     }
+
+    @Test
+    void assertThatUnknownUserIsRefusedWithoutQuery() {
+        long loginQueries = statementCount("findOneWithAuthoritiesByLogin");
+        long emailQueries = statementCount("findOneWithAuthoritiesByEmailIgnoreCase");
+
+        assertThatExceptionOfType(UsernameNotFoundException.class).isThrownBy(() ->
+            domainUserDetailsService.loadUserByUsername("test-user-unknown")
+        );
+        assertThatExceptionOfType(UsernameNotFoundException.class).isThrownBy(() ->
+            domainUserDetailsService.loadUserByUsername("test-user-unknown@localhost")
+        );
+
+        assertThat(statementCount("findOneWithAuthoritiesByLogin")).isEqualTo(loginQueries);
+        assertThat(statementCount("findOneWithAuthoritiesByEmailIgnoreCase")).isEqualTo(emailQueries);
+    }
+
+    private long statementCount(String method) {
+        return meterRegistry
+            .find(StatementMetricsListener.METRIC_NAME)
+            .tag("method", method)
+            .timers()
+            .stream()
+            .mapToLong(Timer::count)
+            .sum();
+    }
 }
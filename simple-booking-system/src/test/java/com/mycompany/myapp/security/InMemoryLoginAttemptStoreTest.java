@@ -0,0 +1,72 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link InMemoryLoginAttemptStore}, on a clock moved by hand.
+ */
+class InMemoryLoginAttemptStoreTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private InMemoryLoginAttemptStore store;
+
+    @BeforeEach
+    void setup() {
+        now.set(WINDOW.toMillis() * 1000);
+        store = new InMemoryLoginAttemptStore(now::get);
+    }
+
+    @Test
+    void testCountsAttemptsOfKey() {
+        assertThat(store.count("ip:192.0.2.1", WINDOW)).isZero();
+
+        store.record("ip:192.0.2.1", WINDOW);
+        store.record("ip:192.0.2.1", WINDOW);
+        store.record("ip:192.0.2.2", WINDOW);
+
+        assertThat(store.count("ip:192.0.2.1", WINDOW)).isEqualTo(2);
+        assertThat(store.count("ip:192.0.2.2", WINDOW)).isEqualTo(1);
+    }
+
+    @Test
+    void testPreviousWindowFadesOut() {
+        for (int i = 0; i < 4; i++) {
+            store.record("login:user", WINDOW);
+        }
+
+        now.addAndGet(WINDOW.toMillis() / 4);
+        assertThat(store.count("login:user", WINDOW)).isEqualTo(4);
+
+        now.addAndGet(WINDOW.toMillis());
+        store.record("login:user", WINDOW);
+        assertThat(store.count("login:user", WINDOW)).isEqualTo(4 * 0.75 + 1);
+
+        now.addAndGet(WINDOW.toMillis() / 2);
+        assertThat(store.count("login:user", WINDOW)).isEqualTo(4 * 0.25 + 1);
+
+        now.addAndGet(WINDOW.toMillis() * 2);
+        assertThat(store.count("login:user", WINDOW)).isZero();
+    }
+
+    @Test
+    void testPurgeDropsIdleKeys() {
+        store.record("ip:192.0.2.1", WINDOW);
+        now.addAndGet(WINDOW.toMillis());
+        store.record("ip:192.0.2.2", WINDOW);
+
+        now.addAndGet(WINDOW.toMillis());
+        store.purge();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.count("ip:192.0.2.1", WINDOW)).isZero();
+        assertThat(store.count("ip:192.0.2.2", WINDOW)).isEqualTo(1);
+    }
+}
@@ -4,6 +4,8 @@ import com.mycompany.myapp.config.SecurityConfiguration;
 import com.mycompany.myapp.config.SecurityJwtConfiguration;
 import com.mycompany.myapp.config.WebConfigurer;
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.InMemoryLoginAttemptStore;
+import com.mycompany.myapp.security.LoginRateLimiter;
 import com.mycompany.myapp.web.rest.AuthenticateController;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -26,6 +28,8 @@ import tech.jhipster.config.JHipsterProperties;
         SecurityJwtConfiguration.class,
         SecurityMetersService.class,
         AuthenticateController.class,
+        LoginRateLimiter.class,
+        InMemoryLoginAttemptStore.class,
         JwtAuthenticationTestUtils.class,
     }
 )
@@ -0,0 +1,166 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.service.dto.AppointmentEventDTO;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link AppointmentEventBus}, with a history of 4 events and queues of 4 events.
+ */
+class AppointmentEventBusTest {
+
+    private static final String RESET = "reset";
+
+    private static final String CLOSED = "closed";
+
+    private AppointmentEventBus appointmentEventBus;
+
+    @BeforeEach
+    void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAppointmentEvents().setHistorySize(4);
+        applicationProperties.getAppointmentEvents().setSubscriberQueueSize(4);
+        appointmentEventBus = new AppointmentEventBus(applicationProperties);
+    }
+
+    @AfterEach
+    void cleanup() {
+        appointmentEventBus.shutdown();
+    }
+
+    @Test
+    void testPublishesToSubscribers() throws Exception {
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        appointmentEventBus.subscribe(null, first);
+        appointmentEventBus.subscribe(null, second);
+
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(1L));
+
+        String eventId = first.next();
+        assertThat(eventId).endsWith("-1");
+        assertThat(second.next()).isEqualTo(eventId);
+    }
+
+    @Test
+    void testResumesAfterLastEventId() throws Exception {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        appointmentEventBus.subscribe(null, subscriber);
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(1L));
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(2L));
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(3L));
+        String firstEventId = subscriber.next();
+
+        RecordingSubscriber resumed = new RecordingSubscriber();
+        appointmentEventBus.subscribe(firstEventId, resumed);
+
+        assertThat(resumed.next()).endsWith("-2");
+        assertThat(resumed.next()).endsWith("-3");
+        assertThat(resumed.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void testResumesAfterMoreEventsThanTheQueueHolds() throws Exception {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAppointmentEvents().setHistorySize(8);
+        applicationProperties.getAppointmentEvents().setSubscriberQueueSize(2);
+        AppointmentEventBus largeHistoryBus = new AppointmentEventBus(applicationProperties);
+        try {
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            largeHistoryBus.subscribe(null, subscriber);
+            largeHistoryBus.publishAfterCommit(AppointmentEventDTO.deleted(1L));
+            String firstEventId = subscriber.next();
+            for (long id = 2; id <= 7; id++) {
+                largeHistoryBus.publishAfterCommit(AppointmentEventDTO.deleted(id));
+            }
+
+            RecordingSubscriber resumed = new RecordingSubscriber();
+            largeHistoryBus.subscribe(firstEventId, resumed);
+
+            for (int sequence = 2; sequence <= 7; sequence++) {
+                assertThat(resumed.next()).endsWith("-" + sequence);
+            }
+            assertThat(resumed.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        } finally {
+            largeHistoryBus.shutdown();
+        }
+    }
+
+    @Test
+    void testResetsWhenLastEventIdIsUnknown() throws Exception {
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(1L));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        appointmentEventBus.subscribe("previous-1", subscriber);
+
+        assertThat(subscriber.next()).isEqualTo(RESET);
+    }
+
+    @Test
+    void testClosesSubscriberFallingBehind() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber slow = new RecordingSubscriber() {
+            @Override
+            public void send(AppointmentEventDTO event) throws IOException {
+                sending.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(event);
+            }
+        };
+        appointmentEventBus.subscribe(null, slow);
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(1L));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (long id = 2; id <= 5; id++) {
+            appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(id));
+        }
+        assertThat(slow.events).isEmpty();
+        assertThat(appointmentEventBus.getSubscriberCount()).isEqualTo(1);
+        appointmentEventBus.publishAfterCommit(AppointmentEventDTO.deleted(6L));
+
+        assertThat(slow.events).containsExactly(CLOSED);
+        assertThat(appointmentEventBus.getSubscriberCount()).isZero();
+        release.countDown();
+    }
+
+    private static class RecordingSubscriber implements AppointmentEventBus.Subscriber {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        String next() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void send(AppointmentEventDTO event) throws IOException {
+            events.add(event.getEventId());
+        }
+
+        @Override
+        public void reset() {
+            events.add(RESET);
+        }
+
+        @Override
+        public void heartbeat() {}
+
+        @Override
+        public void close() {
+            events.add(CLOSED);
+        }
+    }
+}
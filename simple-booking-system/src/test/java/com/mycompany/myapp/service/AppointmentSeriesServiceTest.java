@@ -0,0 +1,125 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import com.mycompany.myapp.service.AppointmentSeriesService.Occurrence;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AppointmentSeriesServiceTest {
+
+    private static final Instant START_TIME = Instant.parse("2026-01-05T10:00:00Z");
+
+    private static final Instant END_TIME = START_TIME.plus(1, ChronoUnit.HOURS);
+
+    @Test
+    void shouldExpandWeeklySeriesByCount() {
+        List<Occurrence> occurrences = AppointmentSeriesService.expand(
+            START_TIME,
+            END_TIME,
+            RecurrenceFrequency.WEEKLY,
+            52,
+            null,
+            ZoneOffset.UTC
+        );
+
+        assertThat(occurrences).hasSize(52);
+        assertThat(occurrences.get(1)).isEqualTo(new Occurrence(START_TIME.plus(7, ChronoUnit.DAYS), END_TIME.plus(7, ChronoUnit.DAYS)));
+        assertThat(occurrences.get(51).startTime()).isEqualTo(START_TIME.plus(51 * 7, ChronoUnit.DAYS));
+    }
+
+    @Test
+    void shouldExpandBiweeklySeriesUntilInclusive() {
+        List<Occurrence> occurrences = AppointmentSeriesService.expand(
+            START_TIME,
+            END_TIME,
+            RecurrenceFrequency.BIWEEKLY,
+            null,
+            START_TIME.plus(28, ChronoUnit.DAYS),
+            ZoneOffset.UTC
+        );
+
+        assertThat(occurrences)
+            .extracting(Occurrence::startTime)
+            .containsExactly(START_TIME, START_TIME.plus(14, ChronoUnit.DAYS), START_TIME.plus(28, ChronoUnit.DAYS));
+    }
+
+    @Test
+    void shouldClampMonthlySeriesToTheEndOfShortMonths() {
+        Instant startTime = Instant.parse("2026-01-31T10:00:00Z");
+
+        List<Occurrence> occurrences = AppointmentSeriesService.expand(
+            startTime,
+            startTime.plus(1, ChronoUnit.HOURS),
+            RecurrenceFrequency.MONTHLY,
+            3,
+            null,
+            ZoneOffset.UTC
+        );
+
+        assertThat(occurrences)
+            .extracting(Occurrence::startTime)
+            .containsExactly(startTime, Instant.parse("2026-02-28T10:00:00Z"), Instant.parse("2026-03-31T10:00:00Z"));
+    }
+
+    @Test
+    void shouldKeepTheLocalTimeAcrossDaylightSavingTime() {
+        Instant startTime = Instant.parse("2026-03-23T09:00:00Z"); // 10:00 in Paris, winter time
+
+        List<Occurrence> occurrences = AppointmentSeriesService.expand(
+            startTime,
+            startTime.plus(1, ChronoUnit.HOURS),
+            RecurrenceFrequency.WEEKLY,
+            2,
+            null,
+            ZoneId.of("Europe/Paris")
+        );
+
+        assertThat(occurrences.get(1)).isEqualTo(
+            new Occurrence(Instant.parse("2026-03-30T08:00:00Z"), Instant.parse("2026-03-30T09:00:00Z"))
+        );
+    }
+
+    @Test
+    void shouldRejectInvalidRecurrences() {
+        assertThatThrownBy(() ->
+            AppointmentSeriesService.expand(START_TIME, END_TIME, RecurrenceFrequency.WEEKLY, 2, END_TIME, ZoneOffset.UTC)
+        ).isInstanceOf(InvalidRecurrenceException.class);
+        assertThatThrownBy(() ->
+            AppointmentSeriesService.expand(START_TIME, END_TIME, RecurrenceFrequency.WEEKLY, null, null, ZoneOffset.UTC)
+        ).isInstanceOf(InvalidRecurrenceException.class);
+        assertThatThrownBy(() ->
+            AppointmentSeriesService.expand(START_TIME, START_TIME, RecurrenceFrequency.WEEKLY, 2, null, ZoneOffset.UTC)
+        ).isInstanceOf(InvalidRecurrenceException.class);
+        assertThatThrownBy(() ->
+            AppointmentSeriesService.expand(
+                START_TIME,
+                START_TIME.plus(8, ChronoUnit.DAYS),
+                RecurrenceFrequency.WEEKLY,
+                2,
+                null,
+                ZoneOffset.UTC
+            )
+        )
+            .isInstanceOf(InvalidRecurrenceException.class)
+            .hasMessageContaining("overlap");
+        assertThatThrownBy(() ->
+            AppointmentSeriesService.expand(
+                START_TIME,
+                END_TIME,
+                RecurrenceFrequency.WEEKLY,
+                AppointmentSeriesService.MAX_OCCURRENCES + 1,
+                null,
+                ZoneOffset.UTC
+            )
+        )
+            .isInstanceOf(InvalidRecurrenceException.class)
+            .hasMessageContaining(String.valueOf(AppointmentSeriesService.MAX_OCCURRENCES));
+    }
+}
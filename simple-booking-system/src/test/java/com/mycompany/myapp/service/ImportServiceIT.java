@@ -0,0 +1,111 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.web.rest.ServiceResourceIT;
+import com.mycompany.myapp.web.rest.UserResourceIT;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link ImportService}, which writes the rows by chunks through the shared entity manager.
+ */
+@IntegrationTest
+@Transactional
+class ImportServiceIT {
+
+    private static final int ROWS = 2 * ImportService.CHUNK_SIZE + 500;
+
+    private static final Instant START_TIME = Instant.parse("2026-01-05T08:00:00Z");
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    // an appointment is published right after it is persisted, which is where the persistence context is at its largest
+    @MockitoBean
+    private AppointmentEventBus appointmentEventBus;
+
+    private User user;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        user = UserResourceIT.createEntity();
+        user.setLogin(user.getLogin().toLowerCase(Locale.ENGLISH));
+        em.persist(user);
+        service = ServiceResourceIT.createEntity().name("Import " + user.getLogin());
+        em.persist(service);
+        em.flush();
+    }
+
+    @Test
+    void shouldKeepThePersistenceContextWithinAChunk() throws IOException {
+        long databaseSizeBeforeImport = appointmentRepository.count();
+        List<Long> managedAppointments = new ArrayList<>();
+        doAnswer(invocation -> managedAppointments.add(managedAppointments())).when(appointmentEventBus).publishAfterCommit(any());
+        StringBuilder upload = new StringBuilder("startTime,endTime,status,specialNeeds,user,service\n");
+        for (int i = 0; i < ROWS; i++) {
+            Instant startTime = START_TIME.plus(i, ChronoUnit.HOURS);
+            upload
+                .append(startTime)
+                .append(',')
+                .append(startTime.plus(1, ChronoUnit.HOURS))
+                .append(",REQUESTED,,")
+                .append(user.getLogin())
+                .append(',')
+                .append(service.getName())
+                .append('\n');
+        }
+        List<ImportService.RowError> errors = new ArrayList<>();
+
+        ImportService.Summary summary = importService.importAppointments(
+            new ByteArrayInputStream(upload.toString().getBytes(StandardCharsets.UTF_8)),
+            ImportService.Format.CSV,
+            errors::add
+        );
+
+        assertThat(errors).isEmpty();
+        assertThat(summary).isEqualTo(new ImportService.Summary(ROWS, 0));
+        assertThat(appointmentRepository.count()).isEqualTo(databaseSizeBeforeImport + ROWS);
+        assertThat(managedAppointments).hasSize(ROWS);
+        assertThat(managedAppointments.stream().mapToLong(Long::longValue).max()).hasValue(ImportService.CHUNK_SIZE);
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private long managedAppointments() {
+        return em
+            .unwrap(Session.class)
+            .getStatistics()
+            .getEntityKeys()
+            .stream()
+            .filter(key -> key.getEntityName().equals(Appointment.class.getName()))
+            .count();
+    }
+}
@@ -0,0 +1,190 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.ServiceRepository.ServiceReference;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.repository.UserRepository.UserReference;
+import com.mycompany.myapp.service.mapper.ServiceMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ServiceRepository serviceRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SlotOccupancyService slotOccupancyService;
+
+    @Mock
+    private AppointmentEventBus appointmentEventBus;
+
+    private final AtomicLong persisted = new AtomicLong();
+
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            userRepository,
+            serviceRepository,
+            new ServiceMapperImpl(),
+            slotOccupancyService,
+            appointmentEventBus,
+            entityManager,
+            transactionManager
+        );
+        doAnswer(invocation -> persisted.incrementAndGet()).when(entityManager).persist(any());
+    }
+
+    @Test
+    void shouldReportInvalidRows() throws IOException {
+        mockReferences("Massage", "Massage");
+        String upload = String.join(
+            "\n",
+            "{\"startTime\":\"2026-01-05T08:00:00Z\",\"endTime\":\"2026-01-05T09:00:00Z\",\"status\":\"REQUESTED\",\"user\":\"USER-1\"}",
+            "{\"startTime\":\"2026-01-05T08:00:00Z\",",
+            "",
+            "{\"startTime\":\"tomorrow\",\"endTime\":\"2026-01-05T09:00:00Z\",\"status\":\"REQUESTED\",\"user\":\"user-1\"}",
+            "{\"startTime\":\"2026-01-05T08:00:00Z\",\"status\":\"REQUESTED\"}",
+            "{\"startTime\":\"2026-01-05T08:00:00Z\",\"endTime\":\"2026-01-05T09:00:00Z\",\"status\":\"SCHEDULED\",\"user\":\"user-2\"," +
+            "\"service\":\"Massage\"}",
+            "{\"startTime\":\"2026-01-05T08:00:00Z\",\"endTime\":\"2026-01-05T09:00:00Z\",\"status\":\"SCHEDULED\",\"user\":\"user-2\"," +
+            "\"service\":\"Yoga\"}"
+        );
+        List<ImportService.RowError> errors = new ArrayList<>();
+
+        ImportService.Summary summary = importService.importAppointments(
+            new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)),
+            ImportService.Format.NDJSON,
+            errors::add
+        );
+
+        assertThat(summary).isEqualTo(new ImportService.Summary(1, 5));
+        assertThat(persisted.get()).isEqualTo(1);
+        assertThat(errors).extracting(ImportService.RowError::row).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(errors.get(0).errors()).singleElement().asString().startsWith("malformed JSON");
+        assertThat(errors.get(1).errors()).containsExactly("startTime: invalid value");
+        assertThat(errors.get(2).errors()).containsExactly("endTime: must not be null", "user: must not be blank");
+        assertThat(errors.get(3).errors()).containsExactly("service: several services are named 'Massage'");
+        assertThat(errors.get(4).errors()).containsExactly("service: unknown name 'Yoga'");
+    }
+
+    @Test
+    void shouldRejectServicesWithAnId() throws IOException {
+        String upload = "id,name,description,price\n,Massage,,30.00\n7,Haircut,,15\n,Yoga,,-1\n";
+        List<ImportService.RowError> errors = new ArrayList<>();
+
+        ImportService.Summary summary = importService.importServices(
+            new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)),
+            ImportService.Format.CSV,
+            errors::add
+        );
+
+        assertThat(summary).isEqualTo(new ImportService.Summary(1, 2));
+        assertThat(errors).extracting(ImportService.RowError::row).containsExactly(3L, 2L);
+        assertThat(errors.get(0).errors()).containsExactly("price: must be greater than or equal to 0");
+        assertThat(errors.get(1).errors()).containsExactly("id: must be empty");
+    }
+
+    @Test
+    void shouldRejectChunkWhichCannotBePersisted() throws IOException {
+        doThrow(new PersistenceException("duplicate key")).when(entityManager).flush();
+        String upload = "{\"name\":\"Massage\",\"price\":30}\n{\"name\":\"Haircut\",\"price\":15}\n";
+        List<ImportService.RowError> errors = new ArrayList<>();
+
+        ImportService.Summary summary = importService.importServices(
+            new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)),
+            ImportService.Format.NDJSON,
+            errors::add
+        );
+
+        assertThat(summary).isEqualTo(new ImportService.Summary(0, 2));
+        assertThat(errors).extracting(ImportService.RowError::row).containsExactly(1L, 2L);
+        assertThat(errors.get(0).errors()).containsExactly("not imported: duplicate key");
+    }
+
+    /**
+     * Logins starting with {@code user-} exist, as do the given service names, each occurrence being a distinct service.
+     */
+    private void mockReferences(String... serviceNames) {
+        when(userRepository.findAllReferencesByLoginIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> logins = invocation.getArgument(0);
+            return logins.stream().filter(login -> login.startsWith("user-")).map(ImportServiceTest::userReference).toList();
+        });
+        when(serviceRepository.findAllReferencesByNameIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            List<ServiceReference> references = new ArrayList<>();
+            for (int i = 0; i < serviceNames.length; i++) {
+                if (names.contains(serviceNames[i])) {
+                    references.add(serviceReference(i + 1L, serviceNames[i]));
+                }
+            }
+            return references;
+        });
+    }
+
+    private static UserReference userReference(String login) {
+        long id = Long.parseLong(login.substring("user-".length()));
+        return new UserReference() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getLogin() {
+                return login;
+            }
+        };
+    }
+
+    private static ServiceReference serviceReference(Long id, String name) {
+        return new ServiceReference() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.mapper.ServiceMapperImpl;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceCatalogueTest {
+
+    @Mock
+    private ServiceRepository serviceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ServiceCatalogue serviceCatalogue;
+
+    @BeforeEach
+    void setUp() {
+        serviceCatalogue = new ServiceCatalogue(serviceRepository, new ServiceMapperImpl(), transactionManager);
+        when(serviceRepository.findAll(any(Sort.class))).thenReturn(
+            List.of(
+                service(1L, "Massage", "30.00", Instant.ofEpochSecond(10)),
+                service(2L, "Haircut", "15.00", Instant.ofEpochSecond(30)),
+                service(3L, "Physiotherapy", "45.00", Instant.ofEpochSecond(20)).capacity(4)
+            )
+        );
+    }
+
+    @Test
+    void shouldServeSortedPagesFromSnapshot() {
+        Page<ServiceDTO> page = serviceCatalogue
+            .current()
+            .orElseThrow()
+            .findAll(PageRequest.of(0, 2, Sort.by(Sort.Order.desc("price"))))
+            .orElseThrow();
+
+        assertThat(page.getContent()).extracting(ServiceDTO::getId).containsExactly(3L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+
+        Page<ServiceDTO> lastPage = serviceCatalogue
+            .current()
+            .orElseThrow()
+            .findAll(PageRequest.of(1, 2, Sort.by("name")))
+            .orElseThrow();
+
+        assertThat(lastPage.getContent()).extracting(ServiceDTO::getName).containsExactly("Physiotherapy");
+        assertThat(serviceCatalogue.current().orElseThrow().findAll(Pageable.unpaged()).orElseThrow()).hasSize(3);
+        verify(serviceRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void shouldServeCopiesOfTheServices() {
+        ServiceCatalogue.Snapshot snapshot = serviceCatalogue.current().orElseThrow();
+        ServiceDTO service = snapshot.findOne(3L).orElseThrow();
+
+        assertThat(service).usingRecursiveComparison().isEqualTo(snapshot.findOne(3L).orElseThrow());
+        assertThat(service.getCapacity()).isEqualTo(4);
+        service.setName("Changed");
+        snapshot.findAll(Pageable.unpaged()).orElseThrow().getContent().forEach(copy -> copy.setPrice(BigDecimal.ZERO));
+
+        assertThat(snapshot.findOne(3L).orElseThrow().getName()).isEqualTo("Physiotherapy");
+        assertThat(snapshot.findOne(3L).orElseThrow().getPrice()).isEqualByComparingTo("45.00");
+    }
+
+    @Test
+    void shouldNotServeUnknownSortProperty() {
+        assertThat(serviceCatalogue.current().orElseThrow().findAll(PageRequest.of(0, 20, Sort.by("unknown")))).isEmpty();
+    }
+
+    @Test
+    void shouldExposeVersions() {
+        ServiceCatalogue.Snapshot snapshot = serviceCatalogue.current().orElseThrow();
+
+        assertThat(snapshot.getCatalogueVersion()).isEqualTo("3:" + Instant.ofEpochSecond(30));
+        assertThat(snapshot.findVersion(1L)).contains(Instant.ofEpochSecond(10).toString());
+        assertThat(snapshot.findVersion(4L)).isEmpty();
+    }
+
+    @Test
+    void shouldHandOutCopies() {
+        serviceCatalogue.current().orElseThrow().findOne(1L).orElseThrow().setName("Changed");
+
+        assertThat(serviceCatalogue.current().orElseThrow().findOne(1L)).map(ServiceDTO::getName).contains("Massage");
+    }
+
+    @Test
+    void shouldServeCapacity() {
+        ServiceCatalogue.Snapshot snapshot = serviceCatalogue.current().orElseThrow();
+
+        assertThat(snapshot.findOne(3L)).map(ServiceDTO::getCapacity).contains(4);
+        assertThat(snapshot.findAll(Pageable.unpaged()).orElseThrow().getContent())
+            .extracting(ServiceDTO::getCapacity)
+            .containsExactly(1, 1, 4);
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        ServiceCatalogue.Snapshot snapshot = serviceCatalogue.current().orElseThrow();
+        assertThat(serviceCatalogue.current()).containsSame(snapshot);
+
+        serviceCatalogue.evict();
+
+        assertThat(serviceCatalogue.current().orElseThrow()).isNotSameAs(snapshot);
+        verify(serviceRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    private static Service service(Long id, String name, String price, Instant lastModifiedDate) {
+        Service service = new Service().id(id).name(name).price(new BigDecimal(price));
+        service.setLastModifiedDate(lastModifiedDate);
+        return service;
+    }
+}
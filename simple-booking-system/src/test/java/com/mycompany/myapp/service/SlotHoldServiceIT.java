@@ -0,0 +1,200 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.SlotHold;
+import com.mycompany.myapp.domain.SlotOccupancy;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.SlotHoldRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.dto.SlotHoldDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Integration tests for the expiry of the holds of {@link SlotHoldService}, which run in their own transactions.
+ */
+@IntegrationTest
+class SlotHoldServiceIT {
+
+    private static final Instant START_TIME = Instant.now().plus(4, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+
+    @Autowired
+    private SlotOccupancyService slotOccupancyService;
+
+    @Autowired
+    private SlotHoldRepository slotHoldRepository;
+
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        service = serviceRepository.saveAndFlush(new Service().name("Workshop").price(BigDecimal.TEN).capacity(2));
+    }
+
+    @AfterEach
+    void cleanup() {
+        serviceRepository.deleteById(service.getId());
+    }
+
+    @Test
+    void shouldReclaimExpiredHolds() {
+        SlotHold expired = hold(Instant.now().minus(1, ChronoUnit.MINUTES));
+        SlotHold live = hold(Instant.now().plus(10, ChronoUnit.MINUTES));
+
+        assertThat(slotHoldService.reclaimExpired()).isPositive();
+
+        assertThat(slotHoldRepository.existsById(expired.getId())).isFalse();
+        assertThat(slotHoldRepository.existsById(live.getId())).isTrue();
+        assertThat(booked()).isEqualTo(1);
+        assertThat(slotHoldService.expire(live.getId())).isFalse();
+    }
+
+    @Test
+    void shouldReclaimExpiredHoldsBeyondOneBatch() {
+        List<SlotHold> expired = new ArrayList<>();
+        for (int i = 0; i < SlotHoldService.RECLAIM_BATCH_SIZE + 5; i++) {
+            expired.add(
+                slotHoldRepository.save(
+                    new SlotHold()
+                        .serviceId(service.getId())
+                        .startTime(START_TIME)
+                        .endTime(START_TIME.plus(1, ChronoUnit.HOURS))
+                        .login("user")
+                        .expiresAt(Instant.now().minus(1, ChronoUnit.MINUTES))
+                )
+            );
+        }
+        slotHoldRepository.flush();
+
+        assertThat(slotHoldService.reclaimExpired()).isGreaterThanOrEqualTo(expired.size());
+
+        assertThat(slotHoldRepository.findAllById(expired.stream().map(SlotHold::getId).toList())).isEmpty();
+    }
+
+    @Test
+    void shouldExpireScheduledHolds() throws InterruptedException {
+        SlotHold hold = hold(Instant.now().plus(200, ChronoUnit.MILLIS));
+
+        slotHoldService.schedule(hold.getId(), hold.getExpiresAt());
+
+        for (int i = 0; i < 50 && booked() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(booked()).isZero();
+        assertThat(slotHoldRepository.existsById(hold.getId())).isFalse();
+    }
+
+    @Test
+    void shouldLimitConcurrentHoldsOfAUser() throws Exception {
+        User user = new User();
+        user.setLogin("hold_" + RandomStringUtils.insecure().nextAlphabetic(5).toLowerCase());
+        user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+        user.setActivated(true);
+        user.setEmail(user.getLogin() + "@localhost");
+        userRepository.saveAndFlush(user);
+        int maxPerUser = applicationProperties.getSlotHolds().getMaxPerUser();
+        int attempts = maxPerUser + 3;
+
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SlotHoldDTO>> holds = new ArrayList<>();
+        try {
+            for (int i = 0; i < attempts; i++) {
+                SlotHoldDTO slotHoldDTO = new SlotHoldDTO();
+                slotHoldDTO.setServiceId(service.getId());
+                slotHoldDTO.setStartTime(START_TIME.plus(i, ChronoUnit.HOURS));
+                slotHoldDTO.setEndTime(START_TIME.plus(i + 1L, ChronoUnit.HOURS));
+                holds.add(
+                    executor.submit(() -> {
+                        start.await();
+                        SecurityContextHolder.getContext()
+                            .setAuthentication(new UsernamePasswordAuthenticationToken(user.getLogin(), null));
+                        try {
+                            return slotHoldService.hold(slotHoldDTO);
+                        } finally {
+                            SecurityContextHolder.clearContext();
+                        }
+                    })
+                );
+            }
+            start.countDown();
+            int held = 0;
+            int refused = 0;
+            for (Future<SlotHoldDTO> hold : holds) {
+                try {
+                    hold.get(30, TimeUnit.SECONDS);
+                    held++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(SlotHoldLimitExceededException.class);
+                    refused++;
+                }
+            }
+
+            assertThat(held).isEqualTo(maxPerUser);
+            assertThat(refused).isEqualTo(attempts - maxPerUser);
+        } finally {
+            executor.shutdownNow();
+            slotHoldRepository.deleteAll(
+                slotHoldRepository.findAll().stream().filter(hold -> hold.getLogin().equals(user.getLogin())).toList()
+            );
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    private SlotHold hold(Instant expiresAt) {
+        slotOccupancyService.book(new Slot(service.getId(), START_TIME));
+        return slotHoldRepository.saveAndFlush(
+            new SlotHold()
+                .serviceId(service.getId())
+                .startTime(START_TIME)
+                .endTime(START_TIME.plus(1, ChronoUnit.HOURS))
+                .login("user")
+                .expiresAt(expiresAt)
+        );
+    }
+
+    private int booked() {
+        return slotOccupancyRepository
+            .findById(new SlotOccupancy.SlotId(service.getId(), START_TIME))
+            .map(SlotOccupancy::getBooked)
+            .orElse(0);
+    }
+}
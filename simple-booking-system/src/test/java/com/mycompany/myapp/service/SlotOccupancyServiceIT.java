@@ -0,0 +1,181 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.SlotOccupancy;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link SlotOccupancyService}, through the bookings of {@link AppointmentService}. The bookings are
+ * committed, so that concurrent ones compete for the slot counters as they would in production.
+ */
+@IntegrationTest
+class SlotOccupancyServiceIT {
+
+    private static final int CAPACITY = 12;
+
+    private static final int CONCURRENT_BOOKINGS = 40;
+
+    private static final Instant START_TIME = Instant.now().plus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        user = new User();
+        user.setLogin("slot_" + RandomStringUtils.insecure().nextAlphabetic(5).toLowerCase());
+        user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+        user.setActivated(true);
+        user.setEmail(user.getLogin() + "@localhost");
+        user = userRepository.saveAndFlush(user);
+        service = serviceRepository.saveAndFlush(new Service().name("Group class").price(BigDecimal.TEN).capacity(CAPACITY));
+    }
+
+    @AfterEach
+    void cleanup() {
+        appointmentRepository.deleteAll(
+            appointmentRepository.findAll().stream().filter(appointment -> service.equals(appointment.getService())).toList()
+        );
+        serviceRepository.deleteById(service.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void shouldNotOverbookConcurrentBookings() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_BOOKINGS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> bookings = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_BOOKINGS; i++) {
+                bookings.add(
+                    executor.submit(() -> {
+                        start.await();
+                        try {
+                            appointmentService.save(appointment(START_TIME));
+                            return true;
+                        } catch (AppointmentConflictException e) {
+                            return false;
+                        }
+                    })
+                );
+            }
+            start.countDown();
+            int booked = 0;
+            for (Future<Boolean> booking : bookings) {
+                booked += booking.get(30, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertThat(booked).isEqualTo(CAPACITY);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(booked(START_TIME)).isEqualTo(CAPACITY);
+        assertThat(appointmentRepository.findAll()).filteredOn(appointment -> service.equals(appointment.getService())).hasSize(CAPACITY);
+    }
+
+    @Test
+    void shouldMoveAndReleaseBookings() {
+        Instant laterStartTime = START_TIME.plus(1, ChronoUnit.HOURS);
+        AppointmentDTO appointmentDTO = appointmentService.save(appointment(START_TIME));
+        assertThat(booked(START_TIME)).isEqualTo(1);
+
+        appointmentDTO.setStartTime(laterStartTime);
+        appointmentDTO.setEndTime(laterStartTime.plus(1, ChronoUnit.HOURS));
+        appointmentService.update(appointmentDTO);
+        assertThat(booked(START_TIME)).isZero();
+        assertThat(booked(laterStartTime)).isEqualTo(1);
+
+        AppointmentDTO cancellation = new AppointmentDTO();
+        cancellation.setId(appointmentDTO.getId());
+        cancellation.setStatus(AppointmentStatus.CANCELLED);
+        appointmentService.partialUpdate(cancellation);
+        assertThat(booked(laterStartTime)).isZero();
+
+        AppointmentDTO other = appointmentService.save(appointment(laterStartTime));
+        appointmentService.delete(other.getId());
+        assertThat(booked(laterStartTime)).isZero();
+    }
+
+    @Test
+    void shouldRefuseFullSlot() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            serviceRepository.findById(service.getId()).orElseThrow().setCapacity(1)
+        );
+        appointmentService.save(appointment(START_TIME));
+
+        assertThatThrownBy(() -> appointmentService.save(appointment(START_TIME)))
+            .isInstanceOf(AppointmentConflictException.class)
+            .extracting(e -> ((AppointmentConflictException) e).getConflicts())
+            .isEqualTo(List.of(START_TIME));
+        assertThat(booked(START_TIME)).isEqualTo(1);
+    }
+
+    private int booked(Instant startTime) {
+        return slotOccupancyRepository
+            .findById(new SlotOccupancy.SlotId(service.getId(), startTime))
+            .map(SlotOccupancy::getBooked)
+            .orElse(0);
+    }
+
+    private AppointmentDTO appointment(Instant startTime) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(user.getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setStartTime(startTime);
+        appointmentDTO.setEndTime(startTime.plus(1, ChronoUnit.HOURS));
+        appointmentDTO.setStatus(AppointmentStatus.REQUESTED);
+        appointmentDTO.setUser(userDTO);
+        appointmentDTO.setService(serviceDTO);
+        return appointmentDTO;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class SlotOccupancyServiceTest {
+
+    private static final Long SERVICE_ID = 1L;
+
+    private static final Instant START_TIME = Instant.parse("2026-01-05T10:00:00Z");
+
+    private static final List<Instant> START_TIMES = List.of(START_TIME, START_TIME.plus(7, ChronoUnit.DAYS));
+
+    @Mock
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Mock
+    private EntityManager em;
+
+    @Mock
+    private ObjectProvider<WaitlistService> waitlistService;
+
+    private SlotOccupancyService slotOccupancyService;
+
+    @BeforeEach
+    void setUp() {
+        NativeQuery<?> query = mock(NativeQuery.class, Answers.RETURNS_SELF);
+        when(em.createNativeQuery(anyString())).thenReturn(query);
+        slotOccupancyService = new SlotOccupancyService(slotOccupancyRepository, em, waitlistService);
+    }
+
+    @Test
+    void shouldRejectShortIncrementWhenFullSlotsAreNamed() {
+        when(slotOccupancyRepository.findFullStartTimes(SERVICE_ID, START_TIMES)).thenReturn(List.of(), List.of(START_TIMES.get(1)));
+        when(slotOccupancyRepository.incrementAvailable(SERVICE_ID, START_TIMES)).thenReturn(1);
+
+        assertThatThrownBy(() -> slotOccupancyService.bookAll(SERVICE_ID, START_TIMES))
+            .isInstanceOf(AppointmentConflictException.class)
+            .extracting("conflicts")
+            .isEqualTo(List.of(START_TIMES.get(1)));
+    }
+
+    @Test
+    void shouldRejectShortIncrementWhenSnapshotShowsNoFullSlot() {
+        when(slotOccupancyRepository.findFullStartTimes(SERVICE_ID, START_TIMES)).thenReturn(List.of());
+        when(slotOccupancyRepository.incrementAvailable(SERVICE_ID, START_TIMES)).thenReturn(1);
+
+        assertThatThrownBy(() -> slotOccupancyService.bookAll(SERVICE_ID, START_TIMES))
+            .isInstanceOf(AppointmentConflictException.class)
+            .extracting("conflicts")
+            .isEqualTo(START_TIMES);
+    }
+}
@@ -0,0 +1,271 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.SlotHold;
+import com.mycompany.myapp.domain.SlotOccupancy;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.WaitlistEntry;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentSeriesRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.SlotHoldRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.repository.WaitlistEntryRepository;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.AppointmentSeriesDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Integration tests for the promotions of {@link WaitlistService} on committed cancellations, which compete for the waiters of
+ * the same slot, and on the other places given back: series cancellations and hold expiries.
+ */
+@IntegrationTest
+class WaitlistServiceIT {
+
+    private static final int CAPACITY = 4;
+
+    private static final int WAITERS = CAPACITY + 2;
+
+    private static final Instant START_TIME = Instant.now().plus(6, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentSeriesService appointmentSeriesService;
+
+    @Autowired
+    private AppointmentSeriesRepository appointmentSeriesRepository;
+
+    @Autowired
+    private SlotOccupancyService slotOccupancyService;
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+
+    @Autowired
+    private SlotHoldRepository slotHoldRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private MailService mailService;
+
+    private final List<User> users = new ArrayList<>();
+
+    private final List<Long> series = new ArrayList<>();
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        service = serviceRepository.saveAndFlush(new Service().name("Seminar").price(BigDecimal.TEN).capacity(CAPACITY));
+        for (int i = 0; i < CAPACITY + WAITERS; i++) {
+            User user = new User();
+            user.setLogin("wait_" + RandomStringUtils.insecure().nextAlphabetic(5).toLowerCase());
+            user.setPassword(RandomStringUtils.insecure().nextAlphanumeric(60));
+            user.setActivated(true);
+            user.setEmail(user.getLogin() + "@localhost");
+            users.add(userRepository.saveAndFlush(user));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        waitlistEntryRepository.deleteAll(
+            waitlistEntryRepository.findAll().stream().filter(entry -> entry.getServiceId().equals(service.getId())).toList()
+        );
+        appointmentRepository.deleteAll(
+            appointmentRepository.findAll().stream().filter(appointment -> service.equals(appointment.getService())).toList()
+        );
+        series.forEach(appointmentSeriesRepository::deleteById);
+        serviceRepository.deleteById(service.getId());
+        users.forEach(user -> userRepository.deleteById(user.getId()));
+    }
+
+    @Test
+    void shouldPromoteOneWaiterPerConcurrentCancellation() throws Exception {
+        List<Long> booked = new ArrayList<>();
+        for (User user : users.subList(0, CAPACITY)) {
+            booked.add(appointmentService.save(appointment(user)).getId());
+        }
+        List<User> waiters = users.subList(CAPACITY, users.size());
+        for (int i = 0; i < WAITERS; i++) {
+            waitlistEntryRepository.save(
+                new WaitlistEntry()
+                    .serviceId(service.getId())
+                    .startTime(START_TIME)
+                    .endTime(START_TIME.plus(1, ChronoUnit.HOURS))
+                    .user(waiters.get(i))
+                    .createdDate(START_TIME.minus(WAITERS - i, ChronoUnit.MINUTES))
+            );
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CAPACITY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> cancellations = new ArrayList<>();
+        try {
+            for (Long id : booked) {
+                cancellations.add(
+                    executor.submit(() -> {
+                        start.await();
+                        AppointmentDTO cancellation = new AppointmentDTO();
+                        cancellation.setId(id);
+                        cancellation.setStatus(AppointmentStatus.CANCELLED);
+                        return appointmentService.partialUpdate(cancellation);
+                    })
+                );
+            }
+            start.countDown();
+            for (Future<?> cancellation : cancellations) {
+                cancellation.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Long> promoted = appointmentRepository
+            .findAll()
+            .stream()
+            .filter(appointment -> service.equals(appointment.getService()) && appointment.getStatus() == AppointmentStatus.REQUESTED)
+            .map(appointment -> appointment.getUser().getId())
+            .toList();
+        assertThat(promoted).containsExactlyInAnyOrderElementsOf(waiters.subList(0, CAPACITY).stream().map(User::getId).toList());
+        assertThat(waitlistEntryRepository.findAll())
+            .filteredOn(entry -> entry.getServiceId().equals(service.getId()))
+            .hasSize(WAITERS - CAPACITY);
+        assertThat(slotOccupancyRepository.findById(new SlotOccupancy.SlotId(service.getId(), START_TIME)))
+            .map(SlotOccupancy::getBooked)
+            .hasValue(CAPACITY);
+        verify(mailService, times(CAPACITY)).sendWaitlistPromotionEmail(
+            any(),
+            argThat(appointment -> appointment.getStatus() == AppointmentStatus.REQUESTED)
+        );
+    }
+
+    @Test
+    void shouldPromoteWaiterOnSeriesCancellation() {
+        for (User user : users.subList(0, CAPACITY - 1)) {
+            appointmentService.save(appointment(user));
+        }
+        AppointmentSeriesDTO booked = appointmentSeriesService.save(series(users.get(CAPACITY - 1)));
+        series.add(booked.getId());
+        User waiter = users.get(CAPACITY);
+        waitFor(waiter);
+
+        assertThat(appointmentSeriesService.cancel(booked.getId())).hasValue(2);
+
+        assertPromoted(waiter);
+    }
+
+    @Test
+    void shouldPromoteWaiterOnHoldExpiry() {
+        for (User user : users.subList(0, CAPACITY - 1)) {
+            appointmentService.save(appointment(user));
+        }
+        slotOccupancyService.book(new Slot(service.getId(), START_TIME));
+        SlotHold hold = slotHoldRepository.saveAndFlush(
+            new SlotHold()
+                .serviceId(service.getId())
+                .startTime(START_TIME)
+                .endTime(START_TIME.plus(1, ChronoUnit.HOURS))
+                .login(users.get(CAPACITY - 1).getLogin())
+                .expiresAt(Instant.now().minus(1, ChronoUnit.MINUTES))
+        );
+        User waiter = users.get(CAPACITY);
+        waitFor(waiter);
+
+        assertThat(slotHoldService.expire(hold.getId())).isTrue();
+
+        assertPromoted(waiter);
+    }
+
+    private void waitFor(User waiter) {
+        waitlistEntryRepository.save(
+            new WaitlistEntry().serviceId(service.getId()).startTime(START_TIME).endTime(START_TIME.plus(1, ChronoUnit.HOURS)).user(waiter)
+        );
+    }
+
+    private void assertPromoted(User waiter) {
+        assertThat(appointmentRepository.findAll())
+            .filteredOn(appointment -> service.equals(appointment.getService()) && appointment.getStatus() == AppointmentStatus.REQUESTED)
+            .filteredOn(appointment -> appointment.getSeries() == null)
+            .extracting(appointment -> appointment.getUser().getId())
+            .containsExactly(waiter.getId());
+        assertThat(waitlistEntryRepository.findAll()).noneMatch(entry -> entry.getServiceId().equals(service.getId()));
+        assertThat(slotOccupancyRepository.findById(new SlotOccupancy.SlotId(service.getId(), START_TIME)))
+            .map(SlotOccupancy::getBooked)
+            .hasValue(CAPACITY);
+        verify(mailService).sendWaitlistPromotionEmail(argThat(user -> user.getId().equals(waiter.getId())), any());
+    }
+
+    private AppointmentSeriesDTO series(User user) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(user.getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentSeriesDTO appointmentSeriesDTO = new AppointmentSeriesDTO();
+        appointmentSeriesDTO.setStartTime(START_TIME);
+        appointmentSeriesDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentSeriesDTO.setFrequency(RecurrenceFrequency.WEEKLY);
+        appointmentSeriesDTO.setCount(2);
+        appointmentSeriesDTO.setUser(userDTO);
+        appointmentSeriesDTO.setService(serviceDTO);
+        return appointmentSeriesDTO;
+    }
+
+    private AppointmentDTO appointment(User user) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(user.getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setStartTime(START_TIME);
+        appointmentDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentDTO.setStatus(AppointmentStatus.SCHEDULED);
+        appointmentDTO.setUser(userDTO);
+        appointmentDTO.setService(serviceDTO);
+        return appointmentDTO;
+    }
+}
@@ -0,0 +1,114 @@
+package com.mycompany.myapp.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@WithMockUser
+@IntegrationTest
+class AdmissionControlFilterIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private int acquired;
+
+    @AfterEach
+    void releaseAll() {
+        for (; acquired > 0; acquired--) {
+            admissionControlFilter.getLimiter().release(0, false);
+        }
+    }
+
+    @Test
+    void shouldShedAppointmentWritesBeyondTheLimit() throws Exception {
+        double rejected = meterRegistry.get(AdmissionControlFilter.REJECTED_METER_NAME).counter().count();
+        while (admissionControlFilter.getLimiter().tryAcquire()) {
+            acquired++;
+        }
+
+        assertThat(meterRegistry.get(AdmissionControlFilter.IN_FLIGHT_METER_NAME).gauge().value()).isEqualTo(acquired);
+        assertThat(meterRegistry.get(AdmissionControlFilter.LIMIT_METER_NAME).gauge().value()).isEqualTo(acquired);
+        mockMvc
+            .perform(post("/api/appointments").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+            .andExpect(jsonPath("$.status").value(503));
+        mockMvc.perform(get("/api/appointments")).andExpect(status().isOk());
+        assertThat(meterRegistry.get(AdmissionControlFilter.REJECTED_METER_NAME).counter().count()).isEqualTo(rejected + 1);
+
+        admissionControlFilter.getLimiter().release(0, false);
+        acquired--;
+
+        mockMvc
+            .perform(post("/api/appointments").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldShedAppointmentSeriesWrites() throws Exception {
+        while (admissionControlFilter.getLimiter().tryAcquire()) {
+            acquired++;
+        }
+
+        mockMvc
+            .perform(post("/api/appointment-series").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldShedBatchedAppointmentWrites() throws Exception {
+        while (admissionControlFilter.getLimiter().tryAcquire()) {
+            acquired++;
+        }
+
+        mockMvc
+            .perform(
+                post("/api/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        "{\"operations\":[{\"method\":\"GET\",\"url\":\"/api/appointments\"}," +
+                        "{\"method\":\"POST\",\"url\":\"/api/appointments\",\"body\":{}}]}"
+                    )
+            )
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.results[0].status").value(200))
+            .andExpect(jsonPath("$.results[1].status").value(503))
+            .andExpect(jsonPath("$.results[1].headers['Retry-After']").value("1"));
+        assertThat(admissionControlFilter.getLimiter().getInFlight()).isEqualTo(acquired);
+    }
+
+    @Test
+    @WithAnonymousUser
+    void shouldAuthorizeBeforeAdmission() throws Exception {
+        while (admissionControlFilter.getLimiter().tryAcquire()) {
+            acquired++;
+        }
+
+        mockMvc
+            .perform(post("/api/appointments").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,99 @@
+package com.mycompany.myapp.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AimdLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AimdLimiter limiter = new AimdLimiter(2, 1, 4, THRESHOLD, 0.5);
+
+    @Test
+    void shouldRefuseBeyondTheLimit() {
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shouldGrowWhileReachedAndFast() {
+        for (int i = 0; i < 10; i++) {
+            acquireAll();
+            releaseAll(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotGrowWhenNotReached() {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldShrinkOnSlowOrFailedRequests() {
+        acquireAll();
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForAPlaceUntilTheTimeout() throws Exception {
+        acquireAll();
+
+        assertThat(limiter.tryAcquire(TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            limiter.release(FAST, false);
+        });
+        releaser.start();
+        assertThat(limiter.tryAcquire(TimeUnit.SECONDS.toNanos(5))).isTrue();
+        releaser.join();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new AimdLimiter(2, 0, 4, THRESHOLD, 0.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdLimiter(2, 1, 4, THRESHOLD, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void acquireAll() {
+        while (limiter.tryAcquire()) {
+            // take every place
+        }
+    }
+
+    private void releaseAll(long latencyNanos, boolean failed) {
+        while (limiter.getInFlight() > 0) {
+            limiter.release(latencyNanos, failed);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.AppointmentChange;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentChangeRepository;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.AppointmentService;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the changes of the {@link AppointmentResource} REST controller, on committed appointment changes.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class AppointmentChangesIT {
+
+    private static final String CHANGES_API_URL = "/api/appointments/changes";
+
+    private static final Instant START_TIME = Instant.now().plus(9, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentChangeRepository appointmentChangeRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restAppointmentMockMvc;
+
+    private Service service;
+
+    private long since;
+
+    @BeforeEach
+    void initTest() {
+        service = serviceRepository.saveAndFlush(new Service().name("Consultation").price(BigDecimal.TEN).capacity(2));
+        since = appointmentChangeRepository.findAll().stream().mapToLong(AppointmentChange::getSeq).max().orElse(0);
+    }
+
+    @AfterEach
+    void cleanup() {
+        appointmentRepository.deleteAll(
+            appointmentRepository.findAll().stream().filter(appointment -> service.equals(appointment.getService())).toList()
+        );
+        serviceRepository.deleteById(service.getId());
+    }
+
+    @Test
+    void getCommittedChangesSinceCursor() throws Exception {
+        Long id = appointmentService.save(appointment()).getId();
+        appointmentService.approveAppointment(id);
+        Long deletedId = appointmentService.save(appointment()).getId();
+        appointmentService.delete(deletedId);
+        Long rolledBackId = new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            return appointmentService.save(appointment()).getId();
+        });
+
+        restAppointmentMockMvc
+            .perform(get(CHANGES_API_URL + "?since={since}", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(2)))
+            .andExpect(jsonPath("$.changes[0].appointmentId").value(id))
+            .andExpect(jsonPath("$.changes[0].seq").value(since + 2))
+            .andExpect(jsonPath("$.changes[0].deleted").value(false))
+            .andExpect(jsonPath("$.changes[0].appointment.status").value(AppointmentStatus.SCHEDULED.toString()))
+            .andExpect(jsonPath("$.changes[0].appointment.user.login").value("user"))
+            .andExpect(jsonPath("$.changes[1].appointmentId").value(deletedId))
+            .andExpect(jsonPath("$.changes[1].seq").value(since + 4))
+            .andExpect(jsonPath("$.changes[1].deleted").value(true))
+            .andExpect(jsonPath("$.changes[1].appointment").doesNotExist())
+            .andExpect(jsonPath("$.changes[?(@.appointmentId == " + rolledBackId + ")]").isEmpty())
+            .andExpect(jsonPath("$.next").value(since + 4))
+            .andExpect(jsonPath("$.more").value(false));
+    }
+
+    @Test
+    void getNoChangesAfterLastChange() throws Exception {
+        restAppointmentMockMvc
+            .perform(get(CHANGES_API_URL + "?since={since}", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(0)))
+            .andExpect(jsonPath("$.next").value(since))
+            .andExpect(jsonPath("$.more").value(false));
+    }
+
+    @Test
+    void getChangesByPages() throws Exception {
+        Long firstId = appointmentService.save(appointment()).getId();
+        Long secondId = appointmentService.save(appointment()).getId();
+
+        restAppointmentMockMvc
+            .perform(get(CHANGES_API_URL + "?since={since}&limit=1", since))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[0].appointmentId").value(firstId))
+            .andExpect(jsonPath("$.next").value(since + 1))
+            .andExpect(jsonPath("$.more").value(true));
+        restAppointmentMockMvc
+            .perform(get(CHANGES_API_URL + "?since={since}&limit=1", since + 1))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[0].appointmentId").value(secondId))
+            .andExpect(jsonPath("$.next").value(since + 2));
+    }
+
+    @Test
+    void getChangesWithInvalidLimit() throws Exception {
+        restAppointmentMockMvc.perform(get(CHANGES_API_URL + "?limit=0")).andExpect(status().isBadRequest());
+        restAppointmentMockMvc
+            .perform(get(CHANGES_API_URL + "?limit={limit}", AppointmentResource.MAX_CHANGES_LIMIT + 1))
+            .andExpect(status().isBadRequest());
+    }
+
+    private AppointmentDTO appointment() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(userRepository.findOneByLogin("user").orElseThrow().getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setStartTime(START_TIME);
+        appointmentDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentDTO.setStatus(AppointmentStatus.REQUESTED);
+        appointmentDTO.setUser(userDTO);
+        appointmentDTO.setService(serviceDTO);
+        return appointmentDTO;
+    }
+}
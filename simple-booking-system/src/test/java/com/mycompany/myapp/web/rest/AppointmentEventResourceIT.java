@@ -0,0 +1,218 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentSeriesRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.AppointmentSeriesService;
+import com.mycompany.myapp.service.AppointmentService;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.AppointmentSeriesDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link AppointmentEventResource} REST controller, on committed appointment changes.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class AppointmentEventResourceIT {
+
+    private static final String EVENTS_API_URL = "/api/appointments/events";
+
+    private static final Instant START_TIME = Instant.now().plus(8, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentSeriesService appointmentSeriesService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentSeriesRepository appointmentSeriesRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc restAppointmentEventMockMvc;
+
+    private Service service;
+
+    private MvcResult stream;
+
+    @BeforeEach
+    void initTest() {
+        service = serviceRepository.saveAndFlush(new Service().name("Consultation").price(BigDecimal.TEN).capacity(2));
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (stream != null) {
+            stream.getRequest().getAsyncContext().complete();
+        }
+        List<Appointment> appointments = appointmentRepository
+            .findAll()
+            .stream()
+            .filter(appointment -> service.equals(appointment.getService()))
+            .toList();
+        appointmentRepository.deleteAll(appointments);
+        appointmentSeriesRepository.deleteAllById(
+            appointments
+                .stream()
+                .filter(appointment -> appointment.getSeries() != null)
+                .map(appointment -> appointment.getSeries().getId())
+                .distinct()
+                .toList()
+        );
+        serviceRepository.deleteById(service.getId());
+    }
+
+    @Test
+    void streamCommittedChanges() throws Exception {
+        stream = restAppointmentEventMockMvc
+            .perform(get(EVENTS_API_URL).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        Long rolledBackId = new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            return appointmentService.save(appointment()).getId();
+        });
+        Long id = appointmentService.save(appointment()).getId();
+        appointmentService.delete(id);
+
+        String content = awaitContent(stream, "\"type\":\"DELETED\"");
+        assertThat(stream.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(content)
+            .contains("event:appointment")
+            .contains("\"type\":\"CREATED\",\"appointmentId\":" + id + ",\"status\":\"REQUESTED\"")
+            .contains("\"type\":\"DELETED\",\"appointmentId\":" + id + "}")
+            .doesNotContain("\"appointmentId\":" + rolledBackId + ",");
+    }
+
+    @Test
+    void streamSeriesChanges() throws Exception {
+        stream = restAppointmentEventMockMvc.perform(get(EVENTS_API_URL).accept(MediaType.TEXT_EVENT_STREAM)).andReturn();
+
+        AppointmentSeriesDTO series = appointmentSeriesService.save(series());
+        appointmentSeriesService.cancel(series.getId());
+
+        List<Long> ids = series.getAppointments().stream().map(AppointmentDTO::getId).toList();
+        String content = awaitContent(stream, "\"appointmentId\":" + ids.get(1) + ",\"status\":\"CANCELLED\"");
+        for (Long id : ids) {
+            assertThat(content)
+                .contains("\"type\":\"CREATED\",\"appointmentId\":" + id + ",\"status\":\"REQUESTED\"")
+                .contains("\"type\":\"UPDATED\",\"appointmentId\":" + id + ",\"status\":\"CANCELLED\"");
+        }
+    }
+
+    @Test
+    void resumeAfterLastEventId() throws Exception {
+        stream = restAppointmentEventMockMvc.perform(get(EVENTS_API_URL).accept(MediaType.TEXT_EVENT_STREAM)).andReturn();
+        Long id = appointmentService.save(appointment()).getId();
+        String content = awaitContent(stream, "\"appointmentId\":" + id);
+        String eventId = content.substring(content.indexOf("id:") + 3, content.indexOf('\n', content.indexOf("id:")));
+        stream.getRequest().getAsyncContext().complete();
+        appointmentService.approveAppointment(id);
+
+        stream = restAppointmentEventMockMvc
+            .perform(get(EVENTS_API_URL).accept(MediaType.TEXT_EVENT_STREAM).header("Last-Event-ID", eventId))
+            .andReturn();
+
+        assertThat(awaitContent(stream, "\"status\":\"SCHEDULED\"")).contains(
+            "\"type\":\"UPDATED\",\"appointmentId\":" + id + ",\"status\":\"SCHEDULED\""
+        );
+    }
+
+    @Test
+    void resetUnknownLastEventId() throws Exception {
+        stream = restAppointmentEventMockMvc
+            .perform(get(EVENTS_API_URL).accept(MediaType.TEXT_EVENT_STREAM).header("Last-Event-ID", "unknown-1"))
+            .andReturn();
+
+        assertThat(awaitContent(stream, "event:reset")).contains("event:reset");
+    }
+
+    @Test
+    @WithMockUser
+    void streamIsForbiddenToUsers() throws Exception {
+        restAppointmentEventMockMvc.perform(get(EVENTS_API_URL).accept(MediaType.TEXT_EVENT_STREAM)).andExpect(status().isForbidden());
+    }
+
+    private AppointmentDTO appointment() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(userRepository.findOneByLogin("user").orElseThrow().getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setStartTime(START_TIME);
+        appointmentDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentDTO.setStatus(AppointmentStatus.REQUESTED);
+        appointmentDTO.setUser(userDTO);
+        appointmentDTO.setService(serviceDTO);
+        return appointmentDTO;
+    }
+
+    private AppointmentSeriesDTO series() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(userRepository.findOneByLogin("user").orElseThrow().getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentSeriesDTO appointmentSeriesDTO = new AppointmentSeriesDTO();
+        appointmentSeriesDTO.setStartTime(START_TIME.plus(1, ChronoUnit.DAYS));
+        appointmentSeriesDTO.setEndTime(START_TIME.plus(1, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS));
+        appointmentSeriesDTO.setUser(userDTO);
+        appointmentSeriesDTO.setService(serviceDTO);
+        appointmentSeriesDTO.setFrequency(RecurrenceFrequency.WEEKLY);
+        appointmentSeriesDTO.setCount(2);
+        return appointmentSeriesDTO;
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
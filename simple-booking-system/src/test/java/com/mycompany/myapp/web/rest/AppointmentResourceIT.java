@@ -3,14 +3,24 @@ package com.mycompany.myapp.web.rest;
 import static com.mycompany.myapp.domain.AppointmentAsserts.*;
 import static com.mycompany.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.StatementMetricsListener;
 import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
 import com.mycompany.myapp.repository.AppointmentRepository;
@@ -18,10 +28,13 @@ import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.service.AppointmentService;
 import com.mycompany.myapp.service.dto.AppointmentDTO;
 import com.mycompany.myapp.service.mapper.AppointmentMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -34,6 +47,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -60,9 +74,16 @@ class AppointmentResourceIT {
     private static final String DEFAULT_SPECIAL_NEEDS = "AAAAAAAAAA";
     private static final String UPDATED_SPECIAL_NEEDS = "BBBBBBBBBB";
 
+    /**
+     * The select of the page and the count query.
+     */
+    private static final long MAX_STATEMENTS_PER_PAGE = 2;
+
     private static final String ENTITY_API_URL = "/api/appointments";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -90,6 +111,9 @@ class AppointmentResourceIT {
     @Autowired
     private MockMvc restAppointmentMockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Appointment appointment;
 
     private Appointment insertedAppointment;
@@ -258,6 +282,169 @@ class AppointmentResourceIT {
             .andExpect(jsonPath("$.[*].specialNeeds").value(hasItem(DEFAULT_SPECIAL_NEEDS)));
     }
 
+    @Test
+    @Transactional
+    void getAllAppointmentsCostsAConstantNumberOfStatements() throws Exception {
+        // Initialize the database with appointments of distinct users and services
+        for (int i = 0; i < 101; i++) {
+            User user = UserResourceIT.createEntity();
+            em.persist(user);
+            Service service = ServiceResourceIT.createEntity();
+            em.persist(service);
+            em.persist(
+                new Appointment().startTime(DEFAULT_START_TIME).endTime(DEFAULT_END_TIME).status(DEFAULT_STATUS).user(user).service(service)
+            );
+        }
+        em.flush();
+
+        for (boolean eagerload : new boolean[] { false, true }) {
+            em.clear();
+            em.getEntityManagerFactory().getCache().evictAll();
+            long statements = statementCount();
+
+            restAppointmentMockMvc
+                .perform(get(ENTITY_API_URL + "?sort=id,desc&size=100&eagerload=" + eagerload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(100)))
+                .andExpect(jsonPath("$.[*].user.login", everyItem(notNullValue())))
+                .andExpect(jsonPath("$.[*].service.name", everyItem(notNullValue())));
+
+            assertThat(statementCount() - statements)
+                .as("statements with eagerload=%s", eagerload)
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        }
+    }
+
+    @Test
+    @Transactional
+    void getAllAppointmentsNormalized() throws Exception {
+        // Initialize the database with two appointments of the same user and service
+        Service service = ServiceResourceIT.createEntity();
+        em.persist(service);
+        insertedAppointment = appointmentRepository.saveAndFlush(appointment.service(service));
+        Appointment otherAppointment = appointmentRepository.saveAndFlush(
+            new Appointment()
+                .startTime(UPDATED_START_TIME)
+                .endTime(UPDATED_END_TIME)
+                .status(DEFAULT_STATUS)
+                .user(appointment.getUser())
+                .service(appointment.getService())
+        );
+        String userKey = "$.users." + appointment.getUser().getId();
+        String serviceKey = "$.services." + appointment.getService().getId();
+
+        restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL + "?shape=normalized&sort=id,desc&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().exists("X-Total-Count"))
+            .andExpect(
+                jsonPath("$.appointments[*].id").value(contains(otherAppointment.getId().intValue(), appointment.getId().intValue()))
+            )
+            .andExpect(jsonPath("$.appointments[*].userId").value(everyItem(is(appointment.getUser().getId().intValue()))))
+            .andExpect(jsonPath("$.appointments[*].serviceId").value(everyItem(is(appointment.getService().getId().intValue()))))
+            .andExpect(jsonPath("$.appointments[*].user").doesNotExist())
+            .andExpect(jsonPath("$.users.length()").value(1))
+            .andExpect(jsonPath(userKey + ".login").value(appointment.getUser().getLogin()))
+            .andExpect(jsonPath("$.services.length()").value(1))
+            .andExpect(jsonPath(serviceKey + ".name").value(appointment.getService().getName()));
+
+        appointmentRepository.delete(otherAppointment);
+    }
+
+    @Test
+    @Transactional
+    void getAllAppointmentsStreamed() throws Exception {
+        // Initialize the database with an appointment with a service and one without
+        Service service = ServiceResourceIT.createEntity();
+        em.persist(service);
+        insertedAppointment = appointmentRepository.saveAndFlush(appointment.service(service));
+        Appointment otherAppointment = appointmentRepository.saveAndFlush(
+            new Appointment().startTime(UPDATED_START_TIME).endTime(UPDATED_END_TIME).status(UPDATED_STATUS).user(appointment.getUser())
+        );
+
+        restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL + "?stream=true&sort=id,desc&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherAppointment.getId().intValue(), appointment.getId().intValue())))
+            .andExpect(jsonPath("$.[1].startTime").value(DEFAULT_START_TIME.toString()))
+            .andExpect(jsonPath("$.[1].endTime").value(DEFAULT_END_TIME.toString()))
+            .andExpect(jsonPath("$.[1].status").value(DEFAULT_STATUS.toString()))
+            .andExpect(jsonPath("$.[1].specialNeeds").value(DEFAULT_SPECIAL_NEEDS))
+            .andExpect(jsonPath("$.[1].user.id").value(appointment.getUser().getId().intValue()))
+            .andExpect(jsonPath("$.[1].user.login").value(appointment.getUser().getLogin()))
+            .andExpect(jsonPath("$.[1].service.id").value(service.getId().intValue()))
+            .andExpect(jsonPath("$.[1].service.name").value(service.getName()))
+            .andExpect(jsonPath("$.[0].status").value(UPDATED_STATUS.toString()))
+            .andExpect(jsonPath("$.[0].service").value(nullValue()));
+
+        appointmentRepository.delete(otherAppointment);
+    }
+
+    @Test
+    @Transactional
+    void getAllAppointmentsStreamedWithTheFieldsOfTheList() throws Exception {
+        // Initialize the database
+        Service service = ServiceResourceIT.createEntity();
+        em.persist(service);
+        insertedAppointment = appointmentRepository.saveAndFlush(appointment.service(service));
+
+        JsonNode listed = om.readTree(
+            restAppointmentMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc")).andReturn().getResponse().getContentAsString()
+        ).get(0);
+        JsonNode streamed = om.readTree(
+            restAppointmentMockMvc.perform(get(ENTITY_API_URL + "?stream=true&sort=id,desc")).andReturn().getResponse().getContentAsString()
+        ).get(0);
+
+        // the relationships only come with their id and login or name, which must match those of the list
+        assertThat(streamed.get("id").asLong()).isEqualTo(appointment.getId());
+        assertThat(fieldNames(streamed)).containsExactlyInAnyOrderElementsOf(fieldNames(listed));
+        for (String field : fieldNames(streamed)) {
+            if (streamed.get(field).isObject()) {
+                for (String relationshipField : fieldNames(streamed.get(field))) {
+                    assertThat(streamed.get(field).get(relationshipField)).isEqualTo(listed.get(field).get(relationshipField));
+                }
+                assertThat(fieldNames(streamed.get(field))).hasSize(2);
+            } else {
+                assertThat(streamed.get(field)).as(field).isEqualTo(listed.get(field));
+            }
+        }
+    }
+
+    @Test
+    @Transactional
+    void getAllAppointmentsStreamedAsCbor() throws Exception {
+        // Initialize the database
+        insertedAppointment = appointmentRepository.saveAndFlush(appointment);
+
+        // CBOR is not streamed: the default list answers, with its pagination headers
+        byte[] body = restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL + "?stream=true&sort=id,desc").accept(CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CBOR))
+            .andExpect(header().exists("X-Total-Count"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        JsonNode appointmentsNode = new CBORMapper().readTree(body);
+        assertThat(appointmentsNode.isArray()).isTrue();
+        assertThat(appointmentsNode.findValuesAsText("id")).contains(appointment.getId().toString());
+    }
+
+    @Test
+    @Transactional
+    void getAllAppointmentsStreamedSortedByRelationship() throws Exception {
+        restAppointmentMockMvc.perform(get(ENTITY_API_URL + "?stream=true&sort=user.login,asc")).andExpect(status().isBadRequest());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> fieldNames = new ArrayList<>();
+        node.fieldNames().forEachRemaining(fieldNames::add);
+        return fieldNames;
+    }
+
     @SuppressWarnings({ "unchecked" })
     void getAllAppointmentsWithEagerRelationshipsIsEnabled() throws Exception {
         when(appointmentServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
@@ -293,6 +480,67 @@ class AppointmentResourceIT {
             .andExpect(jsonPath("$.specialNeeds").value(DEFAULT_SPECIAL_NEEDS));
     }
 
+    @Test
+    @Transactional
+    void getAppointmentIsNotModifiedForMatchingETag() throws Exception {
+        // Initialize the database
+        insertedAppointment = appointmentRepository.saveAndFlush(appointment);
+
+        String eTag = restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL_ID, appointment.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL_ID, appointment.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Update the appointment, which must invalidate the ETag
+        Appointment updatedAppointment = appointmentRepository.findById(appointment.getId()).orElseThrow();
+        updatedAppointment.setStatus(UPDATED_STATUS);
+        appointmentRepository.saveAndFlush(updatedAppointment);
+
+        restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL_ID, appointment.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(UPDATED_STATUS.toString()));
+    }
+
+    @Test
+    @Transactional
+    void getAppointmentAsCbor() throws Exception {
+        // Initialize the database
+        insertedAppointment = appointmentRepository.saveAndFlush(appointment);
+
+        byte[] body = restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL_ID, appointment.getId()).accept(CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CBOR))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        JsonNode appointmentNode = new CBORMapper().readTree(body);
+        assertThat(appointmentNode.get("id").asLong()).isEqualTo(appointment.getId());
+        assertThat(appointmentNode.get("startTime").asText()).isEqualTo(DEFAULT_START_TIME.toString());
+        assertThat(appointmentNode.get("status").asText()).isEqualTo(DEFAULT_STATUS.toString());
+
+        // The ETag of the JSON representation does not match the CBOR one
+        String eTag = restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL_ID, appointment.getId()).accept(MediaType.APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        restAppointmentMockMvc
+            .perform(get(ENTITY_API_URL_ID, appointment.getId()).accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(CBOR));
+    }
+
     @Test
     @Transactional
     void getNonExistingAppointment() throws Exception {
@@ -540,6 +788,10 @@ class AppointmentResourceIT {
         assertDecrementedRepositoryCount(databaseSizeBeforeDelete);
     }
 
+    private long statementCount() {
+        return meterRegistry.find(StatementMetricsListener.METRIC_NAME).timers().stream().mapToLong(Timer::count).sum();
+    }
+
     protected long getRepositoryCount() {
         return appointmentRepository.count();
     }
@@ -0,0 +1,273 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.StatementMetricsListener;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository.SlotCount;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.SlotOccupancyService;
+import com.mycompany.myapp.service.dto.AppointmentSeriesDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link AppointmentSeriesResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class AppointmentSeriesResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/appointment-series";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+
+    private static final int WEEKS = 52;
+
+    private static final int BATCH_SIZE = 25;
+
+    private static final Instant START_TIME = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Autowired
+    private SlotOccupancyService slotOccupancyService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restAppointmentSeriesMockMvc;
+
+    private User user;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        user = UserResourceIT.createEntity();
+        em.persist(user);
+        service = ServiceResourceIT.createEntity();
+        em.persist(service);
+        em.flush();
+    }
+
+    @Test
+    void createWeeklySeries() throws Exception {
+        long databaseSizeBeforeCreate = appointmentRepository.count();
+        long conflictChecks = statementCount("findBookedIntervals", "select", false);
+        long capacityChecks = statementCount("findFullStartTimes", "select", false);
+        long slotIncrements = statementCount("incrementAvailable", "update", false);
+        long batchedInserts = statementCount(StatementMetricsListener.NONE, "insert", true);
+        long singleInserts = statementCount(StatementMetricsListener.NONE, "insert", false);
+
+        restAppointmentSeriesMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(weeklySeries())))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNumber())
+            .andExpect(jsonPath("$.count").value(WEEKS))
+            .andExpect(jsonPath("$.appointments", hasSize(WEEKS)))
+            .andExpect(jsonPath("$.appointments[*].status", everyItem(is(AppointmentStatus.REQUESTED.toString()))))
+            .andExpect(jsonPath("$.appointments[1].startTime").value(START_TIME.plus(7, ChronoUnit.DAYS).toString()));
+        em.flush();
+
+        assertThat(appointmentRepository.count()).isEqualTo(databaseSizeBeforeCreate + WEEKS);
+        assertThat(statementCount("findBookedIntervals", "select", false) - conflictChecks).isEqualTo(1);
+        assertThat(statementCount("findFullStartTimes", "select", false) - capacityChecks).isEqualTo(1);
+        assertThat(statementCount("incrementAvailable", "update", false) - slotIncrements).isEqualTo(1);
+        // the series and its appointments
+        assertThat(statementCount(StatementMetricsListener.NONE, "insert", true) - batchedInserts).isEqualTo(
+            1 + (WEEKS + BATCH_SIZE - 1) / BATCH_SIZE
+        );
+        // the slot counters
+        assertThat(statementCount(StatementMetricsListener.NONE, "insert", false) - singleInserts).isEqualTo(1);
+        assertThat(slotOccupancyRepository.findAllCounts(service.getId(), START_TIME, START_TIME.plus(WEEKS * 7L, ChronoUnit.DAYS)))
+            .hasSize(WEEKS)
+            .extracting(SlotCount::getBooked)
+            .containsOnly(1);
+    }
+
+    @Test
+    void createSeriesWithConflicts() throws Exception {
+        Instant conflictingStartTime = START_TIME.plus(14, ChronoUnit.DAYS);
+        em.persist(
+            new Appointment()
+                .startTime(conflictingStartTime.plus(30, ChronoUnit.MINUTES))
+                .endTime(conflictingStartTime.plus(90, ChronoUnit.MINUTES))
+                .status(AppointmentStatus.SCHEDULED)
+                .user(user)
+        );
+        em.persist(
+            new Appointment()
+                .startTime(START_TIME.plus(21, ChronoUnit.DAYS))
+                .endTime(START_TIME.plus(21, ChronoUnit.DAYS).plus(1, ChronoUnit.HOURS))
+                .status(AppointmentStatus.CANCELLED)
+                .user(user)
+        );
+        em.flush();
+        long databaseSizeBeforeCreate = appointmentRepository.count();
+
+        restAppointmentSeriesMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(weeklySeries())))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("error.appointmentconflict"))
+            .andExpect(jsonPath("$.conflicts", contains(conflictingStartTime.toString())));
+
+        assertThat(appointmentRepository.count()).isEqualTo(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    void createSeriesInFullSlots() throws Exception {
+        Instant fullStartTime = START_TIME.plus(14, ChronoUnit.DAYS);
+        Instant availableStartTime = START_TIME.plus(21, ChronoUnit.DAYS);
+        service.setCapacity(2);
+        User otherUser = UserResourceIT.createEntity();
+        em.persist(otherUser);
+        em.flush();
+        for (Instant startTime : List.of(fullStartTime, fullStartTime, availableStartTime)) {
+            Appointment appointment = new Appointment()
+                .startTime(startTime)
+                .endTime(startTime.plus(1, ChronoUnit.HOURS))
+                .status(AppointmentStatus.SCHEDULED)
+                .user(otherUser)
+                .service(service);
+            em.persist(appointment);
+            slotOccupancyService.book(SlotOccupancyService.Slot.of(appointment));
+        }
+
+        // the appointments are inserted before the slots are taken, and only rolled back with the test transaction
+        restAppointmentSeriesMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(weeklySeries())))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("error.appointmentconflict"))
+            .andExpect(jsonPath("$.conflicts", contains(fullStartTime.toString())));
+    }
+
+    @Test
+    void createSeriesWithInvalidRecurrence() throws Exception {
+        AppointmentSeriesDTO appointmentSeriesDTO = weeklySeries();
+        appointmentSeriesDTO.setUntil(START_TIME.plus(100, ChronoUnit.DAYS));
+
+        restAppointmentSeriesMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(appointmentSeriesDTO)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.invalidrecurrence"));
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void approveAndCancelSeries() throws Exception {
+        AppointmentSeriesDTO appointmentSeriesDTO = om.readValue(
+            restAppointmentSeriesMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(weeklySeries())))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            AppointmentSeriesDTO.class
+        );
+        Long id = appointmentSeriesDTO.getId();
+
+        restAppointmentSeriesMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/approve", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.appointments", hasSize(WEEKS)))
+            .andExpect(jsonPath("$.appointments[*].status", everyItem(is(AppointmentStatus.SCHEDULED.toString()))));
+
+        restAppointmentSeriesMockMvc
+            .perform(put(ENTITY_API_URL_ID + "/cancel", id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.appointments[*].status", everyItem(is(AppointmentStatus.CANCELLED.toString()))));
+
+        restAppointmentSeriesMockMvc
+            .perform(get(ENTITY_API_URL_ID, id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.user.login").value(user.getLogin()))
+            .andExpect(jsonPath("$.appointments[*].seriesId", everyItem(is(id.intValue()))));
+        assertThat(appointmentRepository.findAllBySeriesIdOrderByStartTime(id))
+            .extracting(Appointment::getStatus)
+            .containsOnly(AppointmentStatus.CANCELLED);
+        assertThat(
+            slotOccupancyRepository.findAllCounts(service.getId(), START_TIME, START_TIME.plus(WEEKS * 7L, ChronoUnit.DAYS))
+        ).isEmpty();
+    }
+
+    @Test
+    void approveSeriesIsForbiddenToUsers() throws Exception {
+        restAppointmentSeriesMockMvc.perform(put(ENTITY_API_URL_ID + "/approve", Long.MAX_VALUE)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void cancelNonExistingSeries() throws Exception {
+        restAppointmentSeriesMockMvc.perform(put(ENTITY_API_URL_ID + "/cancel", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    private AppointmentSeriesDTO weeklySeries() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(user.getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentSeriesDTO appointmentSeriesDTO = new AppointmentSeriesDTO();
+        appointmentSeriesDTO.setStartTime(START_TIME);
+        appointmentSeriesDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentSeriesDTO.setUser(userDTO);
+        appointmentSeriesDTO.setService(serviceDTO);
+        appointmentSeriesDTO.setFrequency(RecurrenceFrequency.WEEKLY);
+        appointmentSeriesDTO.setCount(WEEKS);
+        return appointmentSeriesDTO;
+    }
+
+    private long statementCount(String method, String type, boolean batch) {
+        return meterRegistry
+            .find(StatementMetricsListener.METRIC_NAME)
+            .tag("method", method)
+            .tag("type", type)
+            .tag("batch", String.valueOf(batch))
+            .timers()
+            .stream()
+            .mapToLong(Timer::count)
+            .sum();
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.myapp.web.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -12,14 +13,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.web.rest.vm.LoginVM;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -38,6 +44,9 @@ class AuthenticateControllerIT {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -99,4 +108,81 @@ class AuthenticateControllerIT {
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    @Transactional
+    void testAuthorizeRefusedAfterTooManyFailures() throws Exception {
+        User user = new User();
+        user.setLogin("user-jwt-controller-locked");
+        user.setEmail("user-jwt-controller-locked@example.com");
+        user.setActivated(true);
+        user.setPassword(passwordEncoder.encode("test"));
+
+        userRepository.saveAndFlush(user);
+
+        LoginVM login = new LoginVM();
+        login.setUsername("user-jwt-controller-locked");
+        login.setPassword("wrong password");
+        for (int i = 0; i < 5; i++) {
+            mockMvc
+                .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+                .andExpect(status().isUnauthorized());
+        }
+        double lockouts = loginLockouts("login");
+
+        login.setUsername("USER-JWT-CONTROLLER-LOCKED");
+        login.setPassword("test");
+        mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "60"))
+            .andExpect(jsonPath("$.message").value("error.toomanyloginattempts"))
+            .andExpect(header().doesNotExist("Authorization"));
+        assertThat(loginLockouts("login")).isEqualTo(lockouts + 1);
+    }
+
+    @Test
+    void testAuthorizeRefusedAfterTooManyAttemptsFromAddress() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setPassword("wrong password");
+        for (int i = 0; i < 20; i++) {
+            login.setUsername("wrong-user-" + i);
+            authorizeFromAddress(login).andExpect(status().isUnauthorized());
+        }
+        double lockouts = loginLockouts("ip");
+
+        // the sliding window weighs the attempts of the previous minute down, so a few more may be let through at its turn
+        login.setUsername("wrong-user");
+        int responseStatus = HttpStatus.UNAUTHORIZED.value();
+        for (int i = 0; i < 20 && responseStatus == HttpStatus.UNAUTHORIZED.value(); i++) {
+            responseStatus = authorizeFromAddress(login).andReturn().getResponse().getStatus();
+        }
+        assertThat(responseStatus).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        authorizeFromAddress(login).andExpect(status().isTooManyRequests()).andExpect(header().string("Retry-After", "3"));
+        mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login)))
+            .andExpect(status().isUnauthorized());
+        assertThat(loginLockouts("ip")).isEqualTo(lockouts + 2);
+    }
+
+    private ResultActions authorizeFromAddress(LoginVM login) throws Exception {
+        return mockMvc.perform(
+            post("/api/authenticate").with(remoteAddress()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(login))
+        );
+    }
+
+    private double loginLockouts(String key) {
+        return meterRegistry
+            .get(SecurityMetersService.LOGIN_LOCKOUTS_METER_NAME)
+            .tag(SecurityMetersService.LOGIN_LOCKOUTS_METER_KEY_DIMENSION, key)
+            .counter()
+            .count();
+    }
+
+    private static RequestPostProcessor remoteAddress() {
+        return request -> {
+            request.setRemoteAddr("192.0.2.1");
+            return request;
+        };
+    }
 }
@@ -0,0 +1,183 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link BatchResource} REST controller, on committed operations.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "admin", authorities = AuthoritiesConstants.ADMIN)
+class BatchResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/batch";
+
+    private static final Instant START_TIME = Instant.now().plus(400, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private MockMvc restBatchMockMvc;
+
+    @AfterEach
+    void cleanup() {
+        appointmentRepository.deleteAll(bookedAppointments());
+    }
+
+    private List<Appointment> bookedAppointments() {
+        return appointmentRepository.findAll().stream().filter(appointment -> START_TIME.equals(appointment.getStartTime())).toList();
+    }
+
+    private static Map<String, Object> appointment(Instant startTime) {
+        return Map.of(
+            "startTime",
+            startTime.toString(),
+            "endTime",
+            START_TIME.plus(1, ChronoUnit.HOURS).toString(),
+            "status",
+            AppointmentStatus.REQUESTED.toString(),
+            "user",
+            Map.of("id", 1)
+        );
+    }
+
+    @Test
+    void runReadsAndWrite() throws Exception {
+        Map<String, Object> batch = Map.of(
+            "operations",
+            List.of(
+                Map.of("id", "account", "method", "GET", "url", "/api/account"),
+                Map.of("id", "services", "method", "GET", "url", "/api/services?page=0&size=1"),
+                Map.of("id", "booking", "method", "POST", "url", "/api/appointments", "body", appointment(START_TIME))
+            )
+        );
+
+        restBatchMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(batch)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.results[0].id").value("account"))
+            .andExpect(jsonPath("$.results[0].status").value(200))
+            .andExpect(jsonPath("$.results[0].body.login").value("admin"))
+            .andExpect(jsonPath("$.results[1].status").value(200))
+            .andExpect(jsonPath("$.results[1].headers['X-Total-Count']").exists())
+            .andExpect(jsonPath("$.results[1].body").isArray())
+            .andExpect(jsonPath("$.results[2].status").value(201))
+            .andExpect(jsonPath("$.results[2].headers.Location").value(containsString("/api/appointments/")))
+            .andExpect(jsonPath("$.results[2].body.startTime").value(START_TIME.toString()));
+
+        assertThat(bookedAppointments()).hasSize(1);
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.USER)
+    void authorizeEachOperation() throws Exception {
+        Map<String, Object> batch = Map.of(
+            "operations",
+            List.of(
+                Map.of("method", "GET", "url", "/api/admin/users"),
+                Map.of("method", "GET", "url", "/api/authorities"),
+                Map.of("method", "GET", "url", "/api/services")
+            )
+        );
+
+        restBatchMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(batch)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.results[0].status").value(403))
+            .andExpect(jsonPath("$.results[1].status").value(403))
+            .andExpect(jsonPath("$.results[2].status").value(200));
+    }
+
+    @Test
+    void rollBackAtomicBatchOnFailure() throws Exception {
+        Map<String, Object> batch = Map.of(
+            "atomic",
+            true,
+            "operations",
+            List.of(
+                Map.of("id", "first", "method", "POST", "url", "/api/appointments", "body", appointment(START_TIME)),
+                Map.of("id", "second", "method", "POST", "url", "/api/appointments", "body", Map.of("status", "REQUESTED")),
+                Map.of("id", "third", "method", "GET", "url", "/api/account")
+            )
+        );
+
+        restBatchMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(batch)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.results[0].status").value(424))
+            .andExpect(jsonPath("$.results[1].status").value(400))
+            .andExpect(jsonPath("$.results[1].body.fieldErrors").isArray())
+            .andExpect(jsonPath("$.results[2].status").value(424));
+
+        assertThat(bookedAppointments()).isEmpty();
+    }
+
+    @Test
+    void commitAtomicBatch() throws Exception {
+        Map<String, Object> batch = Map.of(
+            "atomic",
+            true,
+            "operations",
+            List.of(
+                Map.of("method", "POST", "url", "/api/appointments", "body", appointment(START_TIME)),
+                Map.of("method", "GET", "url", "/api/appointments?sort=id,desc&size=1")
+            )
+        );
+
+        restBatchMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(batch)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.results[0].status").value(201))
+            .andExpect(jsonPath("$.results[1].status").value(200))
+            .andExpect(jsonPath("$.results[1].body[0].startTime").value(START_TIME.toString()));
+
+        assertThat(bookedAppointments()).hasSize(1);
+    }
+
+    @Test
+    void reportUnknownResource() throws Exception {
+        Map<String, Object> batch = Map.of("operations", List.of(Map.of("method", "GET", "url", "/api/unknown")));
+
+        restBatchMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(batch)))
+            .andExpect(status().isMultiStatus())
+            .andExpect(jsonPath("$.results[0].status").value(404));
+    }
+
+    @Test
+    void rejectOperationOutsideOfTheApi() throws Exception {
+        for (String url : List.of("/management/info", "/api/../management/info", "/api/%2e%2e/management/info", "/api/batch")) {
+            Map<String, Object> batch = Map.of("operations", List.of(Map.of("method", "GET", "url", url)));
+
+            restBatchMockMvc
+                .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(batch)))
+                .andExpect(status().isBadRequest());
+        }
+    }
+}
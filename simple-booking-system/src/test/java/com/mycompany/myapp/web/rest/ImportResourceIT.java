@@ -0,0 +1,137 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link ImportResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+@Transactional
+class ImportResourceIT {
+
+    private static final String APPOINTMENTS_API_URL = "/api/admin/import/appointments";
+
+    private static final String SERVICES_API_URL = "/api/admin/import/services";
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restImportMockMvc;
+
+    private User user;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        user = UserResourceIT.createEntity();
+        user.setLogin(user.getLogin().toLowerCase(Locale.ENGLISH));
+        em.persist(user);
+        service = ServiceResourceIT.createEntity().name("Import " + user.getLogin());
+        em.persist(service);
+        em.flush();
+    }
+
+    @Test
+    void importAppointmentsFromCsv() throws Exception {
+        long databaseSizeBeforeImport = appointmentRepository.count();
+        String upload =
+            "startTime,endTime,status,specialNeeds,user,service\n" +
+            "2026-01-05T08:00:00Z,2026-01-05T09:00:00Z,REQUESTED,\"Wheelchair, ramp\"," +
+            user.getLogin() +
+            "," +
+            service.getName() +
+            "\n" +
+            "2026-01-05T09:00:00Z,2026-01-05T10:00:00Z,SCHEDULED,," +
+            user.getLogin().toUpperCase(Locale.ENGLISH) +
+            ",\n" +
+            "2026-01-05T10:00:00Z,2026-01-05T11:00:00Z,REQUESTED,,nobody," +
+            service.getName() +
+            "\n";
+
+        restImportMockMvc
+            .perform(post(APPOINTMENTS_API_URL).contentType(ImportResource.TEXT_CSV_VALUE).content(upload))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(
+                content().string("{\"row\":3,\"errors\":[\"user: unknown login 'nobody'\"]}\n{\"imported\":2,\"rejected\":1}\n")
+            );
+
+        assertThat(appointmentRepository.count()).isEqualTo(databaseSizeBeforeImport + 2);
+        List<Appointment> appointments = appointmentRepository.findAllWithEagerRelationships();
+        assertThat(appointments)
+            .filteredOn(appointment -> appointment.getUser().getId().equals(user.getId()))
+            .extracting(Appointment::getStatus, Appointment::getSpecialNeeds, appointment ->
+                appointment.getService() == null ? null : appointment.getService().getId()
+            )
+            .containsExactlyInAnyOrder(
+                tuple(AppointmentStatus.REQUESTED, "Wheelchair, ramp", service.getId()),
+                tuple(AppointmentStatus.SCHEDULED, null, null)
+            );
+    }
+
+    @Test
+    void importServicesFromNdjson() throws Exception {
+        long databaseSizeBeforeImport = serviceRepository.count();
+        String upload =
+            "{\"name\":\"Imported massage\",\"description\":\"Relaxing\",\"price\":30.5}\n" +
+            "{\"name\":\"X\",\"price\":10}\n" +
+            "{\"name\":\"Imported haircut\",\"price\":15}\n";
+
+        restImportMockMvc
+            .perform(post(SERVICES_API_URL).contentType(MediaType.APPLICATION_NDJSON).content(upload))
+            .andExpect(status().isOk())
+            .andExpect(
+                content().string("{\"row\":2,\"errors\":[\"name: size must be between 3 and 50\"]}\n{\"imported\":2,\"rejected\":1}\n")
+            );
+
+        assertThat(serviceRepository.count()).isEqualTo(databaseSizeBeforeImport + 2);
+        assertThat(serviceRepository.findAll())
+            .filteredOn(imported -> imported.getName().startsWith("Imported "))
+            .extracting(Service::getPrice)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactlyInAnyOrder(new BigDecimal("30.5"), new BigDecimal("15"));
+    }
+
+    @Test
+    @WithMockUser
+    void importIsForbiddenToUsers() throws Exception {
+        restImportMockMvc
+            .perform(post(SERVICES_API_URL).contentType(MediaType.APPLICATION_NDJSON).content("{\"name\":\"Forbidden\",\"price\":1}\n"))
+            .andExpect(status().isForbidden());
+    }
+}
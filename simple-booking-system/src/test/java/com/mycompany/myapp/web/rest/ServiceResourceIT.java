@@ -4,18 +4,27 @@ import static com.mycompany.myapp.domain.ServiceAsserts.*;
 import static com.mycompany.myapp.web.rest.TestUtil.createUpdateProxyForBean;
 import static com.mycompany.myapp.web.rest.TestUtil.sameNumber;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
 import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
 import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.service.SlotOccupancyService;
 import com.mycompany.myapp.service.dto.ServiceDTO;
 import com.mycompany.myapp.service.mapper.ServiceMapper;
 import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterEach;
@@ -23,6 +32,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -45,9 +55,14 @@ class ServiceResourceIT {
     private static final BigDecimal DEFAULT_PRICE = new BigDecimal(0);
     private static final BigDecimal UPDATED_PRICE = new BigDecimal(1);
 
+    private static final Integer DEFAULT_CAPACITY = 1;
+    private static final Integer UPDATED_CAPACITY = 2;
+
     private static final String ENTITY_API_URL = "/api/services";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     private static Random random = new Random();
     private static AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
@@ -60,6 +75,9 @@ class ServiceResourceIT {
     @Autowired
     private ServiceMapper serviceMapper;
 
+    @Autowired
+    private SlotOccupancyService slotOccupancyService;
+
     @Autowired
     private EntityManager em;
 
@@ -77,7 +95,7 @@ class ServiceResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static Service createEntity() {
-        return new Service().name(DEFAULT_NAME).description(DEFAULT_DESCRIPTION).price(DEFAULT_PRICE);
+        return new Service().name(DEFAULT_NAME).description(DEFAULT_DESCRIPTION).price(DEFAULT_PRICE).capacity(DEFAULT_CAPACITY);
     }
 
     /**
@@ -87,7 +105,7 @@ class ServiceResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static Service createUpdatedEntity() {
-        return new Service().name(UPDATED_NAME).description(UPDATED_DESCRIPTION).price(UPDATED_PRICE);
+        return new Service().name(UPDATED_NAME).description(UPDATED_DESCRIPTION).price(UPDATED_PRICE).capacity(UPDATED_CAPACITY);
     }
 
     @BeforeEach
@@ -179,6 +197,23 @@ class ServiceResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeTest);
     }
 
+    @Test
+    @Transactional
+    void checkCapacityIsRequired() throws Exception {
+        long databaseSizeBeforeTest = getRepositoryCount();
+        // set the field null
+        service.setCapacity(null);
+
+        // Create the Service, which fails.
+        ServiceDTO serviceDTO = serviceMapper.toDto(service);
+
+        restServiceMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(serviceDTO)))
+            .andExpect(status().isBadRequest());
+
+        assertSameRepositoryCount(databaseSizeBeforeTest);
+    }
+
     @Test
     @Transactional
     void getAllServices() throws Exception {
@@ -193,7 +228,8 @@ class ServiceResourceIT {
             .andExpect(jsonPath("$.[*].id").value(hasItem(service.getId().intValue())))
             .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
             .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION)))
-            .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))));
+            .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))))
+            .andExpect(jsonPath("$.[*].capacity").value(hasItem(DEFAULT_CAPACITY)));
     }
 
     @Test
@@ -210,7 +246,91 @@ class ServiceResourceIT {
             .andExpect(jsonPath("$.id").value(service.getId().intValue()))
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME))
             .andExpect(jsonPath("$.description").value(DEFAULT_DESCRIPTION))
-            .andExpect(jsonPath("$.price").value(sameNumber(DEFAULT_PRICE)));
+            .andExpect(jsonPath("$.price").value(sameNumber(DEFAULT_PRICE)))
+            .andExpect(jsonPath("$.capacity").value(DEFAULT_CAPACITY));
+    }
+
+    @Test
+    @Transactional
+    void getServiceIsNotModifiedForMatchingETag() throws Exception {
+        // Initialize the database
+        insertedService = serviceRepository.saveAndFlush(service);
+
+        String eTag = restServiceMockMvc
+            .perform(get(ENTITY_API_URL_ID, service.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restServiceMockMvc
+            .perform(get(ENTITY_API_URL_ID, service.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+
+        // Update the service, which must invalidate the ETag
+        Service updatedService = serviceRepository.findById(service.getId()).orElseThrow();
+        updatedService.setName(UPDATED_NAME);
+        serviceRepository.saveAndFlush(updatedService);
+
+        restServiceMockMvc
+            .perform(get(ENTITY_API_URL_ID, service.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME));
+    }
+
+    @Test
+    @Transactional
+    void getAllServicesIsNotModifiedForMatchingETag() throws Exception {
+        // Initialize the database
+        insertedService = serviceRepository.saveAndFlush(service);
+
+        String eTag = restServiceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restServiceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        // Another page of the same catalogue is another representation
+        restServiceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,asc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+
+        // Deleting a service must invalidate the ETag
+        serviceRepository.delete(insertedService);
+        serviceRepository.flush();
+        insertedService = null;
+
+        restServiceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void getAllServicesAsSmile() throws Exception {
+        // Initialize the database
+        insertedService = serviceRepository.saveAndFlush(service);
+
+        byte[] body = restServiceMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SMILE))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        JsonNode serviceNode = new SmileMapper().readTree(body).get(0);
+        assertThat(serviceNode.get("id").asLong()).isEqualTo(service.getId());
+        assertThat(serviceNode.get("name").asText()).isEqualTo(DEFAULT_NAME);
+        assertThat(serviceNode.get("capacity").asInt()).isEqualTo(DEFAULT_CAPACITY);
     }
 
     @Test
@@ -232,7 +352,7 @@ class ServiceResourceIT {
         Service updatedService = serviceRepository.findById(service.getId()).orElseThrow();
         // Disconnect from session so that the updates on updatedService are not directly saved in db
         em.detach(updatedService);
-        updatedService.name(UPDATED_NAME).description(UPDATED_DESCRIPTION).price(UPDATED_PRICE);
+        updatedService.name(UPDATED_NAME).description(UPDATED_DESCRIPTION).price(UPDATED_PRICE).capacity(UPDATED_CAPACITY);
         ServiceDTO serviceDTO = serviceMapper.toDto(updatedService);
 
         restServiceMockMvc
@@ -346,7 +466,7 @@ class ServiceResourceIT {
         Service partialUpdatedService = new Service();
         partialUpdatedService.setId(service.getId());
 
-        partialUpdatedService.name(UPDATED_NAME).description(UPDATED_DESCRIPTION).price(UPDATED_PRICE);
+        partialUpdatedService.name(UPDATED_NAME).description(UPDATED_DESCRIPTION).price(UPDATED_PRICE).capacity(UPDATED_CAPACITY);
 
         restServiceMockMvc
             .perform(
@@ -424,6 +544,57 @@ class ServiceResourceIT {
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
     }
 
+    @Test
+    @Transactional
+    void getServiceAvailability() throws Exception {
+        // Initialize the database
+        insertedService = serviceRepository.saveAndFlush(service.capacity(12));
+        User user = UserResourceIT.createEntity();
+        em.persist(user);
+        Instant startTime = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+        for (int i = 0; i < 3; i++) {
+            Appointment appointment = new Appointment()
+                .startTime(startTime)
+                .endTime(startTime.plus(1, ChronoUnit.HOURS))
+                .status(AppointmentStatus.REQUESTED)
+                .user(user)
+                .service(service);
+            em.persist(appointment);
+            slotOccupancyService.book(SlotOccupancyService.Slot.of(appointment));
+        }
+
+        // Get the availability from the slot counters
+        restServiceMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID + "/availability", service.getId())
+                    .param("from", startTime.minus(1, ChronoUnit.DAYS).toString())
+                    .param("to", startTime.plus(1, ChronoUnit.DAYS).toString())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].startTime").value(contains(startTime.toString())))
+            .andExpect(jsonPath("$.[0].capacity").value(12))
+            .andExpect(jsonPath("$.[0].booked").value(3))
+            .andExpect(jsonPath("$.[0].available").value(9));
+    }
+
+    @Test
+    @Transactional
+    void getAvailabilityOfNonExistingService() throws Exception {
+        Instant now = Instant.now();
+        restServiceMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID + "/availability", Long.MAX_VALUE)
+                    .param("from", now.toString())
+                    .param("to", now.plus(1, ChronoUnit.DAYS).toString())
+            )
+            .andExpect(status().isNotFound());
+        restServiceMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID + "/availability", Long.MAX_VALUE).param("from", now.toString()).param("to", now.toString())
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void deleteService() throws Exception {
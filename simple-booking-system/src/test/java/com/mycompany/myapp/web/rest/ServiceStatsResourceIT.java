@@ -0,0 +1,268 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.ServiceDailyStats;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.domain.enumeration.RecurrenceFrequency;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.AppointmentSeriesRepository;
+import com.mycompany.myapp.repository.ServiceDailyStatsRepository;
+import com.mycompany.myapp.repository.ServiceRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.AppointmentSeriesService;
+import com.mycompany.myapp.service.AppointmentService;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.AppointmentSeriesDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link ServiceStatsResource} REST controller, on committed appointment changes.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(username = "admin", authorities = AuthoritiesConstants.ADMIN)
+class ServiceStatsResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/admin/stats";
+
+    private static final Instant START_TIME = Instant.now().plus(12, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    private static final LocalDate START_DATE = LocalDate.ofInstant(START_TIME, ZoneOffset.UTC);
+
+    private static final Instant LATER_START_TIME = START_TIME.plus(40, ChronoUnit.DAYS);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentSeriesService appointmentSeriesService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private AppointmentSeriesRepository appointmentSeriesRepository;
+
+    @Autowired
+    private ServiceDailyStatsRepository serviceDailyStatsRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restServiceStatsMockMvc;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        service = serviceRepository.saveAndFlush(new Service().name("Statistics").price(BigDecimal.TEN).capacity(10));
+    }
+
+    @AfterEach
+    void cleanup() {
+        List<Appointment> appointments = appointmentRepository
+            .findAll()
+            .stream()
+            .filter(appointment -> service.equals(appointment.getService()))
+            .toList();
+        appointmentRepository.deleteAll(appointments);
+        appointmentSeriesRepository.deleteAllById(
+            appointments
+                .stream()
+                .filter(appointment -> appointment.getSeries() != null)
+                .map(appointment -> appointment.getSeries().getId())
+                .distinct()
+                .toList()
+        );
+        serviceRepository.deleteById(service.getId());
+    }
+
+    @Test
+    void getCountedChanges() throws Exception {
+        Long approvedId = appointmentService.save(appointment(START_TIME)).getId();
+        requestedAt(approvedId, Instant.now().minus(2, ChronoUnit.DAYS));
+        appointmentService.approveAppointment(approvedId);
+        Long cancelledId = appointmentService.save(appointment(START_TIME)).getId();
+        appointmentService.partialUpdate(statusChange(cancelledId, AppointmentStatus.CANCELLED));
+        Long completedId = appointmentService.save(appointment(START_TIME)).getId();
+        appointmentService.partialUpdate(statusChange(completedId, AppointmentStatus.COMPLETED));
+        appointmentService.save(appointment(START_TIME));
+        appointmentService.delete(appointmentService.save(appointment(START_TIME)).getId());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            appointmentService.save(appointment(START_TIME));
+        });
+
+        restServiceStatsMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}&serviceId={serviceId}", START_DATE, START_DATE, service.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].date").value(START_DATE.toString()))
+            .andExpect(jsonPath("$[0].serviceName").value("Statistics"))
+            .andExpect(jsonPath("$[0].bookings").value(4))
+            .andExpect(jsonPath("$[0].requested").value(1))
+            .andExpect(jsonPath("$[0].scheduled").value(1))
+            .andExpect(jsonPath("$[0].completed").value(1))
+            .andExpect(jsonPath("$[0].cancelled").value(1))
+            .andExpect(jsonPath("$[0].cancellationRate").value(0.25))
+            .andExpect(jsonPath("$[0].revenue").value(10.0))
+            .andExpect(jsonPath("$[0].approved").value(1))
+            .andExpect(
+                jsonPath("$[0].averageApprovalLeadTime").value(both(greaterThanOrEqualTo(2 * 24 * 3600)).and(lessThan(3 * 24 * 3600)))
+            );
+    }
+
+    @Test
+    void getCountedSeriesApproval() throws Exception {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(userRepository.findOneByLogin("user").orElseThrow().getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentSeriesDTO appointmentSeriesDTO = new AppointmentSeriesDTO();
+        appointmentSeriesDTO.setStartTime(START_TIME);
+        appointmentSeriesDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentSeriesDTO.setUser(userDTO);
+        appointmentSeriesDTO.setService(serviceDTO);
+        appointmentSeriesDTO.setFrequency(RecurrenceFrequency.WEEKLY);
+        appointmentSeriesDTO.setCount(3);
+        appointmentSeriesService.approve(appointmentSeriesService.save(appointmentSeriesDTO).getId());
+
+        restServiceStatsMockMvc
+            .perform(
+                get(ENTITY_API_URL + "?from={from}&to={to}&serviceId={serviceId}", START_DATE, START_DATE.plusDays(14), service.getId())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(3)))
+            .andExpect(jsonPath("$[*].requested", everyItem(is(0))))
+            .andExpect(jsonPath("$[*].scheduled", everyItem(is(1))))
+            .andExpect(jsonPath("$[*].approved", everyItem(is(1))));
+    }
+
+    @Test
+    void backfillHistory() throws Exception {
+        appointmentService.approveAppointment(appointmentService.save(appointment(START_TIME)).getId());
+        appointmentService.save(appointment(LATER_START_TIME));
+        ServiceDailyStats stats = serviceDailyStatsRepository
+            .findById(new ServiceDailyStats.StatsId(service.getId(), START_DATE))
+            .orElseThrow();
+        stats.setRequestedCount(5);
+        stats.setScheduledCount(0);
+        serviceDailyStatsRepository.saveAndFlush(stats);
+        serviceDailyStatsRepository.deleteById(
+            new ServiceDailyStats.StatsId(service.getId(), LocalDate.ofInstant(LATER_START_TIME, ZoneOffset.UTC))
+        );
+
+        restServiceStatsMockMvc
+            .perform(post(ENTITY_API_URL + "/backfill?from={from}&to={to}", START_DATE, START_DATE.plusDays(60)))
+            .andExpect(status().isAccepted());
+
+        restServiceStatsMockMvc
+            .perform(
+                get(ENTITY_API_URL + "?from={from}&to={to}&serviceId={serviceId}", START_DATE, START_DATE.plusDays(60), service.getId())
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].requested").value(0))
+            .andExpect(jsonPath("$[0].scheduled").value(1))
+            .andExpect(jsonPath("$[0].approved").value(1))
+            .andExpect(jsonPath("$[1].date").value(LocalDate.ofInstant(LATER_START_TIME, ZoneOffset.UTC).toString()))
+            .andExpect(jsonPath("$[1].requested").value(1))
+            .andExpect(jsonPath("$[1].approved").value(0));
+    }
+
+    @Test
+    void getStatsWithInvalidRange() throws Exception {
+        restServiceStatsMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}", START_DATE, START_DATE.minusDays(1)))
+            .andExpect(status().isBadRequest());
+        restServiceStatsMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}", START_DATE, START_DATE.plusDays(ServiceStatsResource.MAX_DAYS)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.USER)
+    void getStatsAsUserIsForbidden() throws Exception {
+        restServiceStatsMockMvc
+            .perform(get(ENTITY_API_URL + "?from={from}&to={to}", START_DATE, START_DATE))
+            .andExpect(status().isForbidden());
+    }
+
+    /**
+     * Move the request of an appointment back in time, bypassing the entity which sets it on creation.
+     */
+    private void requestedAt(Long id, Instant createdDate) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            em
+                .createNativeQuery("update appointment set created_date = :createdDate where id = :id")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("appointment")
+                .setParameter("createdDate", createdDate)
+                .setParameter("id", id)
+                .executeUpdate()
+        );
+    }
+
+    private AppointmentDTO appointment(Instant startTime) {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(userRepository.findOneByLogin("user").orElseThrow().getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setStartTime(startTime);
+        appointmentDTO.setEndTime(startTime.plus(1, ChronoUnit.HOURS));
+        appointmentDTO.setStatus(AppointmentStatus.REQUESTED);
+        appointmentDTO.setUser(userDTO);
+        appointmentDTO.setService(serviceDTO);
+        return appointmentDTO;
+    }
+
+    private static AppointmentDTO statusChange(Long id, AppointmentStatus status) {
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setId(id);
+        appointmentDTO.setStatus(status);
+        return appointmentDTO;
+    }
+}
@@ -0,0 +1,211 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.SlotOccupancy;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.SlotHoldRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.service.dto.AppointmentDTO;
+import com.mycompany.myapp.service.dto.ServiceDTO;
+import com.mycompany.myapp.service.dto.SlotHoldDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link SlotHoldResource} REST controller, with services of capacity 1.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class SlotHoldResourceIT {
+
+    private static final String HOLD_API_URL = "/api/slots/hold";
+    private static final String HOLD_API_URL_ID = HOLD_API_URL + "/{id}";
+
+    private static final Instant START_TIME = Instant.now().plus(3, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private SlotHoldRepository slotHoldRepository;
+
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restSlotHoldMockMvc;
+
+    private User user;
+
+    private Service service;
+
+    @BeforeEach
+    void initTest() {
+        user = UserResourceIT.createEntity();
+        em.persist(user);
+        service = ServiceResourceIT.createEntity();
+        em.persist(service);
+        em.flush();
+    }
+
+    @Test
+    void holdSlot() throws Exception {
+        Instant before = Instant.now();
+
+        SlotHoldDTO hold = hold(post(HOLD_API_URL));
+
+        assertThat(hold.getExpiresAt()).isAfterOrEqualTo(before.plus(SlotHoldDTO.DEFAULT_MINUTES, ChronoUnit.MINUTES));
+        assertThat(slotHoldRepository.findById(hold.getId())).hasValueSatisfying(saved -> assertThat(saved.getLogin()).isEqualTo("user"));
+        assertThat(booked()).isEqualTo(1);
+        restSlotHoldMockMvc
+            .perform(post(HOLD_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(slotHold())))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.conflicts[0]").value(START_TIME.toString()));
+    }
+
+    @Test
+    void holdSlotWithInvalidRange() throws Exception {
+        SlotHoldDTO slotHoldDTO = slotHold();
+        slotHoldDTO.setEndTime(START_TIME);
+
+        restSlotHoldMockMvc
+            .perform(post(HOLD_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(slotHoldDTO)))
+            .andExpect(status().isBadRequest());
+        assertThat(booked()).isZero();
+    }
+
+    @Test
+    void holdSlotForTooLong() throws Exception {
+        SlotHoldDTO slotHoldDTO = slotHold();
+        slotHoldDTO.setMinutes(SlotHoldDTO.MAX_MINUTES + 1);
+
+        restSlotHoldMockMvc
+            .perform(post(HOLD_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(slotHoldDTO)))
+            .andExpect(status().isBadRequest());
+        assertThat(booked()).isZero();
+    }
+
+    @Test
+    void holdTooManySlots() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            SlotHoldDTO slotHoldDTO = slotHold();
+            slotHoldDTO.setStartTime(START_TIME.plus(i + 1L, ChronoUnit.DAYS));
+            slotHoldDTO.setEndTime(slotHoldDTO.getStartTime().plus(1, ChronoUnit.HOURS));
+            restSlotHoldMockMvc
+                .perform(post(HOLD_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(slotHoldDTO)))
+                .andExpect(status().isCreated());
+        }
+
+        restSlotHoldMockMvc
+            .perform(post(HOLD_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(slotHold())))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.toomanyholds"));
+        assertThat(booked()).isZero();
+        hold(post(HOLD_API_URL).with(user("other")));
+    }
+
+    @Test
+    void bookHeldSlot() throws Exception {
+        SlotHoldDTO hold = hold(post(HOLD_API_URL));
+        AppointmentDTO appointmentDTO = appointment();
+        appointmentDTO.setHoldId(hold.getId());
+
+        restSlotHoldMockMvc
+            .perform(post("/api/appointments").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(appointmentDTO)))
+            .andExpect(status().isCreated());
+
+        assertThat(slotHoldRepository.existsById(hold.getId())).isFalse();
+        assertThat(booked()).isEqualTo(1);
+    }
+
+    @Test
+    void bookSlotHeldByAnotherUser() throws Exception {
+        SlotHoldDTO hold = hold(post(HOLD_API_URL).with(user("other")));
+        AppointmentDTO appointmentDTO = appointment();
+        appointmentDTO.setHoldId(hold.getId());
+
+        restSlotHoldMockMvc
+            .perform(post("/api/appointments").contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(appointmentDTO)))
+            .andExpect(status().isConflict());
+
+        assertThat(slotHoldRepository.existsById(hold.getId())).isTrue();
+    }
+
+    @Test
+    void releaseHold() throws Exception {
+        SlotHoldDTO hold = hold(post(HOLD_API_URL));
+
+        restSlotHoldMockMvc.perform(delete(HOLD_API_URL_ID, hold.getId()).with(user("other"))).andExpect(status().isNotFound());
+        restSlotHoldMockMvc.perform(delete(HOLD_API_URL_ID, hold.getId())).andExpect(status().isNoContent());
+        restSlotHoldMockMvc.perform(delete(HOLD_API_URL_ID, hold.getId())).andExpect(status().isNotFound());
+
+        assertThat(booked()).isZero();
+    }
+
+    private SlotHoldDTO hold(MockHttpServletRequestBuilder request) throws Exception {
+        byte[] body = restSlotHoldMockMvc
+            .perform(request.contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(slotHold())))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNumber())
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        return om.readValue(body, SlotHoldDTO.class);
+    }
+
+    private int booked() {
+        em.clear();
+        return slotOccupancyRepository
+            .findById(new SlotOccupancy.SlotId(service.getId(), START_TIME))
+            .map(SlotOccupancy::getBooked)
+            .orElse(0);
+    }
+
+    private SlotHoldDTO slotHold() {
+        SlotHoldDTO slotHoldDTO = new SlotHoldDTO();
+        slotHoldDTO.setServiceId(service.getId());
+        slotHoldDTO.setStartTime(START_TIME);
+        slotHoldDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        return slotHoldDTO;
+    }
+
+    private AppointmentDTO appointment() {
+        UserDTO userDTO = new UserDTO();
+        userDTO.setId(user.getId());
+        ServiceDTO serviceDTO = new ServiceDTO();
+        serviceDTO.setId(service.getId());
+        AppointmentDTO appointmentDTO = new AppointmentDTO();
+        appointmentDTO.setStartTime(START_TIME);
+        appointmentDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        appointmentDTO.setStatus(AppointmentStatus.REQUESTED);
+        appointmentDTO.setUser(userDTO);
+        appointmentDTO.setService(serviceDTO);
+        return appointmentDTO;
+    }
+}
@@ -0,0 +1,236 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Appointment;
+import com.mycompany.myapp.domain.Service;
+import com.mycompany.myapp.domain.SlotOccupancy;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.domain.WaitlistEntry;
+import com.mycompany.myapp.domain.enumeration.AppointmentStatus;
+import com.mycompany.myapp.repository.AppointmentRepository;
+import com.mycompany.myapp.repository.SlotOccupancyRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.repository.WaitlistEntryRepository;
+import com.mycompany.myapp.service.SlotOccupancyService;
+import com.mycompany.myapp.service.SlotOccupancyService.Slot;
+import com.mycompany.myapp.service.dto.WaitlistEntryDTO;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link WaitlistResource} REST controller, with a service of capacity 1 whose slot is taken.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+@Transactional
+class WaitlistResourceIT {
+
+    private static final String ENTITY_API_URL = "/api/waitlist";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+
+    private static final Instant START_TIME = Instant.now().plus(5, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private SlotOccupancyRepository slotOccupancyRepository;
+
+    @Autowired
+    private SlotOccupancyService slotOccupancyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MockMvc restWaitlistMockMvc;
+
+    private User booker;
+
+    private Service service;
+
+    private Appointment appointment;
+
+    @BeforeEach
+    void initTest() {
+        booker = UserResourceIT.createEntity();
+        em.persist(booker);
+        service = ServiceResourceIT.createEntity();
+        em.persist(service);
+        appointment = new Appointment()
+            .startTime(START_TIME)
+            .endTime(START_TIME.plus(1, ChronoUnit.HOURS))
+            .status(AppointmentStatus.SCHEDULED)
+            .user(booker)
+            .service(service);
+        em.persist(appointment);
+        em.flush();
+        slotOccupancyService.book(new Slot(service.getId(), START_TIME));
+    }
+
+    @Test
+    void joinWaitlist() throws Exception {
+        restWaitlistMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(waitlistEntry(5))))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNumber())
+            .andExpect(jsonPath("$.priority").value(0));
+
+        restWaitlistMockMvc
+            .perform(get(ENTITY_API_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].startTime").value(hasItem(START_TIME.toString())));
+        restWaitlistMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(waitlistEntry(null))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.alreadywaiting"));
+    }
+
+    @Test
+    void joinWaitlistWithPriority() throws Exception {
+        restWaitlistMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .with(user("admin").roles("ADMIN"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(waitlistEntry(5)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.priority").value(5));
+    }
+
+    @Test
+    void joinWaitlistOfAvailableSlot() throws Exception {
+        WaitlistEntryDTO waitlistEntryDTO = waitlistEntry(null);
+        waitlistEntryDTO.setStartTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        waitlistEntryDTO.setEndTime(START_TIME.plus(2, ChronoUnit.HOURS));
+
+        restWaitlistMockMvc
+            .perform(post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(waitlistEntryDTO)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.slotavailable"));
+    }
+
+    @Test
+    void cancellationPromotesFirstWaiter() throws Exception {
+        User admin = userRepository.findOneByLogin("admin").orElseThrow();
+        User user = userRepository.findOneByLogin("user").orElseThrow();
+        WaitlistEntry first = waitlistEntryRepository.save(entry(user, 0).createdDate(START_TIME.minus(2, ChronoUnit.DAYS)));
+        WaitlistEntry prioritized = waitlistEntryRepository.save(entry(admin, 1).createdDate(START_TIME.minus(1, ChronoUnit.DAYS)));
+        WaitlistEntry last = waitlistEntryRepository.save(entry(booker, 0).createdDate(START_TIME.minus(1, ChronoUnit.DAYS)));
+
+        cancel(appointment);
+
+        assertThat(waitlistEntryRepository.existsById(prioritized.getId())).isFalse();
+        assertThat(promoted()).extracting(promoted -> promoted.getUser().getLogin()).isEqualTo("admin");
+
+        cancel(promoted());
+
+        assertThat(waitlistEntryRepository.existsById(first.getId())).isFalse();
+        assertThat(waitlistEntryRepository.existsById(last.getId())).isTrue();
+        assertThat(promoted()).extracting(promoted -> promoted.getUser().getLogin()).isEqualTo("user");
+        assertThat(booked()).isEqualTo(1);
+    }
+
+    @Test
+    void deletionPromotesFirstWaiter() throws Exception {
+        WaitlistEntry entry = waitlistEntryRepository.save(entry(userRepository.findOneByLogin("user").orElseThrow(), 0));
+
+        restWaitlistMockMvc.perform(delete("/api/appointments/{id}", appointment.getId())).andExpect(status().isNoContent());
+
+        assertThat(waitlistEntryRepository.existsById(entry.getId())).isFalse();
+        assertThat(promoted()).extracting(promoted -> promoted.getUser().getLogin()).isEqualTo("user");
+        assertThat(booked()).isEqualTo(1);
+    }
+
+    @Test
+    void leaveWaitlist() throws Exception {
+        WaitlistEntry entry = waitlistEntryRepository.save(entry(userRepository.findOneByLogin("user").orElseThrow(), 0));
+
+        restWaitlistMockMvc.perform(delete(ENTITY_API_URL_ID, entry.getId()).with(user("admin"))).andExpect(status().isNotFound());
+        restWaitlistMockMvc.perform(delete(ENTITY_API_URL_ID, entry.getId())).andExpect(status().isNoContent());
+        restWaitlistMockMvc.perform(delete(ENTITY_API_URL_ID, entry.getId())).andExpect(status().isNotFound());
+
+        cancel(appointment);
+
+        assertThat(booked()).isZero();
+    }
+
+    private void cancel(Appointment cancelled) throws Exception {
+        restWaitlistMockMvc
+            .perform(
+                patch("/api/appointments/{id}", cancelled.getId())
+                    .contentType("application/merge-patch+json")
+                    .content("{\"id\":" + cancelled.getId() + ",\"status\":\"CANCELLED\"}")
+            )
+            .andExpect(status().isOk());
+        em.flush();
+        em.clear();
+    }
+
+    private Appointment promoted() {
+        return appointmentRepository
+            .findAll()
+            .stream()
+            .filter(candidate -> service.equals(candidate.getService()) && candidate.getStatus() == AppointmentStatus.REQUESTED)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private int booked() {
+        em.flush();
+        em.clear();
+        return slotOccupancyRepository
+            .findById(new SlotOccupancy.SlotId(service.getId(), START_TIME))
+            .map(SlotOccupancy::getBooked)
+            .orElse(0);
+    }
+
+    private WaitlistEntry entry(User user, int priority) {
+        return new WaitlistEntry()
+            .serviceId(service.getId())
+            .startTime(START_TIME)
+            .endTime(START_TIME.plus(1, ChronoUnit.HOURS))
+            .user(user)
+            .priority(priority);
+    }
+
+    private WaitlistEntryDTO waitlistEntry(Integer priority) {
+        WaitlistEntryDTO waitlistEntryDTO = new WaitlistEntryDTO();
+        waitlistEntryDTO.setServiceId(service.getId());
+        waitlistEntryDTO.setStartTime(START_TIME);
+        waitlistEntryDTO.setEndTime(START_TIME.plus(1, ChronoUnit.HOURS));
+        waitlistEntryDTO.setPriority(priority);
+        return waitlistEntryDTO;
+    }
+}